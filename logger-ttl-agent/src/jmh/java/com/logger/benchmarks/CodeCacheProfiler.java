@@ -0,0 +1,44 @@
+package com.logger.benchmarks;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Reports the code cache used by the benchmark JVM at the end of each iteration.
+ */
+public class CodeCacheProfiler implements InternalProfiler {
+
+    @Override
+    public String getDescription() {
+        return "Code cache usage of the benchmark JVM";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams,
+                                                       IterationParams iterationParams,
+                                                       IterationResult result) {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            // "Code Cache" without segmented code cache, "CodeHeap '...'" with it
+            if (pool.getName().startsWith("CodeHeap") || pool.getName().equals("Code Cache")) {
+                used += pool.getUsage().getUsed();
+            }
+        }
+        return Collections.singletonList(
+            new ScalarResult("·codecache.used", used / 1024.0, "KB", AggregationPolicy.MAX));
+    }
+}
@@ -0,0 +1,60 @@
+package com.logger.benchmarks;
+
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.LogTTL;
+import com.logger.ttl.TTLLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-call cost of expired statements, which the agent removes from the bytecode.
+ *
+ * <p>The class carries an expired DEBUG TTL, so {@code expiredDebug} and {@code expiredSupplier}
+ * never log, while {@code liveInfo} logs to a Log4j2 Null appender and is not touched by the
+ * agent. Run with {@link ExpiredCallBenchmarkRunner} to compare with and without the agent.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+@LogTTL(start = "2020-01-01T00:00:00Z", ttlDays = 1, levels = {LogLevel.DEBUG})
+public class ExpiredCallBenchmark {
+
+    private static final TTLLogger logger = TTLLogger.getLogger(ExpiredCallBenchmark.class);
+
+    private long value;
+
+    @Benchmark
+    public long baseline() {
+        return ++value;
+    }
+
+    @Benchmark
+    public long expiredDebug() {
+        logger.debug("Processing {}", value);
+        return ++value;
+    }
+
+    @Benchmark
+    public long expiredSupplier() {
+        logger.debug(() -> "Processing " + value);
+        return ++value;
+    }
+
+    @Benchmark
+    public long liveInfo() {
+        logger.info("Processing {}", value);
+        return ++value;
+    }
+}
@@ -0,0 +1,73 @@
+package com.logger.benchmarks;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Runs {@link ExpiredCallBenchmark} without and with the agent and the {@link CodeCacheProfiler},
+ * then prints both results side by side.
+ *
+ * <p>The agent jar is taken from the {@code agent.jar} system property, which the benchmarks
+ * profile sets to the packaged jar:</p>
+ * <pre>
+ * mvn -P benchmarks package exec:exec -DskipTests
+ * </pre>
+ */
+public final class ExpiredCallBenchmarkRunner {
+
+    // Replaces the arguments of @Fork, so the logging configuration is repeated here
+    private static final String LOG_CONFIG = "-Dlog4j2.configurationFile=log4j2-benchmark.xml";
+
+    private ExpiredCallBenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        String agentJar = System.getProperty("agent.jar");
+        if (agentJar == null || !new File(agentJar).isFile()) {
+            throw new IllegalStateException("Set -Dagent.jar to the packaged logger-ttl-agent jar");
+        }
+
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        Collection<RunResult> without = run(commandLine, LOG_CONFIG);
+        Collection<RunResult> with = run(commandLine, LOG_CONFIG, "-javaagent:" + agentJar);
+
+        System.out.println();
+        System.out.printf("%-20s %14s %14s %16s %16s%n",
+            "Benchmark", "ns/op", "ns/op (agent)", "code cache KB", "(agent)");
+        List<RunResult> agentResults = new ArrayList<>(with);
+        int i = 0;
+        for (RunResult result : without) {
+            RunResult agent = agentResults.get(i++);
+            System.out.printf("%-20s %14.3f %14.3f %16.0f %16.0f%n",
+                result.getParams().getBenchmark().replaceAll(".*\\.", ""),
+                result.getPrimaryResult().getScore(),
+                agent.getPrimaryResult().getScore(),
+                codeCache(result),
+                codeCache(agent));
+        }
+    }
+
+    private static Collection<RunResult> run(CommandLineOptions commandLine, String... jvmArgs)
+            throws RunnerException {
+        OptionsBuilder options = new OptionsBuilder();
+        options.parent(commandLine)
+            .include(ExpiredCallBenchmark.class.getName())
+            .addProfiler(CodeCacheProfiler.class)
+            .jvmArgsAppend(jvmArgs);
+        return new Runner(options.build()).run();
+    }
+
+    private static double codeCache(RunResult result) {
+        org.openjdk.jmh.results.Result<?> codeCache = result.getSecondaryResults().get("·codecache.used");
+        return codeCache != null ? codeCache.getScore() : Double.NaN;
+    }
+}
@@ -0,0 +1,517 @@
+package com.logger.ttl.agent;
+
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.TTLConfig;
+import com.logger.ttl.TTLRules;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.AnnotationNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.FieldNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.analysis.Analyzer;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.SourceInterpreter;
+import org.objectweb.asm.tree.analysis.SourceValue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Removes TTLLogger statements that can never log again from compiled classes.
+ *
+ * <p>A statement is removed when the LogTTL annotation that applies to it, after the runtime
+ * rules of {@link com.logger.ttl.TTLManager} are applied, affects its level, has expired and has
+ * no later transition. The call is replaced by instructions that discard its receiver and
+ * arguments, so arguments are still evaluated exactly as before but nothing is logged.</p>
+ *
+ * <p>The rewriter only handles cases it can resolve from the class file alone and leaves a
+ * class untouched otherwise:</p>
+ * <ul>
+ *   <li>classes extending another class than {@code Object}, since inherited fields and
+ *       methods may carry annotations</li>
+ *   <li>classes with annotated fields, since field annotations depend on the logger type</li>
+ *   <li>methods without an own annotation in classes without one, since interfaces may carry it</li>
+ *   <li>overloaded methods whose annotations differ</li>
+ *   <li>explicit TTL overloads such as {@code debug(msg, start, ttlDays, level)}</li>
+ *   <li>calls on loggers not known to be created for a class, since loggers created by name
+ *       always log; only final fields of the class set from {@code getLogger(SomeClass.class)}
+ *       of TTLLogger or TTLLoggerFactory, and the result of such a call, are known</li>
+ * </ul>
+ */
+public final class ExpiredCallRewriter {
+
+    static final String LOGGER_OWNER = "com/logger/ttl/TTLLogger";
+
+    private static final String FACTORY_OWNER = "com/logger/ttl/TTLLoggerFactory";
+    private static final String LOGGER_DESC = "L" + LOGGER_OWNER + ";";
+
+    private static final String LOG_TTL_DESC = "Lcom/logger/ttl/LogTTL;";
+    private static final String EXPLICIT_PREFIX = "(Ljava/lang/String;Ljava/lang/String;I";
+    private static final byte[] LOGGER_OWNER_BYTES = LOGGER_OWNER.getBytes(StandardCharsets.UTF_8);
+
+    // Marks overloads whose annotations differ
+    private static final TTLConfig AMBIGUOUS = new TTLConfig("", -1, new LogLevel[0]);
+
+    private final TTLRules rules;
+    private final long nowMillis;
+
+    /**
+     * Creates a rewriter for a rules snapshot and a point in time.
+     *
+     * @param rules the runtime rules to apply to annotations
+     * @param nowMillis the current time in epoch milliseconds
+     */
+    public ExpiredCallRewriter(TTLRules rules, long nowMillis) {
+        this.rules = rules;
+        this.nowMillis = nowMillis;
+    }
+
+    /**
+     * Rewrites a class file.
+     *
+     * @param classfile the class file bytes
+     * @param type the loaded class when it is being redefined, or null when it is not loaded yet
+     * @return the result, never null
+     */
+    public Result rewrite(byte[] classfile, Class<?> type) {
+        if (!referencesLogger(classfile)) {
+            return Result.UNCHANGED;
+        }
+
+        ClassNode node = new ClassNode();
+        new ClassReader(classfile).accept(node, 0);
+        if (!"java/lang/Object".equals(node.superName) || hasAnnotatedField(node)) {
+            return new Result(node.name, true, null, Collections.emptyList(), Long.MAX_VALUE);
+        }
+
+        TTLConfig classConfig = config(node.visibleAnnotations);
+        Map<String, TTLConfig> methodConfigs = methodConfigs(node);
+        Set<String> boundFields = null;
+        List<Removal> removals = new ArrayList<>();
+        long nextTransition = Long.MAX_VALUE;
+
+        for (MethodNode method : node.methods) {
+            if (method.instructions.size() == 0) {
+                continue;
+            }
+            TTLConfig annotated = methodConfigs.containsKey(method.name) ? methodConfigs.get(method.name) : classConfig;
+            if (annotated == null || annotated == AMBIGUOUS) {
+                continue;
+            }
+            TTLConfig config = effective(type, method.name, annotated);
+
+            int line = -1;
+            Frame<SourceValue>[] frames = null;
+            List<MethodInsnNode> expired = new ArrayList<>();
+            for (AbstractInsnNode insn = method.instructions.getFirst(); insn != null; insn = insn.getNext()) {
+                if (insn instanceof LineNumberNode) {
+                    line = ((LineNumberNode) insn).line;
+                }
+                LogLevel level = loggedLevel(insn);
+                if (level != null && config.isLevelAffected(level)) {
+                    long transition = config.nextTransition(nowMillis);
+                    if (config.isWithinTTL(nowMillis) || transition != Long.MAX_VALUE) {
+                        nextTransition = Math.min(nextTransition, transition);
+                        continue;
+                    }
+                    if (boundFields == null) {
+                        boundFields = classBoundFields(node);
+                    }
+                    if (frames == null) {
+                        frames = analyze(node, method);
+                    }
+                    // Statements of loggers created by name always log
+                    if (isClassBound(method, frames, insn, boundFields)) {
+                        expired.add((MethodInsnNode) insn);
+                        removals.add(new Removal(node.name.replace('/', '.'), method.name, level, line, config));
+                    }
+                }
+            }
+            // Removed once the method is scanned, the frames are indexed by instruction
+            for (MethodInsnNode call : expired) {
+                removeCall(method.instructions, call);
+            }
+        }
+
+        byte[] rewritten = null;
+        if (!removals.isEmpty()) {
+            // Stack map frames stay valid, the replaced call left the same stack behind
+            ClassWriter writer = new ClassWriter(0);
+            node.accept(writer);
+            rewritten = writer.toByteArray();
+        }
+        return new Result(node.name, true, rewritten, removals, nextTransition);
+    }
+
+    private TTLConfig effective(Class<?> type, String methodName, TTLConfig annotated) {
+        if (type == null) {
+            // Overrides are keyed by class, none can exist before the class is defined
+            return rules.isGlobalBypass() ? TTLConfig.defaultConfig() : rules.applyGlobalExtension(annotated);
+        }
+        return rules.apply(type, methodName, null, annotated);
+    }
+
+    /**
+     * Gets the level of a TTL-gated TTLLogger call, or null if the instruction is none
+     */
+    private static LogLevel loggedLevel(AbstractInsnNode insn) {
+        if (insn.getOpcode() != Opcodes.INVOKEVIRTUAL) {
+            return null;
+        }
+        MethodInsnNode call = (MethodInsnNode) insn;
+        if (!LOGGER_OWNER.equals(call.owner) || call.desc.startsWith(EXPLICIT_PREFIX)
+                || !call.desc.endsWith(")V")) {
+            return null;
+        }
+        switch (call.name) {
+            case "trace": return LogLevel.TRACE;
+            case "debug": return LogLevel.DEBUG;
+            case "info": return LogLevel.INFO;
+            case "warn": return LogLevel.WARN;
+            case "error": return LogLevel.ERROR;
+            default: return null;
+        }
+    }
+
+    /**
+     * Checks if the receiver of a logger call is a logger created for a class
+     */
+    private static boolean isClassBound(MethodNode method, Frame<SourceValue>[] frames, AbstractInsnNode insn,
+                                        Set<String> boundFields) {
+        Frame<SourceValue> frame = frames[method.instructions.indexOf(insn)];
+        if (frame == null) {
+            return false;
+        }
+        int arguments = Type.getArgumentTypes(((MethodInsnNode) insn).desc).length;
+        SourceValue receiver = frame.getStack(frame.getStackSize() - arguments - 1);
+        for (AbstractInsnNode source : receiver.insns) {
+            if (source instanceof FieldInsnNode) {
+                FieldInsnNode field = (FieldInsnNode) source;
+                if (source.getOpcode() == Opcodes.GETFIELD || source.getOpcode() == Opcodes.GETSTATIC) {
+                    if (boundFields.contains(field.owner + '.' + field.name)) {
+                        continue;
+                    }
+                }
+            } else if (isClassBoundFactory(method, frames, source)) {
+                continue;
+            }
+            return false;
+        }
+        return !receiver.insns.isEmpty();
+    }
+
+    /**
+     * Gets the final TTLLogger fields of a class that are only ever set to loggers created for a class
+     */
+    private static Set<String> classBoundFields(ClassNode node) {
+        Set<String> candidates = new HashSet<>();
+        for (FieldNode field : node.fields) {
+            // Final fields can only be set by the class itself
+            if ((field.access & Opcodes.ACC_FINAL) != 0 && LOGGER_DESC.equals(field.desc)) {
+                candidates.add(node.name + '.' + field.name);
+            }
+        }
+        Set<String> bound = new HashSet<>(candidates);
+        for (MethodNode method : node.methods) {
+            Frame<SourceValue>[] frames = null;
+            for (AbstractInsnNode insn = method.instructions.getFirst(); insn != null && !bound.isEmpty();
+                 insn = insn.getNext()) {
+                if (insn.getOpcode() != Opcodes.PUTFIELD && insn.getOpcode() != Opcodes.PUTSTATIC) {
+                    continue;
+                }
+                FieldInsnNode put = (FieldInsnNode) insn;
+                String key = put.owner + '.' + put.name;
+                if (!bound.contains(key)) {
+                    continue;
+                }
+                if (frames == null) {
+                    frames = analyze(node, method);
+                }
+                Frame<SourceValue> frame = frames[method.instructions.indexOf(insn)];
+                if (frame == null || !isClassBoundValue(method, frames, frame.getStack(frame.getStackSize() - 1))) {
+                    bound.remove(key);
+                }
+            }
+        }
+        return bound;
+    }
+
+    private static boolean isClassBoundValue(MethodNode method, Frame<SourceValue>[] frames, SourceValue value) {
+        for (AbstractInsnNode source : value.insns) {
+            if (!isClassBoundFactory(method, frames, source)) {
+                return false;
+            }
+        }
+        return !value.insns.isEmpty();
+    }
+
+    /**
+     * Checks if an instruction is a {@code getLogger(Class...)} call of TTLLogger or TTLLoggerFactory
+     * with a class literal
+     */
+    private static boolean isClassBoundFactory(MethodNode method, Frame<SourceValue>[] frames, AbstractInsnNode insn) {
+        if (insn.getOpcode() != Opcodes.INVOKESTATIC) {
+            return false;
+        }
+        MethodInsnNode call = (MethodInsnNode) insn;
+        if (!(LOGGER_OWNER.equals(call.owner) || FACTORY_OWNER.equals(call.owner))
+                || !"getLogger".equals(call.name) || !call.desc.startsWith("(Ljava/lang/Class;")) {
+            return false;
+        }
+        Frame<SourceValue> frame = frames[method.instructions.indexOf(insn)];
+        if (frame == null) {
+            return false;
+        }
+        int arguments = Type.getArgumentTypes(call.desc).length;
+        SourceValue type = frame.getStack(frame.getStackSize() - arguments);
+        for (AbstractInsnNode source : type.insns) {
+            if (!(source instanceof LdcInsnNode) || !(((LdcInsnNode) source).cst instanceof Type)) {
+                return false;
+            }
+        }
+        return !type.insns.isEmpty();
+    }
+
+    /**
+     * Gets the frames of a method with the instructions that produced each value, no frames if
+     * the method cannot be analyzed
+     */
+    @SuppressWarnings("unchecked")
+    private static Frame<SourceValue>[] analyze(ClassNode node, MethodNode method) {
+        try {
+            return new Analyzer<>(new SourceInterpreter()).analyze(node.name, method);
+        } catch (AnalyzerException e) {
+            return (Frame<SourceValue>[]) new Frame<?>[method.instructions.size()];
+        }
+    }
+
+    private static void removeCall(InsnList instructions, MethodInsnNode call) {
+        InsnList pops = new InsnList();
+        Type[] arguments = Type.getArgumentTypes(call.desc);
+        for (int i = arguments.length - 1; i >= 0; i--) {
+            pops.add(new InsnNode(arguments[i].getSize() == 2 ? Opcodes.POP2 : Opcodes.POP));
+        }
+        // The logger itself
+        pops.add(new InsnNode(Opcodes.POP));
+        instructions.insert(call, pops);
+        instructions.remove(call);
+    }
+
+    /**
+     * Gets the annotation of each method name, like the runtime lookup the first annotated
+     * method of a name applies to all methods of that name
+     */
+    private static Map<String, TTLConfig> methodConfigs(ClassNode node) {
+        Map<String, TTLConfig> configs = new HashMap<>();
+        for (MethodNode method : node.methods) {
+            TTLConfig config = config(method.visibleAnnotations);
+            if (config != null) {
+                configs.merge(method.name, config, (a, b) -> a.equals(b) ? a : AMBIGUOUS);
+            }
+        }
+        return configs;
+    }
+
+    private static boolean hasAnnotatedField(ClassNode node) {
+        for (FieldNode field : node.fields) {
+            if (config(field.visibleAnnotations) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads a LogTTL annotation from class file annotations
+     */
+    private static TTLConfig config(List<AnnotationNode> annotations) {
+        if (annotations == null) {
+            return null;
+        }
+        for (AnnotationNode annotation : annotations) {
+            if (!LOG_TTL_DESC.equals(annotation.desc)) {
+                continue;
+            }
+            String start = "";
+            int ttlDays = -1;
+            List<LogLevel> levels = new ArrayList<>();
+            List<Object> values = annotation.values != null ? annotation.values : Collections.emptyList();
+            for (int i = 0; i + 1 < values.size(); i += 2) {
+                String name = (String) values.get(i);
+                Object value = values.get(i + 1);
+                if ("start".equals(name)) {
+                    start = (String) value;
+                } else if ("ttlDays".equals(name)) {
+                    ttlDays = (Integer) value;
+                } else if ("levels".equals(name)) {
+                    for (Object level : (List<?>) value) {
+                        levels.add(LogLevel.valueOf(((String[]) level)[1]));
+                    }
+                }
+            }
+            return TTLConfig.of(start, ttlDays, levels.toArray(new LogLevel[0]));
+        }
+        return null;
+    }
+
+    /**
+     * Checks the constant pool for the logger class without parsing the class file
+     */
+    private static boolean referencesLogger(byte[] classfile) {
+        byte first = LOGGER_OWNER_BYTES[0];
+        int last = classfile.length - LOGGER_OWNER_BYTES.length;
+        outer:
+        for (int i = 0; i <= last; i++) {
+            if (classfile[i] != first) {
+                continue;
+            }
+            for (int j = 1; j < LOGGER_OWNER_BYTES.length; j++) {
+                if (classfile[i + j] != LOGGER_OWNER_BYTES[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Outcome of rewriting a single class
+     */
+    public static final class Result {
+        static final Result UNCHANGED = new Result(null, false, null, Collections.emptyList(), Long.MAX_VALUE);
+
+        private final String internalName;
+        private final boolean usesLogger;
+        private final byte[] bytes;
+        private final List<Removal> removals;
+        private final long nextTransition;
+
+        Result(String internalName, boolean usesLogger, byte[] bytes, List<Removal> removals, long nextTransition) {
+            this.internalName = internalName;
+            this.usesLogger = usesLogger;
+            this.bytes = bytes;
+            this.removals = Collections.unmodifiableList(removals);
+            this.nextTransition = nextTransition;
+        }
+
+        /**
+         * Get the internal name of the class, or null if the class does not use TTLLogger
+         */
+        public String getInternalName() {
+            return internalName;
+        }
+
+        /**
+         * Check if the class calls TTLLogger, and may therefore change on a later rewrite
+         */
+        public boolean usesLogger() {
+            return usesLogger;
+        }
+
+        /**
+         * Check if any statement was removed
+         */
+        public boolean isChanged() {
+            return bytes != null;
+        }
+
+        /**
+         * Get the rewritten class file, or null if nothing was removed
+         */
+        public byte[] getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Get the removed statements
+         */
+        public List<Removal> getRemovals() {
+            return removals;
+        }
+
+        /**
+         * Get the earliest instant at which a statement kept in the class changes state,
+         * or {@link Long#MAX_VALUE} if none
+         */
+        public long getNextTransition() {
+            return nextTransition;
+        }
+    }
+
+    /**
+     * A removed log statement
+     */
+    public static final class Removal {
+        private final String className;
+        private final String methodName;
+        private final LogLevel level;
+        private final int line;
+        private final TTLConfig config;
+
+        Removal(String className, String methodName, LogLevel level, int line, TTLConfig config) {
+            this.className = className;
+            this.methodName = methodName;
+            this.level = level;
+            this.line = line;
+            this.config = config;
+        }
+
+        /**
+         * Get the binary name of the class containing the statement
+         */
+        public String getClassName() {
+            return className;
+        }
+
+        /**
+         * Get the name of the method containing the statement
+         */
+        public String getMethodName() {
+            return methodName;
+        }
+
+        /**
+         * Get the level of the statement
+         */
+        public LogLevel getLevel() {
+            return level;
+        }
+
+        /**
+         * Get the source line of the statement, or -1 if the class has no line numbers
+         */
+        public int getLine() {
+            return line;
+        }
+
+        /**
+         * Get the expired configuration that applied to the statement
+         */
+        public TTLConfig getConfig() {
+            return config;
+        }
+
+        @Override
+        public String toString() {
+            return className + "." + methodName + (line >= 0 ? ":" + line : "") + " " + level + " " + config;
+        }
+    }
+}
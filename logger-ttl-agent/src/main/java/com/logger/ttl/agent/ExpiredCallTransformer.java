@@ -0,0 +1,159 @@
+package com.logger.ttl.agent;
+
+import com.logger.ttl.TTLClock;
+import com.logger.ttl.TTLManager;
+import com.logger.ttl.TTLRules;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.lang.instrument.Instrumentation;
+import java.lang.instrument.UnmodifiableClassException;
+import java.security.ProtectionDomain;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Class file transformer removing expired TTLLogger statements with {@link ExpiredCallRewriter}.
+ *
+ * <p>Every class calling TTLLogger is remembered. When the rules of {@link TTLManager} change,
+ * or when a statement kept in a class reaches its expiry, the remembered classes are
+ * retransformed from their original class files, so statements re-enabled by an override are
+ * restored and newly expired ones are removed.</p>
+ */
+public final class ExpiredCallTransformer implements ClassFileTransformer {
+
+    private static final String[] SKIPPED_PACKAGES = {
+        "java/", "javax/", "jdk/", "sun/", "com/sun/", "com/logger/ttl"
+    };
+
+    private final Instrumentation instrumentation;
+    private final Set<String> loggingClasses = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean retransformPending = new AtomicBoolean();
+    private final AtomicLong scheduledTransition = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong removedStatements = new AtomicLong();
+    private final Consumer<TTLRules> rulesListener = rules -> requestRetransform();
+
+    ExpiredCallTransformer(Instrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ttl-agent-retransform");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Registers the transformer and starts following rule changes
+     */
+    void install() {
+        instrumentation.addTransformer(this, true);
+        TTLManager.getInstance().addRulesListener(rulesListener);
+    }
+
+    /**
+     * Unregisters the transformer, classes keep their current code
+     */
+    void uninstall() {
+        TTLManager.getInstance().removeRulesListener(rulesListener);
+        instrumentation.removeTransformer(this);
+        executor.shutdownNow();
+    }
+
+    @Override
+    public byte[] transform(ClassLoader loader, String className, Class<?> classBeingRedefined,
+                            ProtectionDomain protectionDomain, byte[] classfileBuffer) {
+        if (className == null || loader == null || isSkipped(className)) {
+            return null;
+        }
+        try {
+            long now = TTLClock.current().millis();
+            ExpiredCallRewriter.Result result = new ExpiredCallRewriter(TTLManager.getInstance().getRules(), now)
+                .rewrite(classfileBuffer, classBeingRedefined);
+            if (!result.usesLogger()) {
+                return null;
+            }
+            loggingClasses.add(className.replace('/', '.'));
+            scheduleAt(result.getNextTransition(), now);
+            removedStatements.addAndGet(result.getRemovals().size());
+            return result.getBytes();
+        } catch (Throwable e) {
+            // Never break class loading, the class keeps its runtime TTL checks
+            System.err.println("Error rewriting " + className + " for TTL: " + e);
+            return null;
+        }
+    }
+
+    /**
+     * Get the number of statements removed so far, counting every retransformation
+     */
+    long getRemovedStatements() {
+        return removedStatements.get();
+    }
+
+    /**
+     * Get the names of the classes calling TTLLogger
+     */
+    Set<String> getLoggingClasses() {
+        return loggingClasses;
+    }
+
+    /**
+     * Retransforms all classes calling TTLLogger on the agent thread, coalescing requests
+     */
+    void requestRetransform() {
+        if (retransformPending.compareAndSet(false, true)) {
+            executor.execute(this::retransform);
+        }
+    }
+
+    private void retransform() {
+        retransformPending.set(false);
+        scheduledTransition.set(Long.MAX_VALUE);
+        List<Class<?>> classes = new ArrayList<>();
+        for (Class<?> type : instrumentation.getAllLoadedClasses()) {
+            if (loggingClasses.contains(type.getName()) && instrumentation.isModifiableClass(type)) {
+                classes.add(type);
+            }
+        }
+        if (classes.isEmpty()) {
+            return;
+        }
+        try {
+            instrumentation.retransformClasses(classes.toArray(new Class<?>[0]));
+        } catch (UnmodifiableClassException | RuntimeException | LinkageError e) {
+            System.err.println("Error retransforming classes for TTL: " + e);
+        }
+    }
+
+    private void scheduleAt(long transition, long now) {
+        long current;
+        do {
+            current = scheduledTransition.get();
+            if (transition >= current) {
+                return;
+            }
+        } while (!scheduledTransition.compareAndSet(current, transition));
+        try {
+            executor.schedule(this::requestRetransform, Math.max(0, transition - now), TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            // Executor shut down
+        }
+    }
+
+    private static boolean isSkipped(String className) {
+        for (String prefix : SKIPPED_PACKAGES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
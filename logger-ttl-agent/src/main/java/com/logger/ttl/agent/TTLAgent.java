@@ -0,0 +1,68 @@
+package com.logger.ttl.agent;
+
+import java.lang.instrument.Instrumentation;
+
+/**
+ * Java agent removing expired TTLLogger statements when classes are loaded.
+ *
+ * <p>With the agent, an expired statement costs nothing: its call is gone from the bytecode,
+ * so neither the caller lookup nor the TTL check runs and the JIT compiles smaller methods.
+ * Statements re-enabled by a {@link com.logger.ttl.TTLManager} override are restored by
+ * retransforming the affected classes.</p>
+ *
+ * <pre>
+ * java -javaagent:logger-ttl-agent-1.0.0.jar -jar application.jar
+ * </pre>
+ *
+ * <p>The logger-ttl library must be on the application class path. The agent can also be
+ * attached to a running JVM, in which case only classes loaded afterwards, or retransformed
+ * after a rules change, are rewritten.</p>
+ */
+public final class TTLAgent {
+
+    private static ExpiredCallTransformer transformer;
+
+    private TTLAgent() {
+    }
+
+    /**
+     * Entry point when started with {@code -javaagent}
+     */
+    public static void premain(String args, Instrumentation instrumentation) {
+        install(instrumentation);
+    }
+
+    /**
+     * Entry point when attached to a running JVM
+     */
+    public static void agentmain(String args, Instrumentation instrumentation) {
+        install(instrumentation);
+    }
+
+    /**
+     * Install the agent, subsequent calls have no effect
+     */
+    static synchronized void install(Instrumentation instrumentation) {
+        if (transformer != null) {
+            return;
+        }
+        if (!instrumentation.isRetransformClassesSupported()) {
+            System.err.println("TTL agent disabled: the JVM does not support retransforming classes");
+            return;
+        }
+        try {
+            ExpiredCallTransformer installed = new ExpiredCallTransformer(instrumentation);
+            installed.install();
+            transformer = installed;
+        } catch (LinkageError e) {
+            System.err.println("TTL agent disabled: logger-ttl is not on the class path (" + e + ")");
+        }
+    }
+
+    /**
+     * Get the installed transformer, or null if the agent is not active
+     */
+    static synchronized ExpiredCallTransformer getTransformer() {
+        return transformer;
+    }
+}
@@ -0,0 +1,26 @@
+package com.logger.samples;
+
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.LogTTL;
+import com.logger.ttl.TTLLogger;
+
+/**
+ * Service with an expired DEBUG TTL, outside com.logger.ttl so it is not skipped as a caller
+ */
+@LogTTL(start = "2020-01-01T00:00:00Z", ttlDays = 1, levels = {LogLevel.DEBUG})
+public class ExpiredService {
+
+    private static final TTLLogger logger = TTLLogger.getLogger(ExpiredService.class);
+
+    public long process(long value) {
+        logger.debug("Processing {}", value);
+        logger.debug(() -> "Processing " + value);
+        logger.info("Processed {} in {} ms", value, 1L);
+        return value * 2;
+    }
+
+    @LogTTL(ttlDays = -1)
+    public void keep() {
+        logger.debug("Kept");
+    }
+}
@@ -0,0 +1,33 @@
+package com.logger.samples;
+
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.LogTTL;
+import com.logger.ttl.TTLLogger;
+import com.logger.ttl.TTLLoggerFactory;
+
+/**
+ * Service with an expired DEBUG TTL whose loggers are not all created for a class
+ */
+@LogTTL(start = "2020-01-01T00:00:00Z", ttlDays = 1, levels = {LogLevel.DEBUG})
+public class NamedLoggerService {
+
+    private static final TTLLogger named = TTLLogger.getLogger("audit");
+    private static final TTLLogger bound = TTLLoggerFactory.getLogger(NamedLoggerService.class);
+
+    private final TTLLogger injected;
+
+    public NamedLoggerService() {
+        this(TTLLogger.getLogger("injected"));
+    }
+
+    public NamedLoggerService(TTLLogger injected) {
+        this.injected = injected;
+    }
+
+    public void process() {
+        named.debug("Named");
+        injected.debug("Injected");
+        bound.debug("Bound");
+        TTLLogger.getLogger(NamedLoggerService.class).debug("Direct");
+    }
+}
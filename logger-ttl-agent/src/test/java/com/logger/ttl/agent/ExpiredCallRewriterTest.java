@@ -0,0 +1,101 @@
+package com.logger.ttl.agent;
+
+import com.logger.samples.ExpiredService;
+import com.logger.samples.NamedLoggerService;
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.TTLOverride;
+import com.logger.ttl.TTLRules;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+
+/**
+ * Tests for ExpiredCallRewriter
+ */
+@DisplayName("ExpiredCallRewriter")
+class ExpiredCallRewriterTest {
+
+    private static final long NOW = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    @Test
+    @DisplayName("Expired statements should be removed and the class should still run")
+    void testExpiredStatementsAreRemoved() throws Exception {
+        ExpiredCallRewriter.Result result = new ExpiredCallRewriter(TTLRules.EMPTY, NOW)
+            .rewrite(classfile(ExpiredService.class), null);
+
+        assertTrue(result.isChanged());
+        assertEquals(2, result.getRemovals().size());
+        assertTrue(result.getRemovals().stream().allMatch(removal -> removal.getLevel() == LogLevel.DEBUG
+            && removal.getMethodName().equals("process") && removal.getLine() > 0));
+        assertEquals(Long.MAX_VALUE, result.getNextTransition(), "Remaining statements never change");
+
+        // The rewritten class passes verification and keeps its behavior
+        Class<?> rewritten = new DefiningLoader().define(ExpiredService.class.getName(), result.getBytes());
+        Object service = rewritten.getConstructor().newInstance();
+        assertEquals(42L, rewritten.getMethod("process", long.class).invoke(service, 21L));
+        rewritten.getMethod("keep").invoke(service);
+    }
+
+    @Test
+    @DisplayName("Runtime overrides should keep statements")
+    void testOverridesKeepStatements() throws IOException {
+        byte[] classfile = classfile(ExpiredService.class);
+
+        assertFalse(new ExpiredCallRewriter(TTLRules.EMPTY.withGlobalBypass(true), NOW)
+            .rewrite(classfile, null).isChanged());
+
+        TTLRules extended = TTLRules.EMPTY.withMethodOverride(ExpiredService.class, "process",
+            TTLOverride.extend(3650));
+        ExpiredCallRewriter.Result result = new ExpiredCallRewriter(extended, NOW)
+            .rewrite(classfile, ExpiredService.class);
+        assertFalse(result.isChanged());
+        assertTrue(result.usesLogger());
+        assertTrue(result.getNextTransition() > NOW && result.getNextTransition() < Long.MAX_VALUE,
+            "Extended statements expire later");
+    }
+
+    @Test
+    @DisplayName("Only statements of loggers created for a class should be removed")
+    void testNamedLoggersAreKept() throws Exception {
+        ExpiredCallRewriter.Result result = new ExpiredCallRewriter(TTLRules.EMPTY, NOW)
+            .rewrite(classfile(NamedLoggerService.class), null);
+
+        // The named and injected loggers may not be bound to a class, and always log then
+        assertEquals(2, result.getRemovals().size());
+        assertTrue(result.getRemovals().stream().allMatch(removal -> removal.getLine() > 0));
+
+        Class<?> rewritten = new DefiningLoader().define(NamedLoggerService.class.getName(), result.getBytes());
+        Object service = rewritten.getConstructor().newInstance();
+        rewritten.getMethod("process").invoke(service);
+    }
+
+    @Test
+    @DisplayName("Classes without TTLLogger calls should be ignored")
+    void testUnrelatedClassesAreIgnored() throws IOException {
+        ExpiredCallRewriter.Result result = new ExpiredCallRewriter(TTLRules.EMPTY, NOW)
+            .rewrite(classfile(ExpiredCallRewriterTest.class), null);
+        assertFalse(result.usesLogger());
+        assertFalse(result.isChanged());
+        assertTrue(result.getRemovals().isEmpty());
+    }
+
+    private static byte[] classfile(Class<?> type) throws IOException {
+        try (InputStream in = type.getResourceAsStream(type.getSimpleName() + ".class")) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static final class DefiningLoader extends ClassLoader {
+        DefiningLoader() {
+            super(ExpiredCallRewriterTest.class.getClassLoader());
+        }
+
+        Class<?> define(String name, byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.logger.benchmarks;
+
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.LogTTL;
+import com.logger.ttl.TTLCallSites;
+import com.logger.ttl.TTLLogger;
+import com.logger.ttl.TTLLoggerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares an expired DEBUG statement going through {@code TTLLogger.debug} with the same
+ * statement guarded by a {@link TTLCallSites} gate held in a {@code static final} field.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@LogTTL(start = "2020-01-01T00:00:00Z", ttlDays = 1, levels = {LogLevel.DEBUG})
+public class CallSiteGateBenchmark {
+
+    private static final TTLLogger LOGGER = TTLLoggerFactory.getLogger(CallSiteGateBenchmark.class);
+
+    private static final MethodHandle DEBUG_GATE =
+        TTLCallSites.gate(CallSiteGateBenchmark.class, "gatedDebug", LogLevel.DEBUG);
+
+    @Benchmark
+    public void loggerDebug() {
+        LOGGER.debug("expired statement");
+    }
+
+    @Benchmark
+    public void gatedDebug() throws Throwable {
+        if ((boolean) DEBUG_GATE.invokeExact()) {
+            LOGGER.debug("expired statement");
+        }
+    }
+
+    @Benchmark
+    public void empty() {
+        // Baseline for an eliminated statement
+    }
+}
@@ -0,0 +1,79 @@
+package com.logger.benchmarks;
+
+import com.logger.ttl.CallerResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares caller resolution through {@code Thread.getStackTrace()} (the previous
+ * implementation of {@code TTLAnnotationProcessor.getTTLConfig}) with {@link CallerResolver}
+ * at several stack depths.
+ *
+ * <p>Package {@code com.logger.benchmarks} lies outside {@code com.logger.ttl}, so the
+ * benchmark frames are reported as the caller, just like application code would be.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallerResolutionBenchmark {
+
+    @Param({"0", "50", "150"})
+    public int depth;
+
+    @Benchmark
+    public Object baseline() throws Exception {
+        return descend(depth, Resolution.NONE);
+    }
+
+    @Benchmark
+    public Object stackTrace() throws Exception {
+        return descend(depth, Resolution.STACK_TRACE);
+    }
+
+    @Benchmark
+    public Object stackWalker() throws Exception {
+        return descend(depth, Resolution.STACK_WALKER);
+    }
+
+    private enum Resolution { NONE, STACK_TRACE, STACK_WALKER }
+
+    private static Object descend(int remaining, Resolution mode) throws Exception {
+        if (remaining > 0) {
+            return descend(remaining - 1, mode);
+        }
+        switch (mode) {
+            case STACK_TRACE: return resolveWithStackTrace();
+            case STACK_WALKER: return CallerResolver.resolve().getDeclaringClass();
+            default: return CallerResolutionBenchmark.class;
+        }
+    }
+
+    /**
+     * Caller lookup as previously done by {@code TTLAnnotationProcessor.getTTLConfig}.
+     */
+    private static Class<?> resolveWithStackTrace() throws ClassNotFoundException {
+        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
+        for (int i = 2; i < stackTrace.length; i++) {
+            String className = stackTrace[i].getClassName();
+            if (!className.startsWith("com.logger.ttl") &&
+                !className.startsWith("java.lang") &&
+                !className.startsWith("sun.reflect")) {
+                return Class.forName(className);
+            }
+        }
+        return null;
+    }
+}
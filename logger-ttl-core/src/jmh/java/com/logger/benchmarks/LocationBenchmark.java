@@ -0,0 +1,50 @@
+package com.logger.benchmarks;
+
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.LogTTL;
+import com.logger.ttl.TTLLogger;
+import com.logger.ttl.TTLLoggerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a live annotated statement when the Log4j2 layout prints the caller location,
+ * logged through SLF4J, where Log4j2 walks the stack again, and through the Log4j2 backend,
+ * which is passed the location TTL already resolved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-location-benchmark.xml")
+@LogTTL(start = "2020-01-01T00:00:00Z", ttlDays = 36500, levels = {LogLevel.DEBUG})
+public class LocationBenchmark {
+
+    @Param({"slf4j", "log4j2"})
+    public String backend;
+
+    private TTLLogger logger;
+
+    @Setup
+    public void setUp() {
+        System.setProperty("logger.ttl.backend", backend);
+        logger = TTLLoggerFactory.getLogger(LocationBenchmark.class);
+    }
+
+    @Benchmark
+    public void liveDebug() {
+        logger.debug("live statement {}", "with location");
+    }
+}
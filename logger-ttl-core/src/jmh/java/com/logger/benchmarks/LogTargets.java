@@ -0,0 +1,194 @@
+package com.logger.benchmarks;
+
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.LogTTL;
+import com.logger.ttl.TTLLogger;
+import com.logger.ttl.TTLLoggerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Classes containing the log statements measured by {@link TTLLoggerBenchmark}, one per
+ * way of configuring a TTL. Live TTLs run until 2120, expired ones ended in January 2020.
+ */
+final class LogTargets {
+
+    static final String MESSAGE = "benchmark message";
+    static final String START = "2020-01-01T00:00:00Z";
+    static final int LIVE_DAYS = 36500;
+    static final int EXPIRED_DAYS = 1;
+
+    private LogTargets() {
+    }
+
+    /**
+     * A class with a single log statement at INFO or DEBUG
+     */
+    interface LogTarget {
+        void log(boolean debug);
+    }
+
+    static final class RawSlf4j implements LogTarget {
+        private static final Logger logger = LoggerFactory.getLogger(RawSlf4j.class);
+
+        @Override
+        public void log(boolean debug) {
+            if (debug) {
+                logger.debug(MESSAGE);
+            } else {
+                logger.info(MESSAGE);
+            }
+        }
+    }
+
+    static final class Unannotated implements LogTarget {
+        private static final TTLLogger logger = TTLLoggerFactory.getLogger(Unannotated.class);
+
+        @Override
+        public void log(boolean debug) {
+            if (debug) {
+                logger.debug(MESSAGE);
+            } else {
+                logger.info(MESSAGE);
+            }
+        }
+    }
+
+    @LogTTL(start = START, ttlDays = LIVE_DAYS, levels = {LogLevel.INFO, LogLevel.DEBUG})
+    static final class ClassLive implements LogTarget {
+        private static final TTLLogger logger = TTLLoggerFactory.getLogger(ClassLive.class);
+
+        @Override
+        public void log(boolean debug) {
+            if (debug) {
+                logger.debug(MESSAGE);
+            } else {
+                logger.info(MESSAGE);
+            }
+        }
+    }
+
+    @LogTTL(start = START, ttlDays = EXPIRED_DAYS, levels = {LogLevel.INFO, LogLevel.DEBUG})
+    static final class ClassExpired implements LogTarget {
+        private static final TTLLogger logger = TTLLoggerFactory.getLogger(ClassExpired.class);
+
+        @Override
+        public void log(boolean debug) {
+            if (debug) {
+                logger.debug(MESSAGE);
+            } else {
+                logger.info(MESSAGE);
+            }
+        }
+    }
+
+    static final class MethodLive implements LogTarget {
+        private static final TTLLogger logger = TTLLoggerFactory.getLogger(MethodLive.class);
+
+        @Override
+        @LogTTL(start = START, ttlDays = LIVE_DAYS, levels = {LogLevel.INFO, LogLevel.DEBUG})
+        public void log(boolean debug) {
+            if (debug) {
+                logger.debug(MESSAGE);
+            } else {
+                logger.info(MESSAGE);
+            }
+        }
+    }
+
+    static final class MethodExpired implements LogTarget {
+        private static final TTLLogger logger = TTLLoggerFactory.getLogger(MethodExpired.class);
+
+        @Override
+        @LogTTL(start = START, ttlDays = EXPIRED_DAYS, levels = {LogLevel.INFO, LogLevel.DEBUG})
+        public void log(boolean debug) {
+            if (debug) {
+                logger.debug(MESSAGE);
+            } else {
+                logger.info(MESSAGE);
+            }
+        }
+    }
+
+    static final class FieldLive implements LogTarget {
+        @LogTTL(start = START, ttlDays = LIVE_DAYS, levels = {LogLevel.INFO, LogLevel.DEBUG})
+        private static final TTLLogger logger = TTLLoggerFactory.getLogger(FieldLive.class);
+
+        @Override
+        public void log(boolean debug) {
+            if (debug) {
+                logger.debug(MESSAGE);
+            } else {
+                logger.info(MESSAGE);
+            }
+        }
+    }
+
+    static final class FieldExpired implements LogTarget {
+        @LogTTL(start = START, ttlDays = EXPIRED_DAYS, levels = {LogLevel.INFO, LogLevel.DEBUG})
+        private static final TTLLogger logger = TTLLoggerFactory.getLogger(FieldExpired.class);
+
+        @Override
+        public void log(boolean debug) {
+            if (debug) {
+                logger.debug(MESSAGE);
+            } else {
+                logger.info(MESSAGE);
+            }
+        }
+    }
+
+    static final class ExplicitLive implements LogTarget {
+        private static final TTLLogger logger = TTLLoggerFactory.getLogger(ExplicitLive.class);
+
+        @Override
+        public void log(boolean debug) {
+            if (debug) {
+                logger.debug(MESSAGE, START, LIVE_DAYS, LogLevel.INFO, LogLevel.DEBUG);
+            } else {
+                logger.info(MESSAGE, START, LIVE_DAYS, LogLevel.INFO, LogLevel.DEBUG);
+            }
+        }
+    }
+
+    static final class ExplicitExpired implements LogTarget {
+        private static final TTLLogger logger = TTLLoggerFactory.getLogger(ExplicitExpired.class);
+
+        @Override
+        public void log(boolean debug) {
+            if (debug) {
+                logger.debug(MESSAGE, START, EXPIRED_DAYS, LogLevel.INFO, LogLevel.DEBUG);
+            } else {
+                logger.info(MESSAGE, START, EXPIRED_DAYS, LogLevel.INFO, LogLevel.DEBUG);
+            }
+        }
+    }
+
+    static final class FactoryLive implements LogTarget {
+        private static final TTLLogger logger = TTLLoggerFactory.getLogger(
+            FactoryLive.class, START, LIVE_DAYS, LogLevel.INFO, LogLevel.DEBUG);
+
+        @Override
+        public void log(boolean debug) {
+            if (debug) {
+                logger.debug(MESSAGE);
+            } else {
+                logger.info(MESSAGE);
+            }
+        }
+    }
+
+    static final class FactoryExpired implements LogTarget {
+        private static final TTLLogger logger = TTLLoggerFactory.getLogger(
+            FactoryExpired.class, START, EXPIRED_DAYS, LogLevel.INFO, LogLevel.DEBUG);
+
+        @Override
+        public void log(boolean debug) {
+            if (debug) {
+                logger.debug(MESSAGE);
+            } else {
+                logger.info(MESSAGE);
+            }
+        }
+    }
+}
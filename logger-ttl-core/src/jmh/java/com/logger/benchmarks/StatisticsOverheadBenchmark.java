@@ -0,0 +1,56 @@
+package com.logger.benchmarks;
+
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.LogTTL;
+import com.logger.ttl.TTLLogger;
+import com.logger.ttl.TTLLoggerFactory;
+import com.logger.ttl.TTLStatistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what counting in {@link TTLStatistics} adds to an expired DEBUG statement,
+ * single threaded and with all threads hitting the same call site.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@LogTTL(start = "2020-01-01T00:00:00Z", ttlDays = 1, levels = {LogLevel.DEBUG})
+public class StatisticsOverheadBenchmark {
+
+    private static final TTLLogger LOGGER = TTLLoggerFactory.getLogger(StatisticsOverheadBenchmark.class);
+
+    @Param({"true", "false"})
+    public boolean statistics;
+
+    @Setup
+    public void setUp() {
+        TTLStatistics.getInstance().setEnabled(statistics);
+    }
+
+    @Benchmark
+    public void expiredDebug() {
+        LOGGER.debug("expired statement");
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void expiredDebugContended() {
+        LOGGER.debug("expired statement");
+    }
+}
@@ -0,0 +1,111 @@
+package com.logger.benchmarks;
+
+import com.logger.benchmarks.LogTargets.LogTarget;
+import com.logger.ttl.TTLManager;
+import com.logger.ttl.TTLOverride;
+import com.logger.ttl.TTLRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures the overhead {@code TTLLogger} adds over a raw SLF4J logger for every way of
+ * configuring a TTL, with live and expired TTLs.
+ *
+ * <p>Events go to a Log4j2 Null appender with every level enabled (see
+ * {@code log4j2-benchmark.xml}), so live statements measure the TTL check plus the Log4j2
+ * call path without I/O. The statement is reached through {@code depth} extra stack frames,
+ * and {@code overrides} unrelated method overrides are registered on the target class in
+ * {@link TTLManager} beforehand. Use {@link TTLLoggerBenchmarkRunner} to run across thread
+ * counts with the GC profiler.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+public class TTLLoggerBenchmark {
+
+    public enum Scenario {
+        RAW_SLF4J(LogTargets.RawSlf4j::new),
+        UNANNOTATED(LogTargets.Unannotated::new),
+        CLASS_LIVE(LogTargets.ClassLive::new),
+        CLASS_EXPIRED(LogTargets.ClassExpired::new),
+        METHOD_LIVE(LogTargets.MethodLive::new),
+        METHOD_EXPIRED(LogTargets.MethodExpired::new),
+        FIELD_LIVE(LogTargets.FieldLive::new),
+        FIELD_EXPIRED(LogTargets.FieldExpired::new),
+        EXPLICIT_LIVE(LogTargets.ExplicitLive::new),
+        EXPLICIT_EXPIRED(LogTargets.ExplicitExpired::new),
+        FACTORY_LIVE(LogTargets.FactoryLive::new),
+        FACTORY_EXPIRED(LogTargets.FactoryExpired::new);
+
+        private final Supplier<LogTarget> factory;
+
+        Scenario(Supplier<LogTarget> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param
+    public Scenario scenario;
+
+    @Param({"INFO", "DEBUG"})
+    public String level;
+
+    @Param({"0", "1", "100", "10000"})
+    public int overrides;
+
+    @Param({"0", "64"})
+    public int depth;
+
+    private LogTarget target;
+    private boolean debug;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        target = scenario.factory.get();
+        debug = "DEBUG".equals(level);
+
+        Class<?> targetClass = target.getClass();
+        TTLManager.getInstance().updateRules(rules -> {
+            TTLRules result = rules;
+            for (int i = 0; i < overrides; i++) {
+                result = result.withMethodOverride(targetClass, "unrelated" + i, TTLOverride.extend(1));
+            }
+            return result;
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TTLManager.getInstance().clearAllOverrides();
+    }
+
+    @Benchmark
+    public void log() {
+        descend(depth);
+    }
+
+    private void descend(int remaining) {
+        if (remaining > 0) {
+            descend(remaining - 1);
+        } else {
+            target.log(debug);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.logger.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs {@link TTLLoggerBenchmark} with 1, 4, 16 and 64 threads and the GC profiler, so every
+ * result comes with its allocation rate.
+ *
+ * <p>Standard JMH options are passed through, e.g. to narrow the parameter space:</p>
+ * <pre>
+ * mvn -P benchmarks test-compile exec:exec -Djmh.main=com.logger.benchmarks.TTLLoggerBenchmarkRunner \
+ *     -Djmh.args="-p scenario=CLASS_EXPIRED,UNANNOTATED -p overrides=0"
+ * </pre>
+ */
+public final class TTLLoggerBenchmarkRunner {
+
+    private static final int[] THREADS = {1, 4, 16, 64};
+
+    private TTLLoggerBenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        for (int threads : THREADS) {
+            ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLine)
+                .include(TTLLoggerBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .threads(threads);
+            new Runner(options.build()).run();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.logger.ttl.integration;
+
+import com.logger.ttl.TTLOverride;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Schedules and cancels 1M override removals, with the timing wheel of
+ * {@link TTLIntegrationManager} and with the scheduled executor it replaces.
+ * It lives in the integration package to reach the package-private wheel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ScheduledOverrideBenchmark {
+
+    private static final int OVERRIDES = 1_000_000;
+
+    // Incident overrides lasting from a minute to a day
+    private final long[] delays = new long[OVERRIDES];
+    private final String[] ids = new String[OVERRIDES];
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private final TTLTimingWheel.Timeout[] timeouts = new TTLTimingWheel.Timeout[OVERRIDES];
+    private final ScheduledFuture<?>[] futures = new ScheduledFuture<?>[OVERRIDES];
+    private ScheduledThreadPoolExecutor executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < OVERRIDES; i++) {
+            delays[i] = TimeUnit.MINUTES.toMillis(1) + (long) (random.nextDouble() * TimeUnit.DAYS.toMillis(1));
+            ids[i] = "incident-" + i;
+        }
+        executor = new ScheduledThreadPoolExecutor(2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int wheelScheduleAndCancel() {
+        TTLTimingWheel wheel = new TTLTimingWheel(TTLIntegrationManager.DEFAULT_OVERRIDE_TICK_MILLIS, now::get);
+        Runnable task = () -> { };
+        for (int i = 0; i < OVERRIDES; i++) {
+            timeouts[i] = wheel.schedule(delays[i], task);
+        }
+        for (int i = 0; i < OVERRIDES; i++) {
+            wheel.cancel(timeouts[i]);
+        }
+        return wheel.size();
+    }
+
+    @Benchmark
+    public int wheelScheduleAndExpire() {
+        long start = now.get();
+        TTLTimingWheel wheel = new TTLTimingWheel(TTLIntegrationManager.DEFAULT_OVERRIDE_TICK_MILLIS, now::get);
+        Runnable task = () -> { };
+        for (int i = 0; i < OVERRIDES; i++) {
+            wheel.schedule(delays[i], task);
+        }
+        int expired = 0;
+        // Advance a day in one second steps
+        for (long t = 1000; t <= TimeUnit.DAYS.toMillis(1) + TimeUnit.MINUTES.toMillis(1); t += 1000) {
+            now.set(start + t);
+            expired += wheel.advance().size();
+        }
+        now.set(start);
+        return expired;
+    }
+
+    @Benchmark
+    public int executorScheduleAndCancel() {
+        Runnable task = () -> { };
+        for (int i = 0; i < OVERRIDES; i++) {
+            futures[i] = executor.schedule(task, delays[i], TimeUnit.MILLISECONDS);
+        }
+        for (int i = 0; i < OVERRIDES; i++) {
+            futures[i].cancel(false);
+        }
+        executor.purge();
+        return executor.getQueue().size();
+    }
+
+    @Benchmark
+    public int managerScheduleAndClear() {
+        TTLIntegrationManager manager = TTLIntegrationManager.getInstance();
+        TTLOverride override = TTLOverride.bypass();
+        for (int i = 0; i < OVERRIDES; i++) {
+            // Few targets, so the cost of copying the rules stays small
+            manager.scheduleMethodOverride(ids[i], ScheduledOverrideBenchmark.class, "method" + (i & 63),
+                override, delays[i], "benchmark");
+        }
+        int count = manager.getScheduledOverrideCount();
+        manager.clearAllOverrides("benchmark");
+        return count;
+    }
+}
@@ -0,0 +1,59 @@
+package com.logger.ttl;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Resolves the application frame that issued a log statement.
+ *
+ * <p>This class uses a {@link StackWalker} that retains class references, so the
+ * calling class is returned directly instead of being looked up by name. The walk is
+ * lazy and stops at the first frame outside the TTL framework, which keeps the cost
+ * independent of the total stack depth.</p>
+ */
+public final class CallerResolver {
+
+    /**
+     * Maximum number of frames inspected before giving up on finding a caller.
+     */
+    static final int MAX_FRAMES = 64;
+
+    /**
+     * Frames fetched by the first batch of a walk, enough to reach the caller through the
+     * deepest TTL framework call path without fetching a second batch.
+     */
+    static final int ESTIMATED_DEPTH = 16;
+
+    private static final StackWalker WALKER =
+        StackWalker.getInstance(Set.of(StackWalker.Option.RETAIN_CLASS_REFERENCE), ESTIMATED_DEPTH);
+
+    private CallerResolver() {
+        // Utility class
+    }
+
+    /**
+     * Finds the first stack frame that does not belong to the TTL framework.
+     *
+     * @return the calling frame, or null if none was found within {@link #MAX_FRAMES} frames
+     */
+    public static StackWalker.StackFrame resolve() {
+        Optional<StackWalker.StackFrame> frame = WALKER.walk(frames -> frames
+            .limit(MAX_FRAMES)
+            .filter(CallerResolver::isCallerFrame)
+            .findFirst());
+        return frame.orElse(null);
+    }
+
+    /**
+     * Checks if a frame may be reported as the caller of a log statement.
+     *
+     * @param frame the frame to check
+     * @return true if the frame is outside the TTL framework and the JDK runtime
+     */
+    private static boolean isCallerFrame(StackWalker.StackFrame frame) {
+        String className = frame.getClassName();
+        return !className.startsWith("com.logger.ttl") &&
+               !className.startsWith("java.lang") &&
+               !className.startsWith("sun.reflect");
+    }
+}
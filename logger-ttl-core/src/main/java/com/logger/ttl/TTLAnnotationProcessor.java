@@ -0,0 +1,318 @@
+package com.logger.ttl;
+
+import com.logger.ttl.jfr.TTLDecisionEvent;
+import com.logger.ttl.jfr.TTLFlightRecorder;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Processor for LogTTL annotations that determines TTL configuration
+ * based on annotation hierarchy and scope.
+ * 
+ * <p>Annotations are read from the {@link TTLRegistry} generated at compile time
+ * when the calling class has one, and otherwise inspected with reflection at runtime.
+ * Resolved annotations are kept in {@link TTLConfigCache}, while runtime
+ * overrides are applied on every call.</p>
+ */
+public class TTLAnnotationProcessor {
+    
+    /**
+     * Location returned by {@link #locate} for statements that log but whose caller is unknown
+     */
+    static final StackTraceElement UNKNOWN_LOCATION = new StackTraceElement("", "", null, -1);
+    
+    /**
+     * Gets the TTL configuration for a specific logging context.
+     * 
+     * <p>The method walks the call stack to determine the appropriate
+     * TTL configuration based on LogTTL annotations at class, method, and field levels.</p>
+     * 
+     * @param loggerClass the class of the logger instance
+     * @param logLevel the log level being used
+     * @return the TTL configuration to use
+     */
+    public static TTLConfig getTTLConfig(Class<?> loggerClass, LogLevel logLevel) {
+        try {
+            StackWalker.StackFrame caller = CallerResolver.resolve();
+            if (caller == null) {
+                return TTLConfig.defaultConfig();
+            }
+            
+            return getTTLConfigForContext(caller.getDeclaringClass(), caller.getMethodName(), 
+                                          loggerClass, logLevel);
+            
+        } catch (Exception e) {
+            // If reflection fails, return default config
+            return TTLConfig.defaultConfig();
+        }
+    }
+    
+    /**
+     * Checks if a log statement at the calling site should be executed.
+     * 
+     * <p>The decision is kept per call site in {@link TTLCallSite} and only changes at TTL
+     * transitions or when runtime overrides change, so after the caller has been resolved
+     * this is a single volatile read. The outcome is counted in {@link TTLStatistics}, and
+     * recorded as a {@link TTLDecisionEvent} while a flight recording is running.</p>
+     * 
+     * @param loggerClass the class of the logger instance
+     * @param logLevel the log level being used
+     * @return true if the log should be executed
+     */
+    public static boolean shouldLog(Class<?> loggerClass, LogLevel logLevel) {
+        return locate(loggerClass, logLevel, false) != null;
+    }
+    
+    /**
+     * Same as {@link #shouldLog(Class, LogLevel)}, also returning the location of the statement
+     * so a {@link TTLLoggerBackend} does not have to walk the stack again.
+     * 
+     * @return the location, {@link #UNKNOWN_LOCATION} if the statement logs from an unknown
+     *         location, or null if it is suppressed
+     */
+    static StackTraceElement locate(Class<?> loggerClass, LogLevel logLevel) {
+        return locate(loggerClass, logLevel, true);
+    }
+    
+    private static StackTraceElement locate(Class<?> loggerClass, LogLevel logLevel, boolean withLocation) {
+        if (TTLFlightRecorder.isRecording()) {
+            return locateRecorded(loggerClass, logLevel, withLocation);
+        }
+        try {
+            StackWalker.StackFrame caller = CallerResolver.resolve();
+            if (caller == null) {
+                return UNKNOWN_LOCATION;
+            }
+            
+            TTLCallSite site = TTLConfigCache.getInstance()
+                .site(caller.getDeclaringClass(), caller.getMethodName(), loggerClass, logLevel);
+            if (site != null && !site.check()) {
+                return null;
+            }
+            return withLocation ? caller.toStackTraceElement() : UNKNOWN_LOCATION;
+            
+        } catch (Exception e) {
+            // If reflection fails, apply no restrictions
+            return UNKNOWN_LOCATION;
+        }
+    }
+    
+    /**
+     * Checks if a log statement at a known call site should be executed, for logging backends
+     * that resolve the calling class and method themselves.
+     * 
+     * @param callingClass the class where the log statement is located
+     * @param callingMethod the method where the log statement is located, or "" for class-level rules only
+     * @param loggerClass the class of the logger instance, used to match field-level annotations
+     * @param logLevel the log level being used
+     * @return true if the log should be executed
+     */
+    public static boolean shouldLog(Class<?> callingClass, String callingMethod, Class<?> loggerClass,
+                                    LogLevel logLevel) {
+        TTLCallSite site = TTLConfigCache.getInstance().site(callingClass, callingMethod, loggerClass, logLevel);
+        return site == null || site.check();
+    }
+    
+    /**
+     * Same as {@link #locate(Class, LogLevel, boolean)}, committing a {@link TTLDecisionEvent} if enabled
+     */
+    private static StackTraceElement locateRecorded(Class<?> loggerClass, LogLevel logLevel, boolean withLocation) {
+        TTLDecisionEvent event = new TTLDecisionEvent();
+        if (!event.isEnabled()) {
+            event = null;
+        } else {
+            event.begin();
+        }
+        try {
+            StackWalker.StackFrame caller = CallerResolver.resolve();
+            if (caller == null) {
+                return UNKNOWN_LOCATION;
+            }
+            
+            TTLConfigCache cache = TTLConfigCache.getInstance();
+            boolean cacheHit = event != null && cache.isResolved(
+                caller.getDeclaringClass(), caller.getMethodName(), loggerClass, logLevel);
+            TTLCallSite site = cache.site(caller.getDeclaringClass(), caller.getMethodName(), loggerClass, logLevel);
+            boolean open = site == null || site.check();
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.callingClass = caller.getClassName();
+                    event.callingMethod = caller.getMethodName();
+                    event.level = logLevel.name();
+                    event.decision = site == null ? TTLDecisionEvent.UNAFFECTED
+                        : open ? TTLDecisionEvent.LOGGED : TTLDecisionEvent.SUPPRESSED;
+                    event.cacheHit = cacheHit;
+                    event.commit();
+                }
+            }
+            if (!open) {
+                return null;
+            }
+            return withLocation ? caller.toStackTraceElement() : UNKNOWN_LOCATION;
+            
+        } catch (Exception e) {
+            // If reflection fails, apply no restrictions
+            return UNKNOWN_LOCATION;
+        }
+    }
+    
+    /**
+     * Gets the TTL configuration for a specific context.
+     * 
+     * @param callingClass the class where the log statement is located
+     * @param callingMethod the method where the log statement is located
+     * @param loggerClass the class of the logger instance
+     * @param logLevel the log level being used
+     * @return the TTL configuration to use
+     */
+    static TTLConfig getTTLConfigForContext(Class<?> callingClass, String callingMethod, 
+                                                   Class<?> loggerClass, LogLevel logLevel) {
+        
+        // Priority order: field-level > method-level > class-level, resolved once per call site
+        TTLConfig annotationConfig = TTLConfigCache.getInstance()
+            .get(callingClass, callingMethod, loggerClass, logLevel);
+        if (annotationConfig != null) {
+            return applyRuntimeOverrides(callingClass, callingMethod, null, annotationConfig);
+        }
+        
+        // No TTL restrictions found
+        return TTLConfig.defaultConfig();
+    }
+    
+    /**
+     * Apply runtime TTL overrides from TTLManager
+     */
+    static TTLConfig applyRuntimeOverrides(Class<?> callingClass, String callingMethod, 
+                                                 String fieldName, TTLConfig originalConfig) {
+        // Single read of the current rules snapshot
+        return TTLManager.getInstance().getRules()
+            .apply(callingClass, callingMethod, fieldName, originalConfig);
+    }
+    
+    /**
+     * Gets the field-level TTL configuration for a logger instance.
+     * 
+     * @param callingClass the class containing the logger field
+     * @param loggerClass the class of the logger instance
+     * @return the TTL configuration, or null if not found
+     */
+    static TTLConfig getFieldLevelTTL(Class<?> callingClass, Class<?> loggerClass) {
+        try {
+            TTLRegistry.ClassMetadata metadata = TTLRegistry.lookup(callingClass);
+            if (metadata != null) {
+                TTLConfig config = metadata.getFieldConfig(loggerClass);
+                if (config != null) {
+                    return config;
+                }
+            } else {
+                Field[] fields = callingClass.getDeclaredFields();
+                
+                for (Field field : fields) {
+                    if (loggerClass.isAssignableFrom(field.getType())) {
+                        LogTTL annotation = field.getAnnotation(LogTTL.class);
+                        if (annotation != null) {
+                            return TTLConfig.of(annotation.start(), annotation.ttlDays(), annotation.levels());
+                        }
+                    }
+                }
+            }
+            
+            // Check inherited fields
+            Class<?> superClass = callingClass.getSuperclass();
+            if (superClass != null && superClass != Object.class) {
+                return getFieldLevelTTL(superClass, loggerClass);
+            }
+            
+        } catch (Exception e) {
+            // Ignore reflection errors
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Gets the method-level TTL configuration.
+     * 
+     * @param callingClass the class containing the method
+     * @param methodName the name of the method
+     * @return the TTL configuration, or null if not found
+     */
+    static TTLConfig getMethodLevelTTL(Class<?> callingClass, String methodName) {
+        try {
+            TTLRegistry.ClassMetadata metadata = TTLRegistry.lookup(callingClass);
+            if (metadata != null) {
+                TTLConfig config = metadata.getMethodConfig(methodName);
+                if (config != null) {
+                    return config;
+                }
+            } else {
+                Method[] methods = callingClass.getDeclaredMethods();
+                
+                for (Method method : methods) {
+                    if (method.getName().equals(methodName)) {
+                        LogTTL annotation = method.getAnnotation(LogTTL.class);
+                        if (annotation != null) {
+                            return TTLConfig.of(annotation.start(), annotation.ttlDays(), annotation.levels());
+                        }
+                    }
+                }
+            }
+            
+            // Check inherited methods
+            Class<?> superClass = callingClass.getSuperclass();
+            if (superClass != null && superClass != Object.class) {
+                return getMethodLevelTTL(superClass, methodName);
+            }
+            
+        } catch (Exception e) {
+            // Ignore reflection errors
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Gets the class-level TTL configuration.
+     * 
+     * @param callingClass the class to inspect
+     * @return the TTL configuration, or null if not found
+     */
+    static TTLConfig getClassLevelTTL(Class<?> callingClass) {
+        try {
+            TTLRegistry.ClassMetadata metadata = TTLRegistry.lookup(callingClass);
+            if (metadata != null) {
+                if (metadata.getClassConfig() != null) {
+                    return metadata.getClassConfig();
+                }
+            } else {
+                LogTTL annotation = callingClass.getAnnotation(LogTTL.class);
+                if (annotation != null) {
+                    return TTLConfig.of(annotation.start(), annotation.ttlDays(), annotation.levels());
+                }
+            }
+            
+            // Check interfaces
+            Class<?>[] interfaces = callingClass.getInterfaces();
+            for (Class<?> iface : interfaces) {
+                TTLConfig config = getClassLevelTTL(iface);
+                if (config != null) {
+                    return config;
+                }
+            }
+            
+            // Check superclass
+            Class<?> superClass = callingClass.getSuperclass();
+            if (superClass != null && superClass != Object.class) {
+                return getClassLevelTTL(superClass);
+            }
+            
+        } catch (Exception e) {
+            // Ignore reflection errors
+        }
+        
+        return null;
+    }
+}
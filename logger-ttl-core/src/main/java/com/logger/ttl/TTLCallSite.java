@@ -0,0 +1,186 @@
+package com.logger.ttl;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * TTL decision of a single log call site, identified by calling class, method,
+ * logger class and log level.
+ *
+ * <p>The decision is held in a single volatile field. It only changes when the TTL
+ * window opens or closes, which is signalled by {@link TTLExpiryScheduler}, or when
+ * {@link TTLManager} changes its rules, which marks every call site stale so the decision
+ * is recomputed on the next log call. Checking a call site is therefore a single
+ * volatile read.</p>
+ */
+public final class TTLCallSite implements TTLExpiryScheduler.Transition {
+
+    // Default value, so a call site read through a data race is recomputed
+    private static final int STALE = 0;
+    private static final int OPEN = 1;
+    private static final int CLOSED = 2;
+
+    private static final Set<TTLCallSite> ALL = Collections.synchronizedSet(
+        Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private final Class<?> callingClass;
+    private final String methodName;
+    private final Class<?> loggerClass;
+    private final LogLevel level;
+    private final TTLConfig annotationConfig;
+
+    private volatile int state;
+    private TTLConfig effectiveConfig;
+    private TTLExpiryScheduler.Ticket ticket;
+    // Written under the lock on refresh, a racy read may count one more call under the previous override
+    private TTLStatistics.Counter counter;
+
+    TTLCallSite(Class<?> callingClass, String methodName, Class<?> loggerClass,
+                LogLevel level, TTLConfig annotationConfig) {
+        this.callingClass = callingClass;
+        this.methodName = methodName;
+        this.loggerClass = loggerClass;
+        this.level = level;
+        this.annotationConfig = annotationConfig;
+        ALL.add(this);
+    }
+
+    /**
+     * Marks all call sites stale after a change of TTL rules
+     */
+    static void invalidateAll() {
+        synchronized (ALL) {
+            for (TTLCallSite site : ALL) {
+                site.invalidate();
+            }
+        }
+    }
+
+    // Synchronized so a concurrent refresh based on the old rules cannot overwrite the stale mark
+    private synchronized void invalidate() {
+        state = STALE;
+    }
+
+    /**
+     * Checks if log statements at this call site should be executed.
+     *
+     * @return true if the call site is within its TTL window or not affected by TTL
+     */
+    public boolean isOpen() {
+        int current = state;
+        if (current == STALE) {
+            return refresh();
+        }
+        return current == OPEN;
+    }
+
+    /**
+     * Checks if a log statement at this call site should be executed and counts the
+     * outcome in {@link TTLStatistics}
+     */
+    public boolean check() {
+        boolean open = isOpen();
+        TTLStatistics.Counter current = counter;
+        if (current != null) {
+            current.record(open);
+        }
+        return open;
+    }
+
+    /**
+     * Recomputes the effective configuration and decision, and schedules the next transition
+     */
+    synchronized boolean refresh() {
+        // Single read of the current rules snapshot
+        TTLRules rules = TTLManager.getInstance().getRules();
+        TTLConfig effective = rules.apply(callingClass, methodName, null, annotationConfig);
+        counter = TTLStatistics.getInstance().counter(this, rules.describeOverride(callingClass, methodName, null));
+        return update(effective, TTLClock.current().millis());
+    }
+
+    @Override
+    public void onTransition(long nowMillis) {
+        boolean expired;
+        synchronized (this) {
+            if (state == STALE || effectiveConfig == null) {
+                // Rules changed since the transition was scheduled, recompute on next use
+                return;
+            }
+            boolean wasOpen = state == OPEN;
+            // Updated in both directions, a site before its start opens at the start instant
+            boolean open = update(effectiveConfig, nowMillis);
+            expired = wasOpen && !open;
+        }
+        // Listeners run outside the lock, they may change TTL rules
+        if (expired) {
+            TTLExpiryScheduler.getInstance().fireExpired(this);
+        }
+    }
+
+    private boolean update(TTLConfig effective, long nowMillis) {
+        boolean open = !effective.isLevelAffected(level) || effective.isWithinTTL(nowMillis);
+        effectiveConfig = effective;
+
+        TTLExpiryScheduler scheduler = TTLExpiryScheduler.getInstance();
+        scheduler.cancel(ticket);
+        ticket = effective.isLevelAffected(level)
+            ? scheduler.schedule(this, effective.nextTransition(nowMillis))
+            : null;
+
+        state = open ? OPEN : CLOSED;
+        return open;
+    }
+
+    /**
+     * Get the class containing the log statement
+     */
+    public Class<?> getCallingClass() {
+        return callingClass;
+    }
+
+    /**
+     * Get the method containing the log statement
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * Get the class of the logger instance
+     */
+    public Class<?> getLoggerClass() {
+        return loggerClass;
+    }
+
+    /**
+     * Get the log level of the statement
+     */
+    public LogLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * Get the configuration from LogTTL annotations
+     */
+    public TTLConfig getAnnotationConfig() {
+        return annotationConfig;
+    }
+
+    /**
+     * Get the configuration in effect after runtime overrides, or null if not resolved yet
+     */
+    public synchronized TTLConfig getEffectiveConfig() {
+        return effectiveConfig;
+    }
+
+    @Override
+    public String toString() {
+        return "TTLCallSite{" +
+                "class=" + callingClass.getName() +
+                ", method=" + methodName +
+                ", level=" + level +
+                ", state=" + (state == OPEN ? "OPEN" : state == CLOSED ? "CLOSED" : "STALE") +
+                '}';
+    }
+}
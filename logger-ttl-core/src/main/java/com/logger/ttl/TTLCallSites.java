@@ -0,0 +1,140 @@
+package com.logger.ttl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.lang.invoke.SwitchPoint;
+
+/**
+ * TTL gates backed by {@code java.lang.invoke} call sites, allowing the JIT to treat
+ * a resolved TTL decision as a constant.
+ *
+ * <p>A gate is a {@code ()boolean} method handle whose target is the constant TTL decision
+ * for one call site. When the handle is held in a {@code static final} field, the JIT inlines
+ * the constant and removes the guarded log statement entirely while it is expired:</p>
+ * <pre>
+ * private static final MethodHandle DEBUG_GATE =
+ *     TTLCallSites.gate(MyService.class, "process", LogLevel.DEBUG);
+ *
+ * if ((boolean) DEBUG_GATE.invokeExact()) {
+ *     logger.debug("...");
+ * }
+ * </pre>
+ *
+ * <p>Decisions are guarded by a global {@link SwitchPoint} that is invalidated whenever
+ * {@link TTLManager} changes its rules, and every gate schedules a relink with
+ * {@link TTLExpiryScheduler} at the next instant its TTL window opens or closes. Dependent compiled code is deoptimized and the
+ * decision is recomputed lazily on the next call.</p>
+ */
+public final class TTLCallSites {
+
+    private static final MethodType GATE_TYPE = MethodType.methodType(boolean.class);
+
+    private static final MethodHandle ALWAYS_OPEN = MethodHandles.constant(boolean.class, true);
+
+    private static final MethodHandle RELINK;
+
+    static {
+        try {
+            RELINK = MethodHandles.lookup().findVirtual(Site.class, "relink", GATE_TYPE);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static volatile SwitchPoint rules = new SwitchPoint();
+
+    private TTLCallSites() {
+        // Utility class
+    }
+
+    /**
+     * Creates a gate for a log statement in the given class and method.
+     *
+     * @param callingClass the class containing the log statement
+     * @param callingMethod the method containing the log statement, or null for class-level rules only
+     * @param level the log level of the statement
+     * @return a {@code ()boolean} method handle returning true while the statement should log
+     */
+    public static MethodHandle gate(Class<?> callingClass, String callingMethod, LogLevel level) {
+        return gate(callingClass, callingMethod, callingClass, level);
+    }
+
+    /**
+     * Creates a gate for a log statement using a logger created for another class.
+     *
+     * @param callingClass the class containing the log statement
+     * @param callingMethod the method containing the log statement, or null for class-level rules only
+     * @param loggerClass the class of the logger instance
+     * @param level the log level of the statement
+     * @return a {@code ()boolean} method handle returning true while the statement should log
+     */
+    public static MethodHandle gate(Class<?> callingClass, String callingMethod, Class<?> loggerClass, LogLevel level) {
+        if (callingClass == null || loggerClass == null) {
+            return ALWAYS_OPEN;
+        }
+        Site site = new Site(callingClass, callingMethod != null ? callingMethod : "", loggerClass, level);
+        site.relink();
+        return site.dynamicInvoker();
+    }
+
+    /**
+     * Invalidates all gates after a change of TTL rules, they are relinked on their next use.
+     */
+    public static void invalidateAll() {
+        SwitchPoint old;
+        synchronized (TTLCallSites.class) {
+            old = rules;
+            rules = new SwitchPoint();
+        }
+        SwitchPoint.invalidateAll(new SwitchPoint[]{old});
+    }
+
+    /**
+     * Call site holding the TTL decision of a single log statement
+     */
+    private static final class Site extends MutableCallSite implements TTLExpiryScheduler.Transition {
+        private final Class<?> callingClass;
+        private final String callingMethod;
+        private final Class<?> loggerClass;
+        private final LogLevel level;
+        private final MethodHandle relinker;
+        private TTLExpiryScheduler.Ticket pendingRelink;
+
+        Site(Class<?> callingClass, String callingMethod, Class<?> loggerClass, LogLevel level) {
+            super(GATE_TYPE);
+            this.callingClass = callingClass;
+            this.callingMethod = callingMethod;
+            this.loggerClass = loggerClass;
+            this.level = level;
+            this.relinker = RELINK.bindTo(this);
+            setTarget(relinker);
+        }
+
+        /**
+         * Recomputes the decision, installs it as the new target and returns it
+         */
+        synchronized boolean relink() {
+            SwitchPoint guard = rules;
+            TTLConfig config = TTLAnnotationProcessor.getTTLConfigForContext(callingClass, callingMethod, loggerClass, level);
+            long now = TTLClock.current().millis();
+            boolean open = !config.isLevelAffected(level) || config.isWithinTTL(now);
+
+            setTarget(guard.guardWithTest(MethodHandles.constant(boolean.class, open), relinker));
+
+            TTLExpiryScheduler scheduler = TTLExpiryScheduler.getInstance();
+            scheduler.cancel(pendingRelink);
+            pendingRelink = config.isLevelAffected(level)
+                ? scheduler.schedule(this, config.nextTransition(now))
+                : null;
+            return open;
+        }
+
+        @Override
+        public void onTransition(long nowMillis) {
+            setTarget(relinker);
+            MutableCallSite.syncAll(new MutableCallSite[]{this});
+        }
+    }
+}
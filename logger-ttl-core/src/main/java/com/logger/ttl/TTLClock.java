@@ -0,0 +1,221 @@
+package com.logger.ttl;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Time source for all TTL calculations.
+ *
+ * <p>TTLs are measured in days, so reading the system clock on every log call is
+ * unnecessary. By default a {@link Cached} clock is used, which serves a volatile
+ * millisecond value refreshed by a daemon ticker thread. The clock can be selected with
+ * the {@code logger.ttl.clock} system property ({@code cached} or {@code precise}), the
+ * ticker resolution with {@code logger.ttl.clock.resolutionMillis}, or replaced at runtime
+ * through {@link #setCurrent(TTLClock)}. Tests can install a {@link Manual} clock to
+ * simulate TTL expiry without waiting.</p>
+ */
+public abstract class TTLClock {
+
+    /**
+     * Default ticker resolution of the cached clock in milliseconds. TTL windows open and close
+     * at most this late; {@link TTLExpiryScheduler} fires them from the same clock.
+     */
+    public static final long DEFAULT_RESOLUTION_MILLIS = 1000;
+
+    private static final TTLClock PRECISE = new Precise();
+
+    private static final TTLClock DEFAULT = createDefault();
+
+    private static volatile TTLClock current = DEFAULT;
+
+    /**
+     * Gets the clock used for TTL calculations.
+     *
+     * @return the current clock
+     */
+    public static TTLClock current() {
+        return current;
+    }
+
+    /**
+     * Sets the clock used for TTL calculations.
+     *
+     * @param clock the clock to use, or null to restore the default clock
+     */
+    public static void setCurrent(TTLClock clock) {
+        current = clock != null ? clock : DEFAULT;
+    }
+
+    /**
+     * Gets a clock that reads the system clock on every call.
+     *
+     * @return the precise clock
+     */
+    public static TTLClock precise() {
+        return PRECISE;
+    }
+
+    /**
+     * Creates a clock that refreshes a cached time value at a fixed resolution.
+     *
+     * @param resolutionMillis the refresh interval in milliseconds
+     * @return a new cached clock, which must be closed when no longer used
+     */
+    public static Cached cached(long resolutionMillis) {
+        return new Cached(resolutionMillis);
+    }
+
+    /**
+     * Creates a clock that only moves when advanced explicitly.
+     *
+     * @param startMillis the initial time in epoch milliseconds
+     * @return a new manual clock
+     */
+    public static Manual manual(long startMillis) {
+        return new Manual(startMillis);
+    }
+
+    private static TTLClock createDefault() {
+        if ("precise".equalsIgnoreCase(System.getProperty("logger.ttl.clock"))) {
+            return PRECISE;
+        }
+        return new Cached(Long.getLong("logger.ttl.clock.resolutionMillis", DEFAULT_RESOLUTION_MILLIS));
+    }
+
+    /**
+     * Gets the current time.
+     *
+     * @return the current time in epoch milliseconds
+     */
+    public abstract long millis();
+
+    /**
+     * Gets the current time at full precision, for timers running finer than the resolution of
+     * a {@link Cached} clock. Other clocks return {@link #millis()}.
+     *
+     * @return the current time in epoch milliseconds
+     */
+    public long exactMillis() {
+        return millis();
+    }
+
+    /**
+     * Gets the current time as an Instant.
+     *
+     * @return the current time
+     */
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis());
+    }
+
+    /**
+     * Clock backed directly by {@link System#currentTimeMillis()}
+     */
+    private static final class Precise extends TTLClock {
+        @Override
+        public long millis() {
+            return System.currentTimeMillis();
+        }
+
+        @Override
+        public String toString() {
+            return "TTLClock.Precise";
+        }
+    }
+
+    /**
+     * Clock serving a cached time value refreshed by a daemon ticker thread
+     */
+    public static final class Cached extends TTLClock implements AutoCloseable {
+        private final long resolutionMillis;
+        private final Thread ticker;
+        private volatile long now;
+        private volatile boolean running = true;
+
+        private Cached(long resolutionMillis) {
+            this.resolutionMillis = Math.max(1, resolutionMillis);
+            this.now = System.currentTimeMillis();
+            this.ticker = new Thread(this::tick, "ttl-clock-ticker");
+            this.ticker.setDaemon(true);
+            this.ticker.start();
+        }
+
+        private void tick() {
+            while (running) {
+                now = System.currentTimeMillis();
+                try {
+                    Thread.sleep(resolutionMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public long millis() {
+            return now;
+        }
+
+        @Override
+        public long exactMillis() {
+            return System.currentTimeMillis();
+        }
+
+        /**
+         * Get the refresh interval in milliseconds
+         */
+        public long getResolutionMillis() {
+            return resolutionMillis;
+        }
+
+        /**
+         * Stop the ticker thread; the clock keeps returning its last value
+         */
+        @Override
+        public void close() {
+            running = false;
+            ticker.interrupt();
+        }
+
+        @Override
+        public String toString() {
+            return "TTLClock.Cached{resolutionMillis=" + resolutionMillis + "}";
+        }
+    }
+
+    /**
+     * Clock that only moves when advanced, intended for tests
+     */
+    public static final class Manual extends TTLClock {
+        private volatile long now;
+
+        private Manual(long startMillis) {
+            this.now = startMillis;
+        }
+
+        @Override
+        public long millis() {
+            return now;
+        }
+
+        /**
+         * Move the clock forward by the given duration
+         */
+        public synchronized void advance(Duration duration) {
+            now += duration.toMillis();
+        }
+
+        /**
+         * Set the clock to the given time in epoch milliseconds
+         */
+        public void setMillis(long millis) {
+            now = millis;
+        }
+
+        @Override
+        public String toString() {
+            return "TTLClock.Manual{now=" + Instant.ofEpochMilli(now) + "}";
+        }
+    }
+}
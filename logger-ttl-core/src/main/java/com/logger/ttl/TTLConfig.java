@@ -0,0 +1,369 @@
+package com.logger.ttl;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Configuration class for TTL logging settings.
+ *
+ * <p>This class encapsulates the TTL parameters and provides validation
+ * and utility methods for checking if logs should expire.</p>
+ *
+ * <p>Instances are immutable. The TTL window is precomputed as epoch milliseconds
+ * and the affected levels as a bitmask over {@link LogLevel#ordinal()}, so
+ * {@link #shouldLog(LogLevel)} only performs primitive comparisons against
+ * {@link TTLClock#current()}. Use
+ * {@link #of(String, int, LogLevel...)} to obtain a shared instance for equal configurations.</p>
+ */
+public final class TTLConfig {
+
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+    // Upper bound for the flyweight pool, further configurations are not shared
+    private static final int MAX_SHARED = 4096;
+
+    private static final ConcurrentMap<TTLConfig, TTLConfig> SHARED = new ConcurrentHashMap<>();
+
+    private static final TTLConfig DEFAULT = new TTLConfig(null, Long.MIN_VALUE, 0L, -1, 0);
+
+    private final Instant startTime;
+    private final int ttlDays;
+    private final int levelMask;
+    private final long startMillis;
+    private final long expiryMillis;
+    // Start time if specified, otherwise creation time; expiry is counted from here
+    private final long anchorMillis;
+
+    /**
+     * Creates a new TTL configuration.
+     *
+     * @param start ISO8601 start date string, or empty string for no start restriction
+     * @param ttlDays number of days until expiration, or -1 for never expires
+     * @param levels log levels to which TTL applies, or empty array for all levels
+     */
+    public TTLConfig(String start, int ttlDays, LogLevel[] levels) {
+        this(parseStart(start), ttlDays, levelMask(levels));
+    }
+
+    private TTLConfig(Instant startTime, int ttlDays, int levelMask) {
+        this(startTime,
+             startTime != null ? toEpochMillis(startTime) : Long.MIN_VALUE,
+             startTime != null ? toEpochMillis(startTime) : TTLClock.current().millis(),
+             ttlDays,
+             levelMask);
+    }
+
+    private TTLConfig(Instant startTime, long startMillis, long anchorMillis, int ttlDays, int levelMask) {
+        this(startTime, startMillis, anchorMillis, ttlDays, levelMask,
+             ttlDays > 0 ? saturatedAdd(anchorMillis, ttlDays * MILLIS_PER_DAY) : Long.MAX_VALUE);
+    }
+
+    private TTLConfig(Instant startTime, long startMillis, long anchorMillis, int ttlDays, int levelMask,
+                      long expiryMillis) {
+        this.startTime = startTime;
+        this.startMillis = startMillis;
+        this.anchorMillis = anchorMillis;
+        this.ttlDays = ttlDays;
+        this.levelMask = levelMask;
+        this.expiryMillis = expiryMillis;
+    }
+
+    /**
+     * Gets a shared TTL configuration, reusing an existing instance if an equal one exists.
+     *
+     * @param start ISO8601 start date string, or empty string for no start restriction
+     * @param ttlDays number of days until expiration, or -1 for never expires
+     * @param levels log levels to which TTL applies, or empty array for all levels
+     * @return a TTL configuration equal to {@code new TTLConfig(start, ttlDays, levels)}
+     */
+    public static TTLConfig of(String start, int ttlDays, LogLevel... levels) {
+        return new TTLConfig(start, ttlDays, levels).shared();
+    }
+
+    /**
+     * Gets a shared TTL configuration from values precomputed at compile time, without
+     * parsing the start date again.
+     *
+     * @param startMillis start time in epoch milliseconds, or {@link Long#MIN_VALUE} for no start restriction
+     * @param expiryMillis expiry time in epoch milliseconds, ignored without a start time
+     * @param ttlDays number of days until expiration, or -1 for never expires
+     * @param levelMask bit mask of affected log level ordinals, or 0 for all levels
+     * @return the TTL configuration
+     */
+    static TTLConfig precomputed(long startMillis, long expiryMillis, int ttlDays, int levelMask) {
+        if (startMillis == Long.MIN_VALUE) {
+            // Without a start time the expiry is counted from creation
+            return new TTLConfig((Instant) null, ttlDays, levelMask).shared();
+        }
+        return new TTLConfig(Instant.ofEpochMilli(startMillis), startMillis, startMillis,
+                             ttlDays, levelMask, expiryMillis).shared();
+    }
+
+    /**
+     * Creates a default TTL configuration (no restrictions).
+     *
+     * @return a default TTL configuration
+     */
+    public static TTLConfig defaultConfig() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a configuration with the same start time, levels and expiry anchor,
+     * and a TTL extended by the given number of days. Configurations without a TTL
+     * never expire and are returned unchanged.
+     *
+     * @param extraDays number of days to add to the TTL
+     * @return the extended TTL configuration
+     */
+    public TTLConfig withExtraDays(int extraDays) {
+        if (extraDays == 0 || !hasTTL()) {
+            return this;
+        }
+        int extendedDays = (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, (long) ttlDays + extraDays));
+        return new TTLConfig(startTime, startMillis, anchorMillis, extendedDays, levelMask).shared();
+    }
+
+    /**
+     * Checks if the current time is within the valid TTL window.
+     *
+     * @return true if the log should be executed, false if it should be skipped
+     */
+    public boolean isWithinTTL() {
+        // If no TTL restrictions, always allow
+        if (startMillis == Long.MIN_VALUE && expiryMillis == Long.MAX_VALUE) {
+            return true;
+        }
+
+        return isWithinTTL(TTLClock.current().millis());
+    }
+
+    /**
+     * Checks if the given time is within the valid TTL window.
+     *
+     * @param nowMillis the time to check, in epoch milliseconds
+     * @return true if the log should be executed at that time
+     */
+    public boolean isWithinTTL(long nowMillis) {
+        return nowMillis >= startMillis && nowMillis <= expiryMillis;
+    }
+
+    /**
+     * Gets the next instant at which the result of {@link #isWithinTTL(long)} changes.
+     *
+     * @param nowMillis the current time in epoch milliseconds
+     * @return the next start or expiry instant in epoch milliseconds, or {@link Long#MAX_VALUE} if none
+     */
+    public long nextTransition(long nowMillis) {
+        if (nowMillis < startMillis) {
+            return startMillis;
+        }
+        if (nowMillis <= expiryMillis && expiryMillis != Long.MAX_VALUE) {
+            return expiryMillis + 1;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Checks if the specified log level is affected by TTL rules.
+     *
+     * @param level the log level to check
+     * @return true if the level is affected by TTL, false otherwise
+     */
+    public boolean isLevelAffected(LogLevel level) {
+        // If no specific levels specified, all levels are affected
+        return levelMask == 0 || (levelMask & (1 << level.ordinal())) != 0;
+    }
+
+    /**
+     * Checks if a log statement should be executed based on TTL rules and log level.
+     *
+     * @param level the log level of the statement
+     * @return true if the log should be executed, false if it should be skipped
+     */
+    public boolean shouldLog(LogLevel level) {
+        // If level is not affected by TTL, always allow
+        return !isLevelAffected(level) || isWithinTTL();
+    }
+
+    /**
+     * Gets the start time.
+     *
+     * @return the start time, or null if not specified
+     */
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Gets the TTL in days.
+     *
+     * @return the TTL in days, or -1 if never expires
+     */
+    public int getTtlDays() {
+        return ttlDays;
+    }
+
+    /**
+     * Gets the affected log levels.
+     *
+     * @return set of affected log levels, or empty set if all levels are affected
+     */
+    public Set<LogLevel> getLevels() {
+        EnumSet<LogLevel> levels = EnumSet.noneOf(LogLevel.class);
+        for (LogLevel level : LogLevel.values()) {
+            if ((levelMask & (1 << level.ordinal())) != 0) {
+                levels.add(level);
+            }
+        }
+        return levels;
+    }
+
+    /**
+     * Gets the affected log levels as a bitmask over {@link LogLevel#ordinal()}.
+     *
+     * @return the level bitmask, or 0 if all levels are affected
+     */
+    public int getLevelMask() {
+        return levelMask;
+    }
+
+    /**
+     * Gets the start of the TTL window.
+     *
+     * @return the start time in epoch milliseconds, or {@link Long#MIN_VALUE} if not specified
+     */
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    /**
+     * Gets the end of the TTL window.
+     *
+     * @return the expiry time in epoch milliseconds, or {@link Long#MAX_VALUE} if never expires
+     */
+    public long getExpiryMillis() {
+        return expiryMillis;
+    }
+
+    /**
+     * Checks if this configuration has start time restrictions.
+     *
+     * @return true if start time is specified
+     */
+    public boolean hasStartTime() {
+        return startTime != null;
+    }
+
+    /**
+     * Checks if this configuration has TTL restrictions.
+     *
+     * @return true if TTL is specified
+     */
+    public boolean hasTTL() {
+        return ttlDays > 0;
+    }
+
+    /**
+     * Checks if the expiry is counted from the creation of this configuration, because it
+     * has a TTL but no start time
+     */
+    boolean isAnchoredAtCreation() {
+        return startTime == null && hasTTL();
+    }
+
+    private TTLConfig shared() {
+        if (isAnchoredAtCreation()) {
+            // Equal to another instance only until the clock moves, never pooled
+            return this;
+        }
+        TTLConfig existing = SHARED.get(this);
+        if (existing != null) {
+            return existing;
+        }
+        if (SHARED.size() >= MAX_SHARED) {
+            return this;
+        }
+        existing = SHARED.putIfAbsent(this, this);
+        return existing != null ? existing : this;
+    }
+
+    private static Instant parseStart(String start) {
+        if (start != null && !start.trim().isEmpty()) {
+            try {
+                return Instant.parse(start.trim());
+            } catch (DateTimeParseException e) {
+                // Gracefully handle invalid dates by treating them as no start restriction
+                return null;
+            }
+        }
+        return null;
+    }
+
+    static int levelMask(LogLevel[] levels) {
+        int mask = 0;
+        if (levels != null) {
+            for (LogLevel level : levels) {
+                if (level != null) {
+                    mask |= 1 << level.ordinal();
+                }
+            }
+        }
+        return mask;
+    }
+
+    private static long toEpochMillis(Instant instant) {
+        try {
+            return instant.toEpochMilli();
+        } catch (ArithmeticException e) {
+            return instant.isBefore(Instant.EPOCH) ? Long.MIN_VALUE + 1 : Long.MAX_VALUE;
+        }
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        // Overflow only if both operands have the same sign and the result's sign differs
+        if (((a ^ sum) & (b ^ sum)) < 0) {
+            return a < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+        return sum;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TTLConfig)) {
+            return false;
+        }
+        TTLConfig other = (TTLConfig) o;
+        return ttlDays == other.ttlDays &&
+               levelMask == other.levelMask &&
+               startMillis == other.startMillis &&
+               expiryMillis == other.expiryMillis &&
+               (startTime == null ? other.startTime == null : startTime.equals(other.startTime));
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(startMillis);
+        result = 31 * result + Long.hashCode(expiryMillis);
+        result = 31 * result + ttlDays;
+        result = 31 * result + levelMask;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "TTLConfig{" +
+                "startTime=" + startTime +
+                ", ttlDays=" + ttlDays +
+                ", levels=" + getLevels() +
+                '}';
+    }
+}
@@ -0,0 +1,322 @@
+package com.logger.ttl;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of resolved LogTTL annotation configurations and {@link TTLCallSite call sites}
+ * per calling class, method and log level.
+ *
+ * <p>Annotations cannot change at runtime, so the field, method and class level lookups done by
+ * {@link TTLAnnotationProcessor} only need to run once per call site. Entries are attached to the
+ * calling class through a {@link ClassValue}, so they never keep a class loader alive. The number
+ * of cached classes is bounded; when the bound is exceeded the oldest classes are evicted first.</p>
+ *
+ * <p>An annotation without a start time counts its TTL from when it is first resolved, so its
+ * statements expire {@code ttlDays} after first use. Unless it is listed in a {@link TTLRegistry},
+ * a class resolved again after eviction starts counting again.</p>
+ *
+ * <p>Only annotation data is cached. Runtime overrides from {@link TTLManager} are applied on top
+ * of the cached configuration, and call sites are marked stale whenever they change, so overrides
+ * take effect immediately.</p>
+ */
+public final class TTLConfigCache {
+
+    /**
+     * Default maximum number of cached classes, can be changed with the
+     * {@code logger.ttl.cache.maxClasses} system property.
+     */
+    public static final int DEFAULT_MAX_CLASSES = 10_000;
+
+    private static final TTLConfigCache INSTANCE = new TTLConfigCache(
+        Integer.getInteger("logger.ttl.cache.maxClasses", DEFAULT_MAX_CLASSES));
+
+    // Marker for "no annotation found", distinct from any real configuration
+    private static final TTLConfig NONE = new TTLConfig("", -1, new LogLevel[0]);
+
+    // Marker for call sites without annotation, which always log
+    private static final Object NO_SITE = new Object();
+
+    private static final LogLevel[] LEVELS = LogLevel.values();
+
+    private final ClassValue<ClassEntry> entries = new ClassValue<ClassEntry>() {
+        @Override
+        protected ClassEntry computeValue(Class<?> type) {
+            return register(type);
+        }
+    };
+
+    // Insertion order of cached classes, used for eviction
+    private final ConcurrentLinkedQueue<WeakReference<Class<?>>> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private volatile int maxClasses;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    TTLConfigCache(int maxClasses) {
+        this.maxClasses = Math.max(1, maxClasses);
+    }
+
+    /**
+     * Get the shared cache used by TTLAnnotationProcessor
+     */
+    public static TTLConfigCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the effective annotation configuration for a logging context.
+     *
+     * <p>The priority order is field-level, then method-level, then class-level, where a level
+     * only applies if its configuration affects the requested log level.</p>
+     *
+     * @param callingClass the class where the log statement is located
+     * @param callingMethod the method where the log statement is located
+     * @param loggerClass the class of the logger instance
+     * @param logLevel the log level being used
+     * @return the annotation configuration, or null if no annotation applies
+     */
+    TTLConfig get(Class<?> callingClass, String callingMethod, Class<?> loggerClass, LogLevel logLevel) {
+        ClassEntry entry = entries.get(callingClass);
+        boolean hit = true;
+
+        TTLConfig fieldConfig = entry.fieldConfigs.get(loggerClass);
+        if (fieldConfig == null) {
+            fieldConfig = orNone(TTLAnnotationProcessor.getFieldLevelTTL(callingClass, loggerClass));
+            entry.fieldConfigs.putIfAbsent(loggerClass, fieldConfig);
+            hit = false;
+        }
+
+        TTLConfig result;
+        if (fieldConfig != NONE && fieldConfig.isLevelAffected(logLevel)) {
+            result = fieldConfig;
+        } else {
+            TTLConfig[] byLevel = entry.methodConfigs.get(callingMethod);
+            if (byLevel == null) {
+                byLevel = resolveMethod(callingClass, callingMethod, entry.classConfig);
+                entry.methodConfigs.putIfAbsent(callingMethod, byLevel);
+                hit = false;
+            }
+            result = byLevel[logLevel.ordinal()];
+        }
+
+        if (hit) {
+            hits.increment();
+        } else {
+            misses.increment();
+            evictIfNecessary();
+        }
+        return result == NONE ? null : result;
+    }
+
+    /**
+     * Gets the call site for a logging context, creating it on first use.
+     *
+     * @param callingClass the class where the log statement is located
+     * @param callingMethod the method where the log statement is located
+     * @param loggerClass the class of the logger instance
+     * @param logLevel the log level being used
+     * @return the call site, or null if no annotation applies and the statement always logs
+     */
+    TTLCallSite site(Class<?> callingClass, String callingMethod, Class<?> loggerClass, LogLevel logLevel) {
+        ClassEntry entry = entries.get(callingClass);
+        SiteGroup group = entry.sites.get(callingMethod);
+        for (SiteGroup g = group; g != null; g = g.next) {
+            if (g.loggerClass == loggerClass) {
+                Object site = g.sites[logLevel.ordinal()];
+                if (site != null) {
+                    hits.increment();
+                    return site == NO_SITE ? null : (TTLCallSite) site;
+                }
+                break;
+            }
+        }
+        return createSite(entry, callingClass, callingMethod, loggerClass, logLevel);
+    }
+
+    /**
+     * Checks if the call site for a logging context was created already, without counting a lookup
+     */
+    boolean isResolved(Class<?> callingClass, String callingMethod, Class<?> loggerClass, LogLevel logLevel) {
+        for (SiteGroup g = entries.get(callingClass).sites.get(callingMethod); g != null; g = g.next) {
+            if (g.loggerClass == loggerClass) {
+                return g.sites[logLevel.ordinal()] != null;
+            }
+        }
+        return false;
+    }
+
+    private TTLCallSite createSite(ClassEntry entry, Class<?> callingClass, String callingMethod,
+                                   Class<?> loggerClass, LogLevel logLevel) {
+        TTLConfig annotationConfig = get(callingClass, callingMethod, loggerClass, logLevel);
+        synchronized (entry) {
+            SiteGroup group = entry.sites.get(callingMethod);
+            SiteGroup target = null;
+            for (SiteGroup g = group; g != null; g = g.next) {
+                if (g.loggerClass == loggerClass) {
+                    target = g;
+                    break;
+                }
+            }
+            if (target == null) {
+                target = new SiteGroup(loggerClass, group);
+                entry.sites.put(callingMethod, target);
+            }
+            Object site = target.sites[logLevel.ordinal()];
+            if (site == null) {
+                site = annotationConfig != null
+                    ? new TTLCallSite(callingClass, callingMethod, loggerClass, logLevel, annotationConfig)
+                    : NO_SITE;
+                target.sites[logLevel.ordinal()] = site;
+            }
+            return site == NO_SITE ? null : (TTLCallSite) site;
+        }
+    }
+
+    /**
+     * Resolves method and class level configuration for every log level of a method.
+     */
+    private static TTLConfig[] resolveMethod(Class<?> callingClass, String callingMethod, TTLConfig classConfig) {
+        TTLConfig methodConfig = TTLAnnotationProcessor.getMethodLevelTTL(callingClass, callingMethod);
+        TTLConfig[] byLevel = new TTLConfig[LEVELS.length];
+        for (LogLevel level : LEVELS) {
+            if (methodConfig != null && methodConfig.isLevelAffected(level)) {
+                byLevel[level.ordinal()] = methodConfig;
+            } else if (classConfig != NONE && classConfig.isLevelAffected(level)) {
+                byLevel[level.ordinal()] = classConfig;
+            } else {
+                byLevel[level.ordinal()] = NONE;
+            }
+        }
+        return byLevel;
+    }
+
+    private ClassEntry register(Class<?> type) {
+        insertionOrder.add(new WeakReference<>(type));
+        size.incrementAndGet();
+        return new ClassEntry(orNone(TTLAnnotationProcessor.getClassLevelTTL(type)));
+    }
+
+    private void evictIfNecessary() {
+        while (size.get() > maxClasses) {
+            WeakReference<Class<?>> oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            size.decrementAndGet();
+            Class<?> type = oldest.get();
+            if (type != null) {
+                entries.remove(type);
+                evictions.increment();
+            }
+        }
+    }
+
+    private static TTLConfig orNone(TTLConfig config) {
+        return config != null ? config : NONE;
+    }
+
+    /**
+     * Remove all cached entries
+     */
+    public void clear() {
+        WeakReference<Class<?>> ref;
+        while ((ref = insertionOrder.poll()) != null) {
+            size.decrementAndGet();
+            Class<?> type = ref.get();
+            if (type != null) {
+                entries.remove(type);
+            }
+        }
+    }
+
+    /**
+     * Set the maximum number of cached classes, evicting the oldest entries if needed
+     */
+    public void setMaxClasses(int maxClasses) {
+        this.maxClasses = Math.max(1, maxClasses);
+        evictIfNecessary();
+    }
+
+    /**
+     * Get the maximum number of cached classes
+     */
+    public int getMaxClasses() {
+        return maxClasses;
+    }
+
+    /**
+     * Get the approximate number of cached classes
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Get the number of lookups served entirely from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of lookups that had to inspect annotations
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the number of classes evicted because the cache was full
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "TTLConfigCache{" +
+                "size=" + size() +
+                ", maxClasses=" + maxClasses +
+                ", hits=" + getHitCount() +
+                ", misses=" + getMissCount() +
+                ", evictions=" + getEvictionCount() +
+                '}';
+    }
+
+    /**
+     * Resolved annotation data for a single calling class
+     */
+    private static final class ClassEntry {
+        private final TTLConfig classConfig;
+        private final ConcurrentMap<Class<?>, TTLConfig> fieldConfigs = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, TTLConfig[]> methodConfigs = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, SiteGroup> sites = new ConcurrentHashMap<>();
+
+        ClassEntry(TTLConfig classConfig) {
+            this.classConfig = classConfig;
+        }
+    }
+
+    /**
+     * Call sites of one method for one logger class, chained for further logger classes.
+     * Elements are written under the class entry lock; a racy read may see null, which
+     * falls back to the locked path.
+     */
+    private static final class SiteGroup {
+        private final Class<?> loggerClass;
+        private final SiteGroup next;
+        private final Object[] sites = new Object[LEVELS.length];
+
+        SiteGroup(Class<?> loggerClass, SiteGroup next) {
+            this.loggerClass = loggerClass;
+            this.next = next;
+        }
+    }
+}
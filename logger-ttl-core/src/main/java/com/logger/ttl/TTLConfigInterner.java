@@ -0,0 +1,110 @@
+package com.logger.ttl;
+
+/**
+ * Interning table for TTL configurations passed explicitly to TTLLogger methods.
+ *
+ * <p>Explicit TTL arguments are almost always compile-time constants, so each distinct
+ * (start, ttlDays, levels) tuple is parsed once and the resulting configuration is reused
+ * afterwards. The table is direct-mapped: a lookup is a hash, an array read and a field
+ * comparison, and never allocates. Colliding tuples simply replace each other, which is
+ * transparent because an entry only depends on its arguments.</p>
+ *
+ * <p>Only tuples with a valid start date are interned. Without one the expiry is counted from
+ * the creation of the configuration, so such configurations are created on every call, as
+ * they always were.</p>
+ *
+ * <p>Slots are written without synchronization. Entries only have final fields, so a reader
+ * always sees either a complete entry or a stale one, both of which are handled.</p>
+ */
+final class TTLConfigInterner {
+
+    private static final int SIZE = 1024;
+    private static final int MASK = SIZE - 1;
+
+    private static final Entry[] TABLE = new Entry[SIZE];
+
+    private TTLConfigInterner() {
+        // Utility class
+    }
+
+    /**
+     * Gets the shared configuration for the given TTL arguments, creating it on first use.
+     *
+     * @param start ISO8601 start date string, or empty string for no start restriction
+     * @param ttlDays number of days until expiration, or -1 for never expires
+     * @param levels log levels to which TTL applies, or empty array for all levels
+     * @return the interned TTL configuration
+     */
+    static TTLConfig intern(String start, int ttlDays, LogLevel[] levels) {
+        return intern(start, ttlDays, TTLConfig.levelMask(levels));
+    }
+
+    /**
+     * Gets the shared configuration for the given TTL arguments, creating it on first use.
+     *
+     * @param start ISO8601 start date string, or empty string for no start restriction
+     * @param ttlDays number of days until expiration, or -1 for never expires
+     * @param levelMask bit mask of affected log level ordinals, or 0 for all levels
+     * @return the interned TTL configuration
+     */
+    static TTLConfig intern(String start, int ttlDays, int levelMask) {
+        if (ttlDays > 0 && (start == null || start.trim().isEmpty())) {
+            return new TTLConfig(start, ttlDays, levels(levelMask));
+        }
+        int index = hash(start, ttlDays, levelMask) & MASK;
+
+        Entry entry = TABLE[index];
+        if (entry != null && entry.matches(start, ttlDays, levelMask)) {
+            return entry.config;
+        }
+
+        TTLConfig config = TTLConfig.of(start, ttlDays, levels(levelMask));
+        if (config.isAnchoredAtCreation()) {
+            // Start date that does not parse, treated as no start
+            return config;
+        }
+        TABLE[index] = new Entry(start, ttlDays, levelMask, config);
+        return config;
+    }
+
+    private static LogLevel[] levels(int levelMask) {
+        LogLevel[] all = LogLevel.values();
+        LogLevel[] levels = new LogLevel[Integer.bitCount(levelMask)];
+        int i = 0;
+        for (LogLevel level : all) {
+            if ((levelMask & (1 << level.ordinal())) != 0) {
+                levels[i++] = level;
+            }
+        }
+        return levels;
+    }
+
+    private static int hash(String start, int ttlDays, int levelMask) {
+        int h = start != null ? start.hashCode() : 0;
+        h = 31 * (31 * h + ttlDays) + levelMask;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Interned configuration together with the arguments it was created from
+     */
+    private static final class Entry {
+        private final String start;
+        private final int ttlDays;
+        private final int levelMask;
+        private final TTLConfig config;
+
+        Entry(String start, int ttlDays, int levelMask, TTLConfig config) {
+            this.start = start;
+            this.ttlDays = ttlDays;
+            this.levelMask = levelMask;
+            this.config = config;
+        }
+
+        boolean matches(String start, int ttlDays, int levelMask) {
+            return this.ttlDays == ttlDays &&
+                   this.levelMask == levelMask &&
+                   (this.start == start || (start != null && start.equals(this.start)));
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.logger.ttl;
+
+import java.lang.ref.WeakReference;
+import java.util.PriorityQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Scheduler that fires TTL transitions at the exact instants TTL windows open or close.
+ *
+ * <p>Resolved call sites register their next transition (start or expiry) here instead
+ * of checking the time on every log call. Transitions are kept in a priority queue ordered
+ * by instant and are fired by a daemon thread that compares the queue head with
+ * {@link TTLClock#current()}, so a {@link TTLClock.Manual} clock also drives them.
+ * {@link #runDueTransitions()} fires due transitions synchronously, e.g. right after a test
+ * advanced its clock.</p>
+ */
+public final class TTLExpiryScheduler {
+
+    /**
+     * Target notified when its scheduled transition instant has passed
+     */
+    public interface Transition {
+
+        /**
+         * Called once the scheduled instant has passed.
+         *
+         * @param nowMillis the current time in epoch milliseconds
+         */
+        void onTransition(long nowMillis);
+    }
+
+    // Upper bound for a single wait, so clock replacements are noticed
+    private static final long MAX_WAIT_MILLIS = 1000;
+
+    private static final TTLExpiryScheduler INSTANCE = new TTLExpiryScheduler();
+
+    private final PriorityQueue<Ticket> queue = new PriorityQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final CopyOnWriteArrayList<Consumer<TTLCallSite>> expiryListeners = new CopyOnWriteArrayList<>();
+    private int cancelled;
+
+    private TTLExpiryScheduler() {
+        Thread thread = new Thread(this::run, "ttl-expiry-scheduler");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Get the singleton instance of TTLExpiryScheduler
+     */
+    public static TTLExpiryScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Schedules a transition. The target is only weakly referenced.
+     *
+     * @param target the target to notify
+     * @param atMillis the transition instant in epoch milliseconds
+     * @return a ticket that can be cancelled, or null if the instant is {@link Long#MAX_VALUE}
+     */
+    Ticket schedule(Transition target, long atMillis) {
+        if (atMillis == Long.MAX_VALUE) {
+            return null;
+        }
+        Ticket ticket = new Ticket(atMillis, sequence.incrementAndGet(), target);
+        synchronized (queue) {
+            queue.add(ticket);
+            if (queue.peek() == ticket) {
+                queue.notifyAll();
+            }
+        }
+        return ticket;
+    }
+
+    /**
+     * Cancels a previously scheduled transition.
+     *
+     * @param ticket the ticket returned by {@link #schedule}, may be null
+     */
+    void cancel(Ticket ticket) {
+        if (ticket == null) {
+            return;
+        }
+        synchronized (queue) {
+            if (ticket.cancelled) {
+                return;
+            }
+            ticket.cancelled = true;
+            // Purge lazily once cancelled tickets dominate the queue
+            if (++cancelled > 64 && cancelled > queue.size() / 2) {
+                queue.removeIf(t -> t.cancelled);
+                cancelled = 0;
+            }
+        }
+    }
+
+    /**
+     * Fires all transitions whose instant has passed on the current clock.
+     *
+     * @return the number of transitions fired
+     */
+    public int runDueTransitions() {
+        int fired = 0;
+        long now = TTLClock.current().millis();
+        while (true) {
+            Ticket ticket;
+            synchronized (queue) {
+                ticket = queue.peek();
+                if (ticket == null || ticket.atMillis > now) {
+                    return fired;
+                }
+                queue.poll();
+                if (ticket.cancelled) {
+                    cancelled = Math.max(0, cancelled - 1);
+                    continue;
+                }
+            }
+            Transition target = ticket.target.get();
+            if (target != null) {
+                try {
+                    target.onTransition(now);
+                    fired++;
+                } catch (RuntimeException e) {
+                    System.err.println("Error in TTL transition: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the number of pending transitions, including cancelled ones not yet purged
+     */
+    public int getPendingCount() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * Add a listener notified when a call site expires
+     */
+    public void addExpiryListener(Consumer<TTLCallSite> listener) {
+        if (listener != null) {
+            expiryListeners.add(listener);
+        }
+    }
+
+    /**
+     * Remove a call site expiry listener
+     */
+    public void removeExpiryListener(Consumer<TTLCallSite> listener) {
+        expiryListeners.remove(listener);
+    }
+
+    void fireExpired(TTLCallSite site) {
+        for (Consumer<TTLCallSite> listener : expiryListeners) {
+            try {
+                listener.accept(site);
+            } catch (RuntimeException e) {
+                System.err.println("Error in TTL expiry listener: " + e.getMessage());
+            }
+        }
+    }
+
+    private void run() {
+        while (true) {
+            try {
+                synchronized (queue) {
+                    Ticket head = queue.peek();
+                    long wait = head == null
+                        ? MAX_WAIT_MILLIS
+                        : Math.min(MAX_WAIT_MILLIS, head.atMillis - TTLClock.current().millis());
+                    if (wait > 0) {
+                        queue.wait(wait);
+                    }
+                }
+                runDueTransitions();
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                System.err.println("Error in TTL expiry scheduler: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Scheduled transition, ordered by instant and then by scheduling order
+     */
+    static final class Ticket implements Comparable<Ticket> {
+        private final long atMillis;
+        private final long sequence;
+        private final WeakReference<Transition> target;
+        private boolean cancelled;
+
+        Ticket(long atMillis, long sequence, Transition target) {
+            this.atMillis = atMillis;
+            this.sequence = sequence;
+            this.target = new WeakReference<>(target);
+        }
+
+        @Override
+        public int compareTo(Ticket other) {
+            int result = Long.compare(atMillis, other.atMillis);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+}
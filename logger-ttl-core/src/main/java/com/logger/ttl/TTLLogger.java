@@ -0,0 +1,1022 @@
+package com.logger.ttl;
+
+import com.logger.ttl.log4j2.TTLLog4j2Backend;
+import com.logger.ttl.slf4j.TTLSlf4jLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.util.function.Supplier;
+
+/**
+ * TTL-enabled logger that wraps SLF4J Logger and applies TTL rules
+ * based on LogTTL annotations.
+ * 
+ * <p>This logger automatically inspects the calling context to determine
+ * TTL configuration and skips log statements that have expired or are
+ * not affected by TTL rules.</p>
+ * 
+ * <p>Placeholder, exception and supplier overloads check the delegate level and the
+ * TTL before the message is formatted or the supplier is called. Arguments of primitive
+ * type are still boxed by the caller; guard such statements with {@link #isTTLActive(LogLevel)}
+ * or use a supplier. Statements whose TTL comes from annotations walk the stack for their
+ * caller, which allocates stack frames; statements below the delegate level or with an
+ * explicit TTL allocate nothing.</p>
+ * 
+ * <p>Explicit TTL overloads exist with one to three levels so that calls such as
+ * {@code info(msg, start, ttlDays, LogLevel.DEBUG)} are not ambiguous with the placeholder
+ * varargs overload; pass a {@code LogLevel[]} for more levels, or an empty one for all levels.
+ * The deprecated overloads without a level still bind calls with a string and an {@code int}
+ * argument, such as {@code info("user {} retried {} times", user, retries)}, to a TTL for all
+ * levels; cast an argument to {@code Object} to format it instead.</p>
+ * 
+ * <p>Statements are written through a {@link TTLLoggerBackend}. When Log4j2 implements SLF4J
+ * this is {@link TTLLog4j2Backend}, which hands Log4j2 the caller location TTL resolved anyway.
+ * Set the {@code logger.ttl.backend} system property to {@code slf4j} to log through the
+ * SLF4J logger instead.</p>
+ */
+public class TTLLogger {
+    
+    // Class of SLF4J loggers provided by log4j-slf4j2-impl
+    private static final String LOG4J2_SLF4J_LOGGER = "org.apache.logging.slf4j.Log4jLogger";
+    
+    private final Logger delegate;
+    private final Class<?> loggerClass;
+    private final TTLLoggerBackend backend;
+    
+    /**
+     * Creates a new TTL logger.
+     * 
+     * @param delegate the underlying SLF4J logger
+     * @param loggerClass the class of the logger instance
+     */
+    TTLLogger(Logger delegate, Class<?> loggerClass) {
+        this(delegate, loggerClass, backendFor(TTLSlf4jLogger.unwrap(delegate)));
+    }
+    
+    /**
+     * Creates a new TTL logger writing to the given backend.
+     * 
+     * @param delegate the underlying SLF4J logger
+     * @param loggerClass the class of the logger instance
+     * @param backend the backend writing the statements
+     */
+    TTLLogger(Logger delegate, Class<?> loggerClass, TTLLoggerBackend backend) {
+        // TTL is applied here, not again by a logger from TTLServiceProvider
+        this.delegate = TTLSlf4jLogger.unwrap(delegate);
+        this.loggerClass = loggerClass;
+        this.backend = backend;
+    }
+    
+    /**
+     * Creates a new TTL logger for the specified class.
+     * 
+     * @param clazz the class to create a logger for
+     * @return a new TTL logger instance
+     */
+    public static TTLLogger getLogger(Class<?> clazz) {
+        Logger delegate = LoggerFactory.getLogger(clazz);
+        return new TTLLogger(delegate, clazz);
+    }
+    
+    /**
+     * Creates a new TTL logger for the specified name.
+     * 
+     * @param name the name of the logger
+     * @return a new TTL logger instance
+     */
+    public static TTLLogger getLogger(String name) {
+        Logger delegate = LoggerFactory.getLogger(name);
+        return new TTLLogger(delegate, null);
+    }
+    
+    // TRACE level methods
+    
+    /**
+     * Logs a TRACE level message with TTL checking.
+     * 
+     * @param msg the message to log
+     */
+    public void trace(String msg) {
+        StackTraceElement location = locate(LogLevel.TRACE);
+        if (location != null) {
+            backend.log(LogLevel.TRACE, known(location), msg);
+        }
+    }
+    
+    /**
+     * Logs a TRACE level message with explicit TTL configuration.
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @param levels affected log levels
+     */
+    public void trace(String msg, String start, int ttlDays, LogLevel... levels) {
+        TTLConfig config = TTLConfigInterner.intern(start, ttlDays, levels);
+        if (config.shouldLog(LogLevel.TRACE)) {
+            backend.log(LogLevel.TRACE, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a TRACE level message with explicit TTL configuration affecting all levels.
+     * 
+     * <p>Kept for callers of earlier versions. A call with a string and an {@code int} argument
+     * binds to this overload even when meant as a placeholder call; cast an argument to
+     * {@code Object} to format it instead.</p>
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @deprecated pass an empty {@code LogLevel[]} for all levels
+     */
+    @Deprecated
+    public void trace(String msg, String start, int ttlDays) {
+        if (TTLConfigInterner.intern(start, ttlDays, 0).shouldLog(LogLevel.TRACE)) {
+            backend.log(LogLevel.TRACE, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a TRACE level message with explicit TTL configuration affecting one level.
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @param level affected log level
+     */
+    public void trace(String msg, String start, int ttlDays, LogLevel level) {
+        if (TTLConfigInterner.intern(start, ttlDays, bit(level)).shouldLog(LogLevel.TRACE)) {
+            backend.log(LogLevel.TRACE, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a TRACE level message with explicit TTL configuration affecting two levels.
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @param level1 first affected log level
+     * @param level2 second affected log level
+     */
+    public void trace(String msg, String start, int ttlDays, LogLevel level1, LogLevel level2) {
+        if (TTLConfigInterner.intern(start, ttlDays, bit(level1) | bit(level2)).shouldLog(LogLevel.TRACE)) {
+            backend.log(LogLevel.TRACE, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a TRACE level message with explicit TTL configuration affecting three levels.
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @param level1 first affected log level
+     * @param level2 second affected log level
+     * @param level3 third affected log level
+     */
+    public void trace(String msg, String start, int ttlDays, LogLevel level1, LogLevel level2, LogLevel level3) {
+        if (TTLConfigInterner.intern(start, ttlDays, bit(level1) | bit(level2) | bit(level3)).shouldLog(LogLevel.TRACE)) {
+            backend.log(LogLevel.TRACE, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a TRACE level message with one placeholder argument, formatted only if the
+     * statement is logged.
+     * 
+     * @param format the message format with {@code {}} placeholders
+     * @param arg the argument
+     */
+    public void trace(String format, Object arg) {
+        StackTraceElement location = locateIfEnabled(LogLevel.TRACE);
+        if (location != null) {
+            backend.log(LogLevel.TRACE, known(location), format, arg);
+        }
+    }
+    
+    /**
+     * Logs a TRACE level message with two placeholder arguments, formatted only if the
+     * statement is logged.
+     * 
+     * @param format the message format with {@code {}} placeholders
+     * @param arg1 the first argument
+     * @param arg2 the second argument
+     */
+    public void trace(String format, Object arg1, Object arg2) {
+        StackTraceElement location = locateIfEnabled(LogLevel.TRACE);
+        if (location != null) {
+            backend.log(LogLevel.TRACE, known(location), format, arg1, arg2);
+        }
+    }
+    
+    /**
+     * Logs a TRACE level message with placeholder arguments, formatted only if the
+     * statement is logged.
+     * 
+     * @param format the message format with {@code {}} placeholders
+     * @param arguments the arguments
+     */
+    public void trace(String format, Object... arguments) {
+        StackTraceElement location = locateIfEnabled(LogLevel.TRACE);
+        if (location != null) {
+            backend.log(LogLevel.TRACE, known(location), format, arguments);
+        }
+    }
+    
+    /**
+     * Logs a TRACE level message with an exception.
+     * 
+     * @param msg the message to log
+     * @param t the exception to log
+     */
+    public void trace(String msg, Throwable t) {
+        StackTraceElement location = locateIfEnabled(LogLevel.TRACE);
+        if (location != null) {
+            backend.log(LogLevel.TRACE, known(location), msg, t);
+        }
+    }
+    
+    /**
+     * Logs a TRACE level message built by the supplier, which is only called if the
+     * statement is logged.
+     * 
+     * @param msgSupplier the supplier of the message
+     */
+    public void trace(Supplier<String> msgSupplier) {
+        StackTraceElement location = locateIfEnabled(LogLevel.TRACE);
+        if (location != null) {
+            backend.log(LogLevel.TRACE, known(location), msgSupplier.get());
+        }
+    }
+    
+    // DEBUG level methods
+    
+    /**
+     * Logs a DEBUG level message with TTL checking.
+     * 
+     * @param msg the message to log
+     */
+    public void debug(String msg) {
+        StackTraceElement location = locate(LogLevel.DEBUG);
+        if (location != null) {
+            backend.log(LogLevel.DEBUG, known(location), msg);
+        }
+    }
+    
+    /**
+     * Logs a DEBUG level message with explicit TTL configuration.
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @param levels affected log levels
+     */
+    public void debug(String msg, String start, int ttlDays, LogLevel... levels) {
+        TTLConfig config = TTLConfigInterner.intern(start, ttlDays, levels);
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            backend.log(LogLevel.DEBUG, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a DEBUG level message with explicit TTL configuration affecting all levels.
+     * 
+     * <p>Kept for callers of earlier versions. A call with a string and an {@code int} argument
+     * binds to this overload even when meant as a placeholder call; cast an argument to
+     * {@code Object} to format it instead.</p>
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @deprecated pass an empty {@code LogLevel[]} for all levels
+     */
+    @Deprecated
+    public void debug(String msg, String start, int ttlDays) {
+        if (TTLConfigInterner.intern(start, ttlDays, 0).shouldLog(LogLevel.DEBUG)) {
+            backend.log(LogLevel.DEBUG, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a DEBUG level message with explicit TTL configuration affecting one level.
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @param level affected log level
+     */
+    public void debug(String msg, String start, int ttlDays, LogLevel level) {
+        if (TTLConfigInterner.intern(start, ttlDays, bit(level)).shouldLog(LogLevel.DEBUG)) {
+            backend.log(LogLevel.DEBUG, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a DEBUG level message with explicit TTL configuration affecting two levels.
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @param level1 first affected log level
+     * @param level2 second affected log level
+     */
+    public void debug(String msg, String start, int ttlDays, LogLevel level1, LogLevel level2) {
+        if (TTLConfigInterner.intern(start, ttlDays, bit(level1) | bit(level2)).shouldLog(LogLevel.DEBUG)) {
+            backend.log(LogLevel.DEBUG, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a DEBUG level message with explicit TTL configuration affecting three levels.
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @param level1 first affected log level
+     * @param level2 second affected log level
+     * @param level3 third affected log level
+     */
+    public void debug(String msg, String start, int ttlDays, LogLevel level1, LogLevel level2, LogLevel level3) {
+        if (TTLConfigInterner.intern(start, ttlDays, bit(level1) | bit(level2) | bit(level3)).shouldLog(LogLevel.DEBUG)) {
+            backend.log(LogLevel.DEBUG, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a DEBUG level message with one placeholder argument, formatted only if the
+     * statement is logged.
+     * 
+     * @param format the message format with {@code {}} placeholders
+     * @param arg the argument
+     */
+    public void debug(String format, Object arg) {
+        StackTraceElement location = locateIfEnabled(LogLevel.DEBUG);
+        if (location != null) {
+            backend.log(LogLevel.DEBUG, known(location), format, arg);
+        }
+    }
+    
+    /**
+     * Logs a DEBUG level message with two placeholder arguments, formatted only if the
+     * statement is logged.
+     * 
+     * @param format the message format with {@code {}} placeholders
+     * @param arg1 the first argument
+     * @param arg2 the second argument
+     */
+    public void debug(String format, Object arg1, Object arg2) {
+        StackTraceElement location = locateIfEnabled(LogLevel.DEBUG);
+        if (location != null) {
+            backend.log(LogLevel.DEBUG, known(location), format, arg1, arg2);
+        }
+    }
+    
+    /**
+     * Logs a DEBUG level message with placeholder arguments, formatted only if the
+     * statement is logged.
+     * 
+     * @param format the message format with {@code {}} placeholders
+     * @param arguments the arguments
+     */
+    public void debug(String format, Object... arguments) {
+        StackTraceElement location = locateIfEnabled(LogLevel.DEBUG);
+        if (location != null) {
+            backend.log(LogLevel.DEBUG, known(location), format, arguments);
+        }
+    }
+    
+    /**
+     * Logs a DEBUG level message with an exception.
+     * 
+     * @param msg the message to log
+     * @param t the exception to log
+     */
+    public void debug(String msg, Throwable t) {
+        StackTraceElement location = locateIfEnabled(LogLevel.DEBUG);
+        if (location != null) {
+            backend.log(LogLevel.DEBUG, known(location), msg, t);
+        }
+    }
+    
+    /**
+     * Logs a DEBUG level message built by the supplier, which is only called if the
+     * statement is logged.
+     * 
+     * @param msgSupplier the supplier of the message
+     */
+    public void debug(Supplier<String> msgSupplier) {
+        StackTraceElement location = locateIfEnabled(LogLevel.DEBUG);
+        if (location != null) {
+            backend.log(LogLevel.DEBUG, known(location), msgSupplier.get());
+        }
+    }
+    
+    // INFO level methods
+    
+    /**
+     * Logs an INFO level message with TTL checking.
+     * 
+     * @param msg the message to log
+     */
+    public void info(String msg) {
+        StackTraceElement location = locate(LogLevel.INFO);
+        if (location != null) {
+            backend.log(LogLevel.INFO, known(location), msg);
+        }
+    }
+    
+    /**
+     * Logs an INFO level message with explicit TTL configuration.
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @param levels affected log levels
+     */
+    public void info(String msg, String start, int ttlDays, LogLevel... levels) {
+        TTLConfig config = TTLConfigInterner.intern(start, ttlDays, levels);
+        if (config.shouldLog(LogLevel.INFO)) {
+            backend.log(LogLevel.INFO, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a INFO level message with explicit TTL configuration affecting all levels.
+     * 
+     * <p>Kept for callers of earlier versions. A call with a string and an {@code int} argument
+     * binds to this overload even when meant as a placeholder call; cast an argument to
+     * {@code Object} to format it instead.</p>
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @deprecated pass an empty {@code LogLevel[]} for all levels
+     */
+    @Deprecated
+    public void info(String msg, String start, int ttlDays) {
+        if (TTLConfigInterner.intern(start, ttlDays, 0).shouldLog(LogLevel.INFO)) {
+            backend.log(LogLevel.INFO, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a INFO level message with explicit TTL configuration affecting one level.
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @param level affected log level
+     */
+    public void info(String msg, String start, int ttlDays, LogLevel level) {
+        if (TTLConfigInterner.intern(start, ttlDays, bit(level)).shouldLog(LogLevel.INFO)) {
+            backend.log(LogLevel.INFO, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a INFO level message with explicit TTL configuration affecting two levels.
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @param level1 first affected log level
+     * @param level2 second affected log level
+     */
+    public void info(String msg, String start, int ttlDays, LogLevel level1, LogLevel level2) {
+        if (TTLConfigInterner.intern(start, ttlDays, bit(level1) | bit(level2)).shouldLog(LogLevel.INFO)) {
+            backend.log(LogLevel.INFO, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a INFO level message with explicit TTL configuration affecting three levels.
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @param level1 first affected log level
+     * @param level2 second affected log level
+     * @param level3 third affected log level
+     */
+    public void info(String msg, String start, int ttlDays, LogLevel level1, LogLevel level2, LogLevel level3) {
+        if (TTLConfigInterner.intern(start, ttlDays, bit(level1) | bit(level2) | bit(level3)).shouldLog(LogLevel.INFO)) {
+            backend.log(LogLevel.INFO, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a INFO level message with one placeholder argument, formatted only if the
+     * statement is logged.
+     * 
+     * @param format the message format with {@code {}} placeholders
+     * @param arg the argument
+     */
+    public void info(String format, Object arg) {
+        StackTraceElement location = locateIfEnabled(LogLevel.INFO);
+        if (location != null) {
+            backend.log(LogLevel.INFO, known(location), format, arg);
+        }
+    }
+    
+    /**
+     * Logs a INFO level message with two placeholder arguments, formatted only if the
+     * statement is logged.
+     * 
+     * @param format the message format with {@code {}} placeholders
+     * @param arg1 the first argument
+     * @param arg2 the second argument
+     */
+    public void info(String format, Object arg1, Object arg2) {
+        StackTraceElement location = locateIfEnabled(LogLevel.INFO);
+        if (location != null) {
+            backend.log(LogLevel.INFO, known(location), format, arg1, arg2);
+        }
+    }
+    
+    /**
+     * Logs a INFO level message with placeholder arguments, formatted only if the
+     * statement is logged.
+     * 
+     * @param format the message format with {@code {}} placeholders
+     * @param arguments the arguments
+     */
+    public void info(String format, Object... arguments) {
+        StackTraceElement location = locateIfEnabled(LogLevel.INFO);
+        if (location != null) {
+            backend.log(LogLevel.INFO, known(location), format, arguments);
+        }
+    }
+    
+    /**
+     * Logs a INFO level message with an exception.
+     * 
+     * @param msg the message to log
+     * @param t the exception to log
+     */
+    public void info(String msg, Throwable t) {
+        StackTraceElement location = locateIfEnabled(LogLevel.INFO);
+        if (location != null) {
+            backend.log(LogLevel.INFO, known(location), msg, t);
+        }
+    }
+    
+    /**
+     * Logs a INFO level message built by the supplier, which is only called if the
+     * statement is logged.
+     * 
+     * @param msgSupplier the supplier of the message
+     */
+    public void info(Supplier<String> msgSupplier) {
+        StackTraceElement location = locateIfEnabled(LogLevel.INFO);
+        if (location != null) {
+            backend.log(LogLevel.INFO, known(location), msgSupplier.get());
+        }
+    }
+    
+    // WARN level methods
+    
+    /**
+     * Logs a WARN level message with TTL checking.
+     * 
+     * @param msg the message to log
+     */
+    public void warn(String msg) {
+        StackTraceElement location = locate(LogLevel.WARN);
+        if (location != null) {
+            backend.log(LogLevel.WARN, known(location), msg);
+        }
+    }
+    
+    /**
+     * Logs a WARN level message with explicit TTL configuration.
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @param levels affected log levels
+     */
+    public void warn(String msg, String start, int ttlDays, LogLevel... levels) {
+        TTLConfig config = TTLConfigInterner.intern(start, ttlDays, levels);
+        if (config.shouldLog(LogLevel.WARN)) {
+            backend.log(LogLevel.WARN, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a WARN level message with explicit TTL configuration affecting all levels.
+     * 
+     * <p>Kept for callers of earlier versions. A call with a string and an {@code int} argument
+     * binds to this overload even when meant as a placeholder call; cast an argument to
+     * {@code Object} to format it instead.</p>
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @deprecated pass an empty {@code LogLevel[]} for all levels
+     */
+    @Deprecated
+    public void warn(String msg, String start, int ttlDays) {
+        if (TTLConfigInterner.intern(start, ttlDays, 0).shouldLog(LogLevel.WARN)) {
+            backend.log(LogLevel.WARN, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a WARN level message with explicit TTL configuration affecting one level.
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @param level affected log level
+     */
+    public void warn(String msg, String start, int ttlDays, LogLevel level) {
+        if (TTLConfigInterner.intern(start, ttlDays, bit(level)).shouldLog(LogLevel.WARN)) {
+            backend.log(LogLevel.WARN, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a WARN level message with explicit TTL configuration affecting two levels.
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @param level1 first affected log level
+     * @param level2 second affected log level
+     */
+    public void warn(String msg, String start, int ttlDays, LogLevel level1, LogLevel level2) {
+        if (TTLConfigInterner.intern(start, ttlDays, bit(level1) | bit(level2)).shouldLog(LogLevel.WARN)) {
+            backend.log(LogLevel.WARN, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a WARN level message with explicit TTL configuration affecting three levels.
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @param level1 first affected log level
+     * @param level2 second affected log level
+     * @param level3 third affected log level
+     */
+    public void warn(String msg, String start, int ttlDays, LogLevel level1, LogLevel level2, LogLevel level3) {
+        if (TTLConfigInterner.intern(start, ttlDays, bit(level1) | bit(level2) | bit(level3)).shouldLog(LogLevel.WARN)) {
+            backend.log(LogLevel.WARN, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a WARN level message with one placeholder argument, formatted only if the
+     * statement is logged.
+     * 
+     * @param format the message format with {@code {}} placeholders
+     * @param arg the argument
+     */
+    public void warn(String format, Object arg) {
+        StackTraceElement location = locateIfEnabled(LogLevel.WARN);
+        if (location != null) {
+            backend.log(LogLevel.WARN, known(location), format, arg);
+        }
+    }
+    
+    /**
+     * Logs a WARN level message with two placeholder arguments, formatted only if the
+     * statement is logged.
+     * 
+     * @param format the message format with {@code {}} placeholders
+     * @param arg1 the first argument
+     * @param arg2 the second argument
+     */
+    public void warn(String format, Object arg1, Object arg2) {
+        StackTraceElement location = locateIfEnabled(LogLevel.WARN);
+        if (location != null) {
+            backend.log(LogLevel.WARN, known(location), format, arg1, arg2);
+        }
+    }
+    
+    /**
+     * Logs a WARN level message with placeholder arguments, formatted only if the
+     * statement is logged.
+     * 
+     * @param format the message format with {@code {}} placeholders
+     * @param arguments the arguments
+     */
+    public void warn(String format, Object... arguments) {
+        StackTraceElement location = locateIfEnabled(LogLevel.WARN);
+        if (location != null) {
+            backend.log(LogLevel.WARN, known(location), format, arguments);
+        }
+    }
+    
+    /**
+     * Logs a WARN level message with an exception.
+     * 
+     * @param msg the message to log
+     * @param t the exception to log
+     */
+    public void warn(String msg, Throwable t) {
+        StackTraceElement location = locateIfEnabled(LogLevel.WARN);
+        if (location != null) {
+            backend.log(LogLevel.WARN, known(location), msg, t);
+        }
+    }
+    
+    /**
+     * Logs a WARN level message built by the supplier, which is only called if the
+     * statement is logged.
+     * 
+     * @param msgSupplier the supplier of the message
+     */
+    public void warn(Supplier<String> msgSupplier) {
+        StackTraceElement location = locateIfEnabled(LogLevel.WARN);
+        if (location != null) {
+            backend.log(LogLevel.WARN, known(location), msgSupplier.get());
+        }
+    }
+    
+    // ERROR level methods
+    
+    /**
+     * Logs an ERROR level message with TTL checking.
+     * 
+     * @param msg the message to log
+     */
+    public void error(String msg) {
+        StackTraceElement location = locate(LogLevel.ERROR);
+        if (location != null) {
+            backend.log(LogLevel.ERROR, known(location), msg);
+        }
+    }
+    
+    /**
+     * Logs an ERROR level message with explicit TTL configuration.
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @param levels affected log levels
+     */
+    public void error(String msg, String start, int ttlDays, LogLevel... levels) {
+        TTLConfig config = TTLConfigInterner.intern(start, ttlDays, levels);
+        if (config.shouldLog(LogLevel.ERROR)) {
+            backend.log(LogLevel.ERROR, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a ERROR level message with explicit TTL configuration affecting all levels.
+     * 
+     * <p>Kept for callers of earlier versions. A call with a string and an {@code int} argument
+     * binds to this overload even when meant as a placeholder call; cast an argument to
+     * {@code Object} to format it instead.</p>
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @deprecated pass an empty {@code LogLevel[]} for all levels
+     */
+    @Deprecated
+    public void error(String msg, String start, int ttlDays) {
+        if (TTLConfigInterner.intern(start, ttlDays, 0).shouldLog(LogLevel.ERROR)) {
+            backend.log(LogLevel.ERROR, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a ERROR level message with explicit TTL configuration affecting one level.
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @param level affected log level
+     */
+    public void error(String msg, String start, int ttlDays, LogLevel level) {
+        if (TTLConfigInterner.intern(start, ttlDays, bit(level)).shouldLog(LogLevel.ERROR)) {
+            backend.log(LogLevel.ERROR, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a ERROR level message with explicit TTL configuration affecting two levels.
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @param level1 first affected log level
+     * @param level2 second affected log level
+     */
+    public void error(String msg, String start, int ttlDays, LogLevel level1, LogLevel level2) {
+        if (TTLConfigInterner.intern(start, ttlDays, bit(level1) | bit(level2)).shouldLog(LogLevel.ERROR)) {
+            backend.log(LogLevel.ERROR, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a ERROR level message with explicit TTL configuration affecting three levels.
+     * 
+     * @param msg the message to log
+     * @param start ISO8601 start date
+     * @param ttlDays TTL in days
+     * @param level1 first affected log level
+     * @param level2 second affected log level
+     * @param level3 third affected log level
+     */
+    public void error(String msg, String start, int ttlDays, LogLevel level1, LogLevel level2, LogLevel level3) {
+        if (TTLConfigInterner.intern(start, ttlDays, bit(level1) | bit(level2) | bit(level3)).shouldLog(LogLevel.ERROR)) {
+            backend.log(LogLevel.ERROR, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a ERROR level message with one placeholder argument, formatted only if the
+     * statement is logged.
+     * 
+     * @param format the message format with {@code {}} placeholders
+     * @param arg the argument
+     */
+    public void error(String format, Object arg) {
+        StackTraceElement location = locateIfEnabled(LogLevel.ERROR);
+        if (location != null) {
+            backend.log(LogLevel.ERROR, known(location), format, arg);
+        }
+    }
+    
+    /**
+     * Logs a ERROR level message with two placeholder arguments, formatted only if the
+     * statement is logged.
+     * 
+     * @param format the message format with {@code {}} placeholders
+     * @param arg1 the first argument
+     * @param arg2 the second argument
+     */
+    public void error(String format, Object arg1, Object arg2) {
+        StackTraceElement location = locateIfEnabled(LogLevel.ERROR);
+        if (location != null) {
+            backend.log(LogLevel.ERROR, known(location), format, arg1, arg2);
+        }
+    }
+    
+    /**
+     * Logs a ERROR level message with placeholder arguments, formatted only if the
+     * statement is logged.
+     * 
+     * @param format the message format with {@code {}} placeholders
+     * @param arguments the arguments
+     */
+    public void error(String format, Object... arguments) {
+        StackTraceElement location = locateIfEnabled(LogLevel.ERROR);
+        if (location != null) {
+            backend.log(LogLevel.ERROR, known(location), format, arguments);
+        }
+    }
+    
+    /**
+     * Logs a ERROR level message with an exception.
+     * 
+     * @param msg the message to log
+     * @param t the exception to log
+     */
+    public void error(String msg, Throwable t) {
+        StackTraceElement location = locateIfEnabled(LogLevel.ERROR);
+        if (location != null) {
+            backend.log(LogLevel.ERROR, known(location), msg, t);
+        }
+    }
+    
+    /**
+     * Logs a ERROR level message built by the supplier, which is only called if the
+     * statement is logged.
+     * 
+     * @param msgSupplier the supplier of the message
+     */
+    public void error(Supplier<String> msgSupplier) {
+        StackTraceElement location = locateIfEnabled(LogLevel.ERROR);
+        if (location != null) {
+            backend.log(LogLevel.ERROR, known(location), msgSupplier.get());
+        }
+    }
+    
+    // Utility methods
+    
+    /**
+     * Checks if the specified log level is enabled.
+     * 
+     * @param level the log level to check
+     * @return true if the level is enabled
+     */
+    public boolean isEnabledFor(LogLevel level) {
+        return backend.isEnabled(level);
+    }
+    
+    /**
+     * Checks if a statement at the specified level would be logged, i.e. the level is
+     * enabled in the underlying logger and the TTL of the calling site has not expired.
+     * 
+     * <p>Use it to guard expensive message construction:</p>
+     * <pre>
+     * if (logger.isTTLActive(LogLevel.DEBUG)) {
+     *     logger.debug("State: " + dumpState());
+     * }
+     * </pre>
+     * 
+     * @param level the log level to check
+     * @return true if a statement at this level would be logged
+     */
+    public boolean isTTLActive(LogLevel level) {
+        return isEnabledFor(level) && shouldLog(level);
+    }
+    
+    /**
+     * Creates a TTL gate for log statements of this logger's class in the given method.
+     * 
+     * <p>Store the gate in a {@code static final} field and guard log statements with
+     * {@code (boolean) gate.invokeExact()} so the JIT can fold the decision into a constant.
+     * See {@link TTLCallSites}.</p>
+     * 
+     * @param methodName the method containing the log statements, or null for class-level rules only
+     * @param level the log level of the statements
+     * @return a {@code ()boolean} method handle returning true while the statements should log
+     */
+    public MethodHandle gate(String methodName, LogLevel level) {
+        return TTLCallSites.gate(loggerClass, methodName, loggerClass, level);
+    }
+    
+    /**
+     * Gets the underlying SLF4J logger.
+     * 
+     * @return the underlying logger
+     */
+    public Logger getDelegate() {
+        return delegate;
+    }
+    
+    /**
+     * Gets the backend that writes the statements of this logger.
+     * 
+     * @return the backend
+     */
+    public TTLLoggerBackend getBackend() {
+        return backend;
+    }
+    
+    /**
+     * Determines if a log statement should be executed based on TTL rules.
+     * 
+     * @param level the log level
+     * @return true if the log should be executed
+     */
+    boolean shouldLog(LogLevel level) {
+        if (loggerClass == null) {
+            // If we can't determine the logger class, always log
+            return true;
+        }
+        
+        return TTLAnnotationProcessor.shouldLog(loggerClass, level);
+    }
+    
+    /**
+     * Checks the TTL of a statement, resolving its location if the backend uses it.
+     * 
+     * @param level the log level
+     * @return the location, {@link TTLAnnotationProcessor#UNKNOWN_LOCATION} if it was not
+     *         resolved, or null if the statement should not be executed
+     */
+    StackTraceElement locate(LogLevel level) {
+        if (loggerClass == null || !backend.usesLocation()) {
+            return shouldLog(level) ? TTLAnnotationProcessor.UNKNOWN_LOCATION : null;
+        }
+        return TTLAnnotationProcessor.locate(loggerClass, level);
+    }
+    
+    private StackTraceElement locateIfEnabled(LogLevel level) {
+        return backend.isEnabled(level) ? locate(level) : null;
+    }
+    
+    private static StackTraceElement known(StackTraceElement location) {
+        return location != TTLAnnotationProcessor.UNKNOWN_LOCATION ? location : null;
+    }
+    
+    /**
+     * Selects the Log4j2 backend when Log4j2 implements SLF4J, unless the
+     * {@code logger.ttl.backend} system property is {@code slf4j}.
+     */
+    private static TTLLoggerBackend backendFor(Logger delegate) {
+        if (!"slf4j".equalsIgnoreCase(System.getProperty("logger.ttl.backend"))
+                && LOG4J2_SLF4J_LOGGER.equals(delegate.getClass().getName())) {
+            try {
+                return TTLLog4j2Backend.getBackend(delegate.getName());
+            } catch (LinkageError e) {
+                // Log4j2 API not visible to this class loader
+            }
+        }
+        return new TTLSlf4jBackend(delegate);
+    }
+    
+    private static int bit(LogLevel level) {
+        return level != null ? 1 << level.ordinal() : 0;
+    }
+}
@@ -0,0 +1,32 @@
+package com.logger.ttl;
+
+/**
+ * Logging implementation receiving the statements a {@link TTLLogger} lets through.
+ *
+ * <p>Statements arrive after their TTL was checked. A backend that {@link #usesLocation() uses
+ * the location} receives the caller frame TTL already resolved, so the logging implementation
+ * does not have to walk the stack a second time. The location is null when it was not resolved,
+ * as for explicit TTL overloads, and the implementation then determines it itself.</p>
+ */
+public interface TTLLoggerBackend {
+
+    /**
+     * Check if the logging implementation has the level enabled
+     */
+    boolean isEnabled(LogLevel level);
+
+    /**
+     * Check if statements should be passed the location of their caller
+     */
+    boolean usesLocation();
+
+    void log(LogLevel level, StackTraceElement location, String msg);
+
+    void log(LogLevel level, StackTraceElement location, String format, Object arg);
+
+    void log(LogLevel level, StackTraceElement location, String format, Object arg1, Object arg2);
+
+    void log(LogLevel level, StackTraceElement location, String format, Object... arguments);
+
+    void log(LogLevel level, StackTraceElement location, String msg, Throwable t);
+}
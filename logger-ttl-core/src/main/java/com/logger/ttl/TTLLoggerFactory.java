@@ -38,6 +38,17 @@ public class TTLLoggerFactory {
         return TTLLogger.getLogger(name);
     }
     
+    /**
+     * Creates a TTL logger for the specified class writing to the given backend.
+     * 
+     * @param clazz the class to create a logger for
+     * @param backend the backend writing the statements
+     * @return a TTL logger instance
+     */
+    public static TTLLogger getLogger(Class<?> clazz, TTLLoggerBackend backend) {
+        return new TTLLogger(org.slf4j.LoggerFactory.getLogger(clazz), clazz, backend);
+    }
+    
     /**
      * Creates a TTL logger for the specified class with explicit TTL configuration.
      * 
@@ -83,38 +94,13 @@ public class TTLLoggerFactory {
         }
         
         @Override
-        public void trace(String msg) {
-            if (explicitConfig.shouldLog(LogLevel.TRACE)) {
-                super.trace(msg);
-            }
-        }
-        
-        @Override
-        public void debug(String msg) {
-            if (explicitConfig.shouldLog(LogLevel.DEBUG)) {
-                super.debug(msg);
-            }
-        }
-        
-        @Override
-        public void info(String msg) {
-            if (explicitConfig.shouldLog(LogLevel.INFO)) {
-                super.info(msg);
-            }
-        }
-        
-        @Override
-        public void warn(String msg) {
-            if (explicitConfig.shouldLog(LogLevel.WARN)) {
-                super.warn(msg);
-            }
+        boolean shouldLog(LogLevel level) {
+            return explicitConfig.shouldLog(level) && super.shouldLog(level);
         }
         
         @Override
-        public void error(String msg) {
-            if (explicitConfig.shouldLog(LogLevel.ERROR)) {
-                super.error(msg);
-            }
+        StackTraceElement locate(LogLevel level) {
+            return explicitConfig.shouldLog(level) ? super.locate(level) : null;
         }
     }
 }
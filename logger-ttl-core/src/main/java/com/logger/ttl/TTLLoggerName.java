@@ -0,0 +1,286 @@
+package com.logger.ttl;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TTL resolution of a logger name, for logging backends whose loggers are named after the
+ * class they log from, as with {@code LoggerFactory.getLogger(MyClass.class)}.
+ *
+ * <p>The named class and whether it carries {@link LogTTL} annotations are resolved once, from the
+ * {@link TTLRegistry} when the class is listed in one. Like the TTL core, annotations of
+ * superclasses count, and class annotations of interfaces. Classes without annotations, or whose
+ * annotations cannot be read, resolve to {@link #UNMANAGED}, names that are not classes to
+ * {@link #UNKNOWN}; neither is ever affected by TTL. Only for levels covered by an annotated
+ * method, or by any annotation while a method of the class has a runtime override, is the stack
+ * walked for the calling method. Other levels are decided by class and field rules, through a
+ * {@link TTLCallSite} cached per level.</p>
+ */
+public final class TTLLoggerName {
+
+    // Initialized before the constants below, whose constructor uses it
+    private static final LogLevel[] LEVELS = LogLevel.values();
+
+    /**
+     * Resolution of logger names that TTL does not apply to
+     */
+    public static final TTLLoggerName UNMANAGED = new TTLLoggerName(null, 0);
+
+    /**
+     * Resolution of logger names that are not the name of a loadable class
+     */
+    public static final TTLLoggerName UNKNOWN = new TTLLoggerName(null, 0);
+
+    // Logger field annotations match whichever logging API the field is declared with
+    private static final Class<?> ANY_LOGGER = Object.class;
+
+    // Frames inspected for the calling method before falling back to class-level rules
+    private static final int MAX_FRAMES = 128;
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private final Class<?> callingClass;
+    // Levels affected by annotated methods, as a bit mask of level ordinals
+    private final int methodLevels;
+    // The calling class and its superclasses, statements run in methods of any of them
+    private final String[] classNames;
+    // Class and field rules of every level, indexed by level ordinal, a null site always logs
+    private final TTLCallSite[] classSites;
+    // Levels needing the calling method under the rules they were computed for
+    private volatile MethodLevels rulesLevels;
+
+    private TTLLoggerName(Class<?> callingClass, int methodLevels) {
+        this.callingClass = callingClass;
+        this.methodLevels = methodLevels;
+        List<String> names = new ArrayList<>();
+        for (Class<?> type = callingClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            names.add(type.getName());
+        }
+        this.classNames = names.toArray(new String[0]);
+        this.classSites = new TTLCallSite[LEVELS.length];
+        if (callingClass != null) {
+            for (LogLevel level : LEVELS) {
+                classSites[level.ordinal()] = callSite("", level);
+            }
+        }
+    }
+
+    /**
+     * Resolves a logger name, loading the class it names without initializing it
+     */
+    public static TTLLoggerName resolve(String loggerName) {
+        Class<?> type = load(loggerName);
+        return type != null ? of(type) : UNKNOWN;
+    }
+
+    /**
+     * Resolves the logger name of a class
+     */
+    public static TTLLoggerName of(Class<?> type) {
+        try {
+            // Methods and fields are inherited from superclasses, as in the TTL core lookups
+            int methodLevels = 0;
+            boolean annotatedFields = false;
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                TTLRegistry.ClassMetadata metadata = TTLRegistry.lookup(current);
+                if (metadata != null) {
+                    methodLevels |= metadata.getMethodLevels();
+                    annotatedFields |= metadata.hasFieldConfigs();
+                } else {
+                    methodLevels |= annotatedMethodLevels(current);
+                    annotatedFields |= hasAnnotatedField(current);
+                }
+            }
+            if (methodLevels != 0 || annotatedFields || TTLAnnotationProcessor.getClassLevelTTL(type) != null) {
+                return new TTLLoggerName(type, methodLevels);
+            }
+            return UNMANAGED;
+        } catch (LinkageError | SecurityException e) {
+            // A member refers to a class that cannot be loaded, or reflection is denied
+            return UNMANAGED;
+        }
+    }
+
+    /**
+     * Get the class the logger is named after, or null if it is not managed
+     */
+    public Class<?> getCallingClass() {
+        return callingClass;
+    }
+
+    /**
+     * Check if a class is the calling class or one of its superclasses, whose methods may
+     * contain the statements of the logger
+     */
+    public boolean isCallingClass(String className) {
+        for (String name : classNames) {
+            if (name.equals(className)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if TTL applies to the logger
+     */
+    public boolean isManaged() {
+        return callingClass != null;
+    }
+
+    /**
+     * Check if the calling method is needed to decide, because a method of the class is
+     * annotated or has a runtime override
+     */
+    public boolean needsMethod() {
+        return callingClass != null && rulesLevels().mask != 0;
+    }
+
+    /**
+     * Check if the calling method is needed to decide statements at the given level, because
+     * an annotated method covers the level, or a method override may change its annotation
+     */
+    public boolean needsMethod(LogLevel level) {
+        return callingClass != null && (rulesLevels().mask & (1 << level.ordinal())) != 0;
+    }
+
+    /**
+     * Checks if a statement at the given level should be logged, walking the stack for the
+     * calling method only if it is needed
+     */
+    public boolean shouldLog(LogLevel level) {
+        if (callingClass == null) {
+            return true;
+        }
+        if (needsMethod(level)) {
+            return shouldLog(callerMethod(), level);
+        }
+        TTLCallSite site = classSites[level.ordinal()];
+        return site == null || site.check();
+    }
+
+    /**
+     * Checks if a statement at the given level should be logged from a known calling method,
+     * or "" for class-level rules only
+     */
+    public boolean shouldLog(String callingMethod, LogLevel level) {
+        return callingClass == null
+            || TTLAnnotationProcessor.shouldLog(callingClass, callingMethod, ANY_LOGGER, level);
+    }
+
+    /**
+     * Gets the call site deciding statements at the given level from a calling method, "" for
+     * class-level rules only. Returns null if no annotation applies and statements always log.
+     */
+    public TTLCallSite callSite(String callingMethod, LogLevel level) {
+        return callingClass == null ? null
+            : TTLConfigCache.getInstance().site(callingClass, callingMethod, ANY_LOGGER, level);
+    }
+
+    /**
+     * Gets the method of the innermost frame of the calling class or a superclass, or "" if
+     * none is on the stack
+     */
+    private String callerMethod() {
+        return WALKER.walk(frames -> frames
+            .limit(MAX_FRAMES)
+            .filter(frame -> isCallingClass(frame.getClassName()))
+            .findFirst()
+            .map(StackWalker.StackFrame::getMethodName)
+            .orElse(""));
+    }
+
+    /**
+     * Levels needing the calling method under the current rules, recomputed only when they change
+     */
+    private MethodLevels rulesLevels() {
+        TTLRules rules = TTLManager.getInstance().getRules();
+        MethodLevels current = rulesLevels;
+        if (current == null || current.rules != rules) {
+            int mask = methodLevels;
+            if (rules.hasMethodOverrides(callingClass)) {
+                // An override only matters for levels with an annotation to override
+                for (LogLevel level : LEVELS) {
+                    if (classSites[level.ordinal()] != null) {
+                        mask |= 1 << level.ordinal();
+                    }
+                }
+            }
+            current = new MethodLevels(rules, mask);
+            rulesLevels = current;
+        }
+        return current;
+    }
+
+    /**
+     * Get the levels covered by annotated methods declared in a class, as a bit mask of level ordinals
+     */
+    private static int annotatedMethodLevels(Class<?> type) {
+        int levels = 0;
+        for (Method method : type.getDeclaredMethods()) {
+            LogTTL annotation = method.getAnnotation(LogTTL.class);
+            if (annotation == null) {
+                continue;
+            }
+            if (annotation.levels().length == 0) {
+                // No levels means all levels
+                return (1 << LEVELS.length) - 1;
+            }
+            for (LogLevel level : annotation.levels()) {
+                levels |= 1 << level.ordinal();
+            }
+        }
+        return levels;
+    }
+
+    private static boolean hasAnnotatedField(Class<?> type) {
+        for (Field field : type.getDeclaredFields()) {
+            if (field.isAnnotationPresent(LogTTL.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Class<?> load(String name) {
+        if (name == null || name.isEmpty()) {
+            return null;
+        }
+        ClassLoader context = Thread.currentThread().getContextClassLoader();
+        for (ClassLoader loader : new ClassLoader[] {context, TTLLoggerName.class.getClassLoader()}) {
+            if (loader == null) {
+                continue;
+            }
+            try {
+                return Class.forName(name, false, loader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                // Not a class name, or not visible to this loader
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        if (this == UNKNOWN) {
+            return "TTLLoggerName{unknown}";
+        }
+        return callingClass == null ? "TTLLoggerName{unmanaged}"
+            : "TTLLoggerName{class=" + callingClass.getName() + ", methodLevels=" + methodLevels + '}';
+    }
+
+    /**
+     * Levels needing the calling method, valid for one snapshot of the TTL rules
+     */
+    private static final class MethodLevels {
+        private final TTLRules rules;
+        private final int mask;
+
+        MethodLevels(TTLRules rules, int mask) {
+            this.rules = rules;
+            this.mask = mask;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.logger.ttl;
+
+import com.logger.ttl.jfr.TTLFlightRecorder;
+import com.logger.ttl.jfr.TTLRulesChangeEvent;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Manages TTL rules dynamically at runtime, allowing expired logs to be re-enabled
+ * and TTL configurations to be modified without application restart.
+ * 
+ * <p>All rules are held in a single immutable {@link TTLRules} snapshot. Readers see a consistent
+ * set of rules with one volatile read, and every change publishes a new snapshot with a higher
+ * version number.</p>
+ */
+public class TTLManager {
+    
+    private static final TTLManager INSTANCE = new TTLManager();
+    
+    // Current rules, replaced as a whole on every change
+    private final AtomicReference<TTLRules> rules = new AtomicReference<>(TTLRules.EMPTY);
+    
+    // Notified after every published change
+    private final CopyOnWriteArrayList<Consumer<TTLRules>> rulesListeners = new CopyOnWriteArrayList<>();
+    
+    private TTLManager() {
+        // Private constructor for singleton
+    }
+    
+    /**
+     * Get the singleton instance of TTLManager
+     */
+    public static TTLManager getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get the current snapshot of TTL rules
+     */
+    public TTLRules getRules() {
+        return rules.get();
+    }
+    
+    /**
+     * Get the version of the current TTL rules, increasing with every change
+     */
+    public long getRulesVersion() {
+        return rules.get().getVersion();
+    }
+    
+    /**
+     * Apply several rule changes atomically, readers see either none or all of them.
+     * 
+     * @param update function deriving the new rules from the current ones, may be retried
+     * @return the published rules
+     */
+    public TTLRules updateRules(UnaryOperator<TTLRules> update) {
+        return update("updateRules", null, null, update);
+    }
+    
+    /**
+     * Apply a rule change, recorded as a {@link TTLRulesChangeEvent} while a flight recording is running
+     */
+    private TTLRules update(String change, String target, TTLOverride override, UnaryOperator<TTLRules> update) {
+        TTLRulesChangeEvent event = TTLFlightRecorder.isRecording() ? new TTLRulesChangeEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        TTLRules current;
+        TTLRules next;
+        int retries = -1;
+        do {
+            retries++;
+            current = rules.get();
+            next = update.apply(current).withVersion(current.getVersion() + 1);
+        } while (!rules.compareAndSet(current, next));
+        onRulesChanged();
+        for (Consumer<TTLRules> listener : rulesListeners) {
+            try {
+                listener.accept(next);
+            } catch (RuntimeException e) {
+                System.err.println("Error in TTL rules listener: " + e.getMessage());
+            }
+        }
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.change = change;
+                event.target = target;
+                event.overrideType = override != null ? override.getType().name() : null;
+                event.version = next.getVersion();
+                event.retries = retries;
+                event.commit();
+            }
+        }
+        return next;
+    }
+    
+    /**
+     * Add a listener notified with the new rules after every change
+     */
+    public void addRulesListener(Consumer<TTLRules> listener) {
+        if (listener != null) {
+            rulesListeners.add(listener);
+        }
+    }
+    
+    /**
+     * Remove a rules listener
+     */
+    public void removeRulesListener(Consumer<TTLRules> listener) {
+        rulesListeners.remove(listener);
+    }
+    
+    /**
+     * Set the clock used for all TTL calculations, or null to restore the default clock
+     */
+    public void setClock(TTLClock clock) {
+        TTLClock.setCurrent(clock);
+        // Decisions depend on the clock, publish a new version
+        update("setClock", null, null, UnaryOperator.identity());
+    }
+    
+    /**
+     * Get the clock used for all TTL calculations
+     */
+    public TTLClock getClock() {
+        return TTLClock.current();
+    }
+    
+    /**
+     * Enable all TTL rules globally (bypass all expiration)
+     */
+    public void enableAllTTL() {
+        update("enableAllTTL", null, null, r -> r.withGlobalBypass(true));
+    }
+    
+    /**
+     * Disable all TTL rules globally (enforce all expiration)
+     */
+    public void disableAllTTL() {
+        update("disableAllTTL", null, null, r -> r.withGlobalBypass(false));
+    }
+    
+    /**
+     * Check if global TTL override is enabled
+     */
+    public boolean isGlobalTTLEnabled() {
+        return rules.get().isGlobalBypass();
+    }
+    
+    /**
+     * Set global TTL extension (adds extra days to all TTL calculations)
+     */
+    public void setGlobalTTLExtension(int extraDays) {
+        update("setGlobalTTLExtension", null, null, r -> r.withGlobalExtension(extraDays));
+    }
+    
+    /**
+     * Get current global TTL extension
+     */
+    public int getGlobalTTLExtension() {
+        return rules.get().getGlobalExtension();
+    }
+    
+    /**
+     * Override TTL for a specific class
+     */
+    public void overrideClassTTL(Class<?> clazz, TTLOverride override) {
+        update("overrideClassTTL", clazz.getName(), override, r -> r.withClassOverride(clazz, override));
+    }
+    
+    /**
+     * Remove TTL override for a specific class
+     */
+    public void removeClassTTLOverride(Class<?> clazz) {
+        update("removeClassTTLOverride", clazz.getName(), null, r -> r.withClassOverride(clazz, null));
+    }
+    
+    /**
+     * Override TTL for a specific method
+     */
+    public void overrideMethodTTL(Class<?> clazz, String methodName, TTLOverride override) {
+        update("overrideMethodTTL", clazz.getName() + "#" + methodName, override,
+            r -> r.withMethodOverride(clazz, methodName, override));
+    }
+    
+    /**
+     * Remove TTL override for a specific method
+     */
+    public void removeMethodTTLOverride(Class<?> clazz, String methodName) {
+        update("removeMethodTTLOverride", clazz.getName() + "#" + methodName, null,
+            r -> r.withMethodOverride(clazz, methodName, null));
+    }
+    
+    /**
+     * Override TTL for a specific field
+     */
+    public void overrideFieldTTL(Class<?> clazz, String fieldName, TTLOverride override) {
+        update("overrideFieldTTL", clazz.getName() + "." + fieldName, override,
+            r -> r.withFieldOverride(clazz, fieldName, override));
+    }
+    
+    /**
+     * Remove TTL override for a specific field
+     */
+    public void removeFieldTTLOverride(Class<?> clazz, String fieldName) {
+        update("removeFieldTTLOverride", clazz.getName() + "." + fieldName, null,
+            r -> r.withFieldOverride(clazz, fieldName, null));
+    }
+    
+    /**
+     * Clear all TTL overrides
+     */
+    public void clearAllOverrides() {
+        update("clearAllOverrides", null, null, r -> TTLRules.EMPTY);
+    }
+    
+    /**
+     * Get TTL override for a class
+     */
+    public TTLOverride getClassTTLOverride(Class<?> clazz) {
+        return rules.get().getClassOverride(clazz);
+    }
+    
+    /**
+     * Get TTL override for a method
+     */
+    public TTLOverride getMethodTTLOverride(Class<?> clazz, String methodName) {
+        return rules.get().getMethodOverride(clazz, methodName);
+    }
+    
+    /**
+     * Get TTL override for a field
+     */
+    public TTLOverride getFieldTTLOverride(Class<?> clazz, String fieldName) {
+        return rules.get().getFieldOverride(clazz, fieldName);
+    }
+    
+    /**
+     * Check if a TTL configuration should be bypassed based on runtime overrides
+     */
+    public boolean shouldBypassTTL(Class<?> clazz, String methodName, String fieldName, TTLConfig originalConfig) {
+        return rules.get().shouldBypass(clazz, methodName, fieldName, originalConfig);
+    }
+    
+    /**
+     * Apply global TTL extension to a TTL configuration
+     */
+    public TTLConfig applyGlobalExtension(TTLConfig originalConfig) {
+        return rules.get().applyGlobalExtension(originalConfig);
+    }
+    
+    /**
+     * Invalidate decisions derived from the previous rules
+     */
+    private void onRulesChanged() {
+        TTLCallSite.invalidateAll();
+        TTLCallSites.invalidateAll();
+    }
+    
+    /**
+     * Get summary of current TTL overrides
+     */
+    public String getOverridesSummary() {
+        TTLRules current = rules.get();
+        StringBuilder summary = new StringBuilder();
+        summary.append("TTL Manager Status:\n");
+        summary.append("Global TTL Override: ").append(current.isGlobalBypass()).append("\n");
+        summary.append("Global TTL Extension: +").append(current.getGlobalExtension()).append(" days\n");
+        summary.append("Class Overrides: ").append(current.getClassOverrideCount()).append("\n");
+        summary.append("Method Overrides: ").append(current.getMethodOverrideCount()).append("\n");
+        summary.append("Field Overrides: ").append(current.getFieldOverrideCount()).append("\n");
+        summary.append("Rules Version: ").append(current.getVersion()).append("\n");
+        return summary.toString();
+    }
+}
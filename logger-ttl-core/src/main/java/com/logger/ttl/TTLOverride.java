@@ -52,7 +52,7 @@ public class TTLOverride {
         this.newStartDate = newStartDate;
         this.newTtlDays = newTtlDays;
         this.newLevels = newLevels;
-        this.overrideTime = Instant.now();
+        this.overrideTime = TTLClock.current().instant();
     }
     
     /**
@@ -80,21 +80,15 @@ public class TTLOverride {
         switch (type) {
             case BYPASS:
                 // Return a config that never expires
-                return new TTLConfig("", -1, new LogLevel[0]);
+                return TTLConfig.defaultConfig();
                 
             case EXTEND:
                 // Extend the original TTL by extra days
-                String startDate = originalConfig.getStartTime() != null ? 
-                    originalConfig.getStartTime().toString() : "";
-                return new TTLConfig(
-                    startDate,
-                    originalConfig.getTtlDays() + extraDays,
-                    originalConfig.getLevels().toArray(new LogLevel[0])
-                );
+                return originalConfig.withExtraDays(extraDays);
                 
             case REPLACE:
                 // Use completely new configuration
-                return new TTLConfig(newStartDate, newTtlDays, newLevels);
+                return TTLConfig.of(newStartDate, newTtlDays, newLevels);
                 
             default:
                 return originalConfig;
@@ -0,0 +1,245 @@
+package com.logger.ttl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+
+/**
+ * Base class of the LogTTL registries generated at compile time by
+ * {@link com.logger.ttl.processor.LogTTLProcessor}.
+ *
+ * <p>A generated registry lists every class of its module with LogTTL annotations together with
+ * the annotations declared on the class, its methods and its fields, with start and expiry times
+ * already converted to epoch milliseconds. Registries are found with {@link ServiceLoader}
+ * through the class loader of the class being inspected. {@link TTLAnnotationProcessor} uses
+ * them instead of reflection for every class they list, and falls back to reflection for
+ * other classes.</p>
+ *
+ * <p>The metadata kept per class loader holds no class or class loader references, so the
+ * loader can be collected. Each class gets a copy bound to it through a {@link ClassValue}.</p>
+ */
+public abstract class TTLRegistry {
+
+    private static final Map<ClassLoader, Map<String, ClassMetadata>> LOADERS = new WeakHashMap<>();
+
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            ClassLoader loader = type.getClassLoader();
+            ClassMetadata metadata = loader != null ? metadataFor(loader).get(type.getName()) : null;
+            return metadata != null ? metadata.bind(type) : null;
+        }
+    };
+
+    private final Map<String, ClassMetadata> classes = new HashMap<>();
+
+    protected TTLRegistry() {
+    }
+
+    /**
+     * Registers the metadata of all classes of the module
+     */
+    protected abstract void register();
+
+    /**
+     * Registers a LogTTL annotation on a class.
+     *
+     * @param className the binary name of the class
+     * @param startMillis start time in epoch milliseconds, or {@link Long#MIN_VALUE} for no start restriction
+     * @param expiryMillis expiry time in epoch milliseconds
+     * @param ttlDays number of days until expiration, or -1 for never expires
+     * @param levelMask bit mask of affected log level ordinals, or 0 for all levels
+     */
+    protected final void classTTL(String className, long startMillis, long expiryMillis, int ttlDays, int levelMask) {
+        metadata(className).classConfig = TTLConfig.precomputed(startMillis, expiryMillis, ttlDays, levelMask);
+    }
+
+    /**
+     * Registers a LogTTL annotation on a method. Only the first annotated method of a name counts.
+     *
+     * @param className the binary name of the declaring class
+     * @param methodName the name of the method
+     * @param startMillis start time in epoch milliseconds, or {@link Long#MIN_VALUE} for no start restriction
+     * @param expiryMillis expiry time in epoch milliseconds
+     * @param ttlDays number of days until expiration, or -1 for never expires
+     * @param levelMask bit mask of affected log level ordinals, or 0 for all levels
+     */
+    protected final void methodTTL(String className, String methodName, long startMillis, long expiryMillis,
+                                   int ttlDays, int levelMask) {
+        ClassMetadata metadata = metadata(className);
+        if (metadata.methodConfigs.isEmpty()) {
+            metadata.methodConfigs = new HashMap<>();
+        }
+        metadata.methodConfigs.putIfAbsent(methodName,
+            TTLConfig.precomputed(startMillis, expiryMillis, ttlDays, levelMask));
+    }
+
+    /**
+     * Registers a LogTTL annotation on a field, in declaration order.
+     *
+     * @param className the binary name of the declaring class
+     * @param fieldTypeName the binary name of the erased field type
+     * @param startMillis start time in epoch milliseconds, or {@link Long#MIN_VALUE} for no start restriction
+     * @param expiryMillis expiry time in epoch milliseconds
+     * @param ttlDays number of days until expiration, or -1 for never expires
+     * @param levelMask bit mask of affected log level ordinals, or 0 for all levels
+     */
+    protected final void fieldTTL(String className, String fieldTypeName, long startMillis, long expiryMillis,
+                                  int ttlDays, int levelMask) {
+        ClassMetadata metadata = metadata(className);
+        if (metadata.fieldConfigs.isEmpty()) {
+            metadata.fieldConfigs = new ArrayList<>();
+        }
+        metadata.fieldConfigs.add(new FieldMetadata(fieldTypeName,
+            TTLConfig.precomputed(startMillis, expiryMillis, ttlDays, levelMask)));
+    }
+
+    private ClassMetadata metadata(String className) {
+        return classes.computeIfAbsent(className, name -> new ClassMetadata());
+    }
+
+    /**
+     * Gets the generated metadata of a class.
+     *
+     * @param type the class to look up
+     * @return the metadata, or null if the class was not compiled with the annotation processor
+     */
+    static ClassMetadata lookup(Class<?> type) {
+        return METADATA.get(type);
+    }
+
+    private static Map<String, ClassMetadata> metadataFor(ClassLoader loader) {
+        synchronized (LOADERS) {
+            Map<String, ClassMetadata> metadata = LOADERS.get(loader);
+            if (metadata == null) {
+                metadata = load(loader);
+                LOADERS.put(loader, metadata);
+            }
+            return metadata;
+        }
+    }
+
+    private static Map<String, ClassMetadata> load(ClassLoader loader) {
+        Map<String, ClassMetadata> metadata = new HashMap<>();
+        try {
+            for (TTLRegistry registry : ServiceLoader.load(TTLRegistry.class, loader)) {
+                registry.register();
+                for (Map.Entry<String, ClassMetadata> entry : registry.classes.entrySet()) {
+                    metadata.putIfAbsent(entry.getKey(), entry.getValue());
+                }
+            }
+        } catch (ServiceConfigurationError e) {
+            System.err.println("Error loading LogTTL registry: " + e.getMessage());
+        }
+        return metadata.isEmpty() ? Collections.emptyMap() : metadata;
+    }
+
+    /**
+     * LogTTL annotations declared directly on a single class
+     */
+    static final class ClassMetadata {
+        private TTLConfig classConfig;
+        private Map<String, TTLConfig> methodConfigs = Collections.emptyMap();
+        private List<FieldMetadata> fieldConfigs = Collections.emptyList();
+        // Only set on copies bound to their class, which already references the loader
+        private ClassLoader loader;
+
+        /**
+         * Copies the metadata for its class, field types are then resolved through the class loader
+         */
+        ClassMetadata bind(Class<?> type) {
+            ClassMetadata bound = new ClassMetadata();
+            bound.classConfig = classConfig;
+            bound.methodConfigs = methodConfigs;
+            if (!fieldConfigs.isEmpty()) {
+                bound.fieldConfigs = new ArrayList<>(fieldConfigs.size());
+                for (FieldMetadata field : fieldConfigs) {
+                    bound.fieldConfigs.add(new FieldMetadata(field.typeName, field.config));
+                }
+            }
+            bound.loader = type.getClassLoader();
+            return bound;
+        }
+
+        /**
+         * Get the levels affected by annotated methods of the class, as a bit mask of level ordinals
+         */
+        int getMethodLevels() {
+            int levels = 0;
+            for (TTLConfig config : methodConfigs.values()) {
+                for (LogLevel level : LogLevel.values()) {
+                    if (config.isLevelAffected(level)) {
+                        levels |= 1 << level.ordinal();
+                    }
+                }
+            }
+            return levels;
+        }
+
+        /**
+         * Check if a field of the class is annotated
+         */
+        boolean hasFieldConfigs() {
+            return !fieldConfigs.isEmpty();
+        }
+
+        /**
+         * Get the configuration declared on the class, or null if none
+         */
+        TTLConfig getClassConfig() {
+            return classConfig;
+        }
+
+        /**
+         * Get the configuration declared on a method, or null if none
+         */
+        TTLConfig getMethodConfig(String methodName) {
+            return methodConfigs.get(methodName);
+        }
+
+        /**
+         * Get the configuration of the first annotated field whose type is assignable to the logger class
+         */
+        TTLConfig getFieldConfig(Class<?> loggerClass) {
+            for (FieldMetadata field : fieldConfigs) {
+                Class<?> fieldType = field.resolveType(loader);
+                if (fieldType != null && loggerClass.isAssignableFrom(fieldType)) {
+                    return field.config;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * LogTTL annotation on a field, with the field type resolved on first use
+     */
+    private static final class FieldMetadata {
+        private final String typeName;
+        private final TTLConfig config;
+        private volatile Class<?> type;
+
+        FieldMetadata(String typeName, TTLConfig config) {
+            this.typeName = typeName;
+            this.config = config;
+        }
+
+        Class<?> resolveType(ClassLoader loader) {
+            Class<?> resolved = type;
+            if (resolved == null) {
+                try {
+                    resolved = Class.forName(typeName, false, loader);
+                    type = resolved;
+                } catch (ClassNotFoundException | LinkageError e) {
+                    return null;
+                }
+            }
+            return resolved;
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package com.logger.ttl;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable, versioned snapshot of the runtime TTL rules held by {@link TTLManager}.
+ *
+ * <p>Overrides are indexed by class first and then by plain method or field name, so a lookup
+ * needs no string building and classes without overrides cost a single map lookup. Every change
+ * produces a new snapshot which {@link TTLManager} publishes atomically with a higher version, so
+ * a reader that holds a snapshot always sees a consistent set of rules.</p>
+ */
+public final class TTLRules {
+
+    /**
+     * Snapshot without any overrides
+     */
+    public static final TTLRules EMPTY = new TTLRules(0, false, 0, Collections.emptyMap());
+
+    private final long version;
+    private final boolean globalBypass;
+    private final int globalExtension;
+    private final Map<Class<?>, ClassRules> classes;
+
+    private TTLRules(long version, boolean globalBypass, int globalExtension, Map<Class<?>, ClassRules> classes) {
+        this.version = version;
+        this.globalBypass = globalBypass;
+        this.globalExtension = globalExtension;
+        this.classes = classes;
+    }
+
+    /**
+     * Get the version of this snapshot, increasing with every published change
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Check if all TTL rules are bypassed
+     */
+    public boolean isGlobalBypass() {
+        return globalBypass;
+    }
+
+    /**
+     * Get the number of days added to all TTL calculations
+     */
+    public int getGlobalExtension() {
+        return globalExtension;
+    }
+
+    /**
+     * Get the override for a class, or null if none
+     */
+    public TTLOverride getClassOverride(Class<?> clazz) {
+        ClassRules rules = classes.get(clazz);
+        return rules != null ? rules.classOverride : null;
+    }
+
+    /**
+     * Get the override for a method, or null if none
+     */
+    public TTLOverride getMethodOverride(Class<?> clazz, String methodName) {
+        ClassRules rules = classes.get(clazz);
+        return rules != null ? rules.methodOverrides.get(methodName) : null;
+    }
+
+    /**
+     * Check if any method of a class has an override
+     */
+    public boolean hasMethodOverrides(Class<?> clazz) {
+        ClassRules rules = classes.get(clazz);
+        return rules != null && !rules.methodOverrides.isEmpty();
+    }
+
+    /**
+     * Get the override for a field, or null if none
+     */
+    public TTLOverride getFieldOverride(Class<?> clazz, String fieldName) {
+        ClassRules rules = classes.get(clazz);
+        return rules != null ? rules.fieldOverrides.get(fieldName) : null;
+    }
+
+    /**
+     * Check if a TTL configuration should be bypassed based on these rules
+     */
+    public boolean shouldBypass(Class<?> clazz, String methodName, String fieldName, TTLConfig originalConfig) {
+        if (globalBypass) {
+            return true;
+        }
+        ClassRules rules = classes.get(clazz);
+        return rules != null && rules.shouldBypass(methodName, fieldName, originalConfig);
+    }
+
+    /**
+     * Apply the global extension to a TTL configuration
+     */
+    public TTLConfig applyGlobalExtension(TTLConfig originalConfig) {
+        return globalExtension > 0 ? originalConfig.withExtraDays(globalExtension) : originalConfig;
+    }
+
+    /**
+     * Applies these rules to an annotation configuration.
+     *
+     * <p>A bypass from any level wins, then the global extension is applied, followed by the
+     * first matching class, method or field override.</p>
+     *
+     * @param clazz the class containing the log statement
+     * @param methodName the method containing the log statement, may be null
+     * @param fieldName the logger field, may be null
+     * @param originalConfig the configuration from annotations
+     * @return the effective configuration
+     */
+    public TTLConfig apply(Class<?> clazz, String methodName, String fieldName, TTLConfig originalConfig) {
+        if (globalBypass) {
+            return TTLConfig.defaultConfig();
+        }
+        ClassRules rules = classes.get(clazz);
+        if (rules == null) {
+            return applyGlobalExtension(originalConfig);
+        }
+        if (rules.shouldBypass(methodName, fieldName, originalConfig)) {
+            return TTLConfig.defaultConfig();
+        }
+
+        TTLConfig extendedConfig = applyGlobalExtension(originalConfig);
+        TTLOverride override = rules.classOverride;
+        if (override == null && methodName != null) {
+            override = rules.methodOverrides.get(methodName);
+        }
+        if (override == null && fieldName != null) {
+            override = rules.fieldOverrides.get(fieldName);
+        }
+        return override != null ? override.apply(extendedConfig) : extendedConfig;
+    }
+
+    /**
+     * Describes the override that {@link #apply} uses for a log statement, such as
+     * {@code "method OrderService#submit EXTEND"}, or {@code "none"}
+     */
+    public String describeOverride(Class<?> clazz, String methodName, String fieldName) {
+        if (globalBypass) {
+            return "global BYPASS";
+        }
+        ClassRules rules = classes.get(clazz);
+        if (rules != null) {
+            TTLOverride methodOverride = methodName != null ? rules.methodOverrides.get(methodName) : null;
+            TTLOverride fieldOverride = fieldName != null ? rules.fieldOverrides.get(fieldName) : null;
+            String name = clazz.getName();
+            // A bypass from any level wins, as in apply
+            if (isBypass(rules.classOverride)) {
+                return "class " + name + " BYPASS";
+            }
+            if (isBypass(methodOverride)) {
+                return "method " + name + "#" + methodName + " BYPASS";
+            }
+            if (isBypass(fieldOverride)) {
+                return "field " + name + "." + fieldName + " BYPASS";
+            }
+            if (rules.classOverride != null) {
+                return "class " + name + " " + rules.classOverride.getType();
+            }
+            if (methodOverride != null) {
+                return "method " + name + "#" + methodName + " " + methodOverride.getType();
+            }
+            if (fieldOverride != null) {
+                return "field " + name + "." + fieldName + " " + fieldOverride.getType();
+            }
+        }
+        return globalExtension > 0 ? "global EXTEND" : "none";
+    }
+
+    private static boolean isBypass(TTLOverride override) {
+        return override != null && override.getType() == TTLOverride.OverrideType.BYPASS;
+    }
+
+    /**
+     * Get the number of classes with a class-level override
+     */
+    public int getClassOverrideCount() {
+        int count = 0;
+        for (ClassRules rules : classes.values()) {
+            if (rules.classOverride != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the number of method-level overrides
+     */
+    public int getMethodOverrideCount() {
+        int count = 0;
+        for (ClassRules rules : classes.values()) {
+            count += rules.methodOverrides.size();
+        }
+        return count;
+    }
+
+    /**
+     * Get the number of field-level overrides
+     */
+    public int getFieldOverrideCount() {
+        int count = 0;
+        for (ClassRules rules : classes.values()) {
+            count += rules.fieldOverrides.size();
+        }
+        return count;
+    }
+
+    /**
+     * Derive a snapshot with the global bypass flag changed
+     */
+    public TTLRules withGlobalBypass(boolean bypass) {
+        return new TTLRules(version, bypass, globalExtension, classes);
+    }
+
+    /**
+     * Derive a snapshot with the global extension changed
+     */
+    public TTLRules withGlobalExtension(int extraDays) {
+        return new TTLRules(version, globalBypass, extraDays, classes);
+    }
+
+    /**
+     * Derive a snapshot with a class override set, or removed if the override is null
+     */
+    public TTLRules withClassOverride(Class<?> clazz, TTLOverride override) {
+        ClassRules rules = rulesFor(clazz);
+        return withClassRules(clazz, new ClassRules(override, rules.methodOverrides, rules.fieldOverrides));
+    }
+
+    /**
+     * Derive a snapshot with a method override set, or removed if the override is null
+     */
+    public TTLRules withMethodOverride(Class<?> clazz, String methodName, TTLOverride override) {
+        ClassRules rules = rulesFor(clazz);
+        return withClassRules(clazz, new ClassRules(rules.classOverride,
+            with(rules.methodOverrides, methodName, override), rules.fieldOverrides));
+    }
+
+    /**
+     * Derive a snapshot with a field override set, or removed if the override is null
+     */
+    public TTLRules withFieldOverride(Class<?> clazz, String fieldName, TTLOverride override) {
+        ClassRules rules = rulesFor(clazz);
+        return withClassRules(clazz, new ClassRules(rules.classOverride,
+            rules.methodOverrides, with(rules.fieldOverrides, fieldName, override)));
+    }
+
+    /**
+     * Derive a snapshot with a different version, used by TTLManager when publishing
+     */
+    TTLRules withVersion(long newVersion) {
+        return new TTLRules(newVersion, globalBypass, globalExtension, classes);
+    }
+
+    private ClassRules rulesFor(Class<?> clazz) {
+        ClassRules rules = classes.get(clazz);
+        return rules != null ? rules : ClassRules.EMPTY;
+    }
+
+    private TTLRules withClassRules(Class<?> clazz, ClassRules rules) {
+        Map<Class<?>, ClassRules> copy = new HashMap<>(classes);
+        if (rules.isEmpty()) {
+            copy.remove(clazz);
+        } else {
+            copy.put(clazz, rules);
+        }
+        return new TTLRules(version, globalBypass, globalExtension,
+            copy.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(copy));
+    }
+
+    private static Map<String, TTLOverride> with(Map<String, TTLOverride> map, String key, TTLOverride override) {
+        Map<String, TTLOverride> copy = new HashMap<>(map);
+        if (override != null) {
+            copy.put(key, override);
+        } else {
+            copy.remove(key);
+        }
+        return copy.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(copy);
+    }
+
+    @Override
+    public String toString() {
+        return "TTLRules{" +
+                "version=" + version +
+                ", globalBypass=" + globalBypass +
+                ", globalExtension=" + globalExtension +
+                ", classes=" + classes.size() +
+                '}';
+    }
+
+    /**
+     * Overrides of a single class
+     */
+    private static final class ClassRules {
+        static final ClassRules EMPTY = new ClassRules(null, Collections.emptyMap(), Collections.emptyMap());
+
+        private final TTLOverride classOverride;
+        private final Map<String, TTLOverride> methodOverrides;
+        private final Map<String, TTLOverride> fieldOverrides;
+
+        ClassRules(TTLOverride classOverride, Map<String, TTLOverride> methodOverrides,
+                   Map<String, TTLOverride> fieldOverrides) {
+            this.classOverride = classOverride;
+            this.methodOverrides = methodOverrides;
+            this.fieldOverrides = fieldOverrides;
+        }
+
+        boolean isEmpty() {
+            return classOverride == null && methodOverrides.isEmpty() && fieldOverrides.isEmpty();
+        }
+
+        boolean shouldBypass(String methodName, String fieldName, TTLConfig originalConfig) {
+            if (classOverride != null && classOverride.shouldBypass(originalConfig)) {
+                return true;
+            }
+            if (methodName != null) {
+                TTLOverride override = methodOverrides.get(methodName);
+                if (override != null && override.shouldBypass(originalConfig)) {
+                    return true;
+                }
+            }
+            if (fieldName != null) {
+                TTLOverride override = fieldOverrides.get(fieldName);
+                if (override != null && override.shouldBypass(originalConfig)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.logger.ttl;
+
+import org.slf4j.Logger;
+
+/**
+ * Backend logging through a plain SLF4J logger, which determines the location itself
+ */
+final class TTLSlf4jBackend implements TTLLoggerBackend {
+
+    private final Logger delegate;
+
+    TTLSlf4jBackend(Logger delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean isEnabled(LogLevel level) {
+        switch (level) {
+            case TRACE: return delegate.isTraceEnabled();
+            case DEBUG: return delegate.isDebugEnabled();
+            case INFO: return delegate.isInfoEnabled();
+            case WARN: return delegate.isWarnEnabled();
+            case ERROR: return delegate.isErrorEnabled();
+            default: return false;
+        }
+    }
+
+    @Override
+    public boolean usesLocation() {
+        return false;
+    }
+
+    @Override
+    public void log(LogLevel level, StackTraceElement location, String msg) {
+        switch (level) {
+            case TRACE: delegate.trace(msg); break;
+            case DEBUG: delegate.debug(msg); break;
+            case INFO: delegate.info(msg); break;
+            case WARN: delegate.warn(msg); break;
+            case ERROR: delegate.error(msg); break;
+            default: break;
+        }
+    }
+
+    @Override
+    public void log(LogLevel level, StackTraceElement location, String format, Object arg) {
+        switch (level) {
+            case TRACE: delegate.trace(format, arg); break;
+            case DEBUG: delegate.debug(format, arg); break;
+            case INFO: delegate.info(format, arg); break;
+            case WARN: delegate.warn(format, arg); break;
+            case ERROR: delegate.error(format, arg); break;
+            default: break;
+        }
+    }
+
+    @Override
+    public void log(LogLevel level, StackTraceElement location, String format, Object arg1, Object arg2) {
+        switch (level) {
+            case TRACE: delegate.trace(format, arg1, arg2); break;
+            case DEBUG: delegate.debug(format, arg1, arg2); break;
+            case INFO: delegate.info(format, arg1, arg2); break;
+            case WARN: delegate.warn(format, arg1, arg2); break;
+            case ERROR: delegate.error(format, arg1, arg2); break;
+            default: break;
+        }
+    }
+
+    @Override
+    public void log(LogLevel level, StackTraceElement location, String format, Object... arguments) {
+        switch (level) {
+            case TRACE: delegate.trace(format, arguments); break;
+            case DEBUG: delegate.debug(format, arguments); break;
+            case INFO: delegate.info(format, arguments); break;
+            case WARN: delegate.warn(format, arguments); break;
+            case ERROR: delegate.error(format, arguments); break;
+            default: break;
+        }
+    }
+
+    @Override
+    public void log(LogLevel level, StackTraceElement location, String msg, Throwable t) {
+        switch (level) {
+            case TRACE: delegate.trace(msg, t); break;
+            case DEBUG: delegate.debug(msg, t); break;
+            case INFO: delegate.info(msg, t); break;
+            case WARN: delegate.warn(msg, t); break;
+            case ERROR: delegate.error(msg, t); break;
+            default: break;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.logger.ttl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts of log statements emitted and suppressed at {@link LogTTL} annotated call sites,
+ * per call site, per log level and per runtime override in effect.
+ *
+ * <p>Every call site increments a {@link LongAdder}, which stripes increments over cache-line
+ * padded cells once threads contend, so counting costs an uncontended add on the logging path.
+ * Counts of a call site are kept per override it was under, and the call site switches counters
+ * when rules change. Statements at levels no TTL applies to, statements guarded by
+ * {@link TTLCallSites} gates and explicit TTL overloads are not counted. Counting is disabled
+ * with the {@code logger.ttl.statistics=false} system property or {@link #setEnabled(boolean)}.</p>
+ */
+public final class TTLStatistics {
+
+    private static final TTLStatistics INSTANCE =
+        new TTLStatistics(!"false".equalsIgnoreCase(System.getProperty("logger.ttl.statistics")));
+
+    private final ConcurrentMap<String, SiteCounts> sites = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+
+    private TTLStatistics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get the singleton instance of TTLStatistics
+     */
+    public static TTLStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Enable or disable counting, counts collected so far are kept
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        // Call sites pick up or drop their counter on the next log call
+        TTLCallSite.invalidateAll();
+    }
+
+    /**
+     * Check if statements are counted
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the counter of a call site under an override, or null if counting is disabled
+     */
+    Counter counter(TTLCallSite site, String override) {
+        if (!enabled) {
+            return null;
+        }
+        String key = site.getCallingClass().getName() + "#" + site.getMethodName() + " " + site.getLevel();
+        SiteCounts counts = sites.computeIfAbsent(key, k -> new SiteCounts(
+            site.getCallingClass().getName(), site.getMethodName(), site.getLevel()));
+        return counts.byOverride.computeIfAbsent(override, Counter::new);
+    }
+
+    /**
+     * Get the number of statements logged
+     */
+    public long getEmittedCount() {
+        long total = 0;
+        for (SiteCounts site : sites.values()) {
+            total += site.emitted();
+        }
+        return total;
+    }
+
+    /**
+     * Get the number of statements skipped because their TTL expired or has not started
+     */
+    public long getSuppressedCount() {
+        long total = 0;
+        for (SiteCounts site : sites.values()) {
+            total += site.suppressed();
+        }
+        return total;
+    }
+
+    /**
+     * Get the number of logged statements per log level
+     */
+    public Map<LogLevel, Long> getEmittedByLevel() {
+        Map<LogLevel, Long> result = new EnumMap<>(LogLevel.class);
+        for (SiteCounts site : sites.values()) {
+            result.merge(site.level, site.emitted(), Long::sum);
+        }
+        return result;
+    }
+
+    /**
+     * Get the number of suppressed statements per log level
+     */
+    public Map<LogLevel, Long> getSuppressedByLevel() {
+        Map<LogLevel, Long> result = new EnumMap<>(LogLevel.class);
+        for (SiteCounts site : sites.values()) {
+            result.merge(site.level, site.suppressed(), Long::sum);
+        }
+        return result;
+    }
+
+    /**
+     * Get the number of logged statements per override in effect, see {@link TTLRules#describeOverride}
+     */
+    public Map<String, Long> getEmittedByOverride() {
+        Map<String, Long> result = new TreeMap<>();
+        for (SiteCounts site : sites.values()) {
+            for (Counter counter : site.byOverride.values()) {
+                result.merge(counter.override, counter.emitted.sum(), Long::sum);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the number of suppressed statements per override in effect, see {@link TTLRules#describeOverride}
+     */
+    public Map<String, Long> getSuppressedByOverride() {
+        Map<String, Long> result = new TreeMap<>();
+        for (SiteCounts site : sites.values()) {
+            for (Counter counter : site.byOverride.values()) {
+                result.merge(counter.override, counter.suppressed.sum(), Long::sum);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the call sites with the most suppressed statements, then the most logged ones
+     */
+    public List<CallSiteCounts> getTopCallSites(int limit) {
+        List<CallSiteCounts> all = new ArrayList<>(sites.size());
+        for (SiteCounts site : sites.values()) {
+            all.add(new CallSiteCounts(site.className, site.methodName, site.level, site.emitted(), site.suppressed()));
+        }
+        all.sort(Comparator.comparingLong(CallSiteCounts::getSuppressedCount)
+            .thenComparingLong(CallSiteCounts::getEmittedCount).reversed());
+        return all.size() > limit ? new ArrayList<>(all.subList(0, Math.max(0, limit))) : all;
+    }
+
+    /**
+     * Get the number of counted call sites
+     */
+    public int getCallSiteCount() {
+        return sites.size();
+    }
+
+    /**
+     * Reset all counts to zero
+     */
+    public void reset() {
+        for (SiteCounts site : sites.values()) {
+            for (Counter counter : site.byOverride.values()) {
+                counter.emitted.reset();
+                counter.suppressed.reset();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TTLStatistics{" +
+                "emitted=" + getEmittedCount() +
+                ", suppressed=" + getSuppressedCount() +
+                ", callSites=" + getCallSiteCount() +
+                ", enabled=" + enabled +
+                '}';
+    }
+
+    /**
+     * Counts of a call site while under one override
+     */
+    static final class Counter {
+        private final String override;
+        private final LongAdder emitted = new LongAdder();
+        private final LongAdder suppressed = new LongAdder();
+
+        Counter(String override) {
+            this.override = override;
+        }
+
+        void record(boolean open) {
+            (open ? emitted : suppressed).increment();
+        }
+    }
+
+    private static final class SiteCounts {
+        private final String className;
+        private final String methodName;
+        private final LogLevel level;
+        private final ConcurrentMap<String, Counter> byOverride = new ConcurrentHashMap<>();
+
+        SiteCounts(String className, String methodName, LogLevel level) {
+            this.className = className;
+            this.methodName = methodName;
+            this.level = level;
+        }
+
+        long emitted() {
+            long total = 0;
+            for (Counter counter : byOverride.values()) {
+                total += counter.emitted.sum();
+            }
+            return total;
+        }
+
+        long suppressed() {
+            long total = 0;
+            for (Counter counter : byOverride.values()) {
+                total += counter.suppressed.sum();
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Snapshot of the counts of a call site
+     */
+    public static final class CallSiteCounts {
+        private final String className;
+        private final String methodName;
+        private final LogLevel level;
+        private final long emittedCount;
+        private final long suppressedCount;
+
+        CallSiteCounts(String className, String methodName, LogLevel level, long emittedCount, long suppressedCount) {
+            this.className = className;
+            this.methodName = methodName;
+            this.level = level;
+            this.emittedCount = emittedCount;
+            this.suppressedCount = suppressedCount;
+        }
+
+        public String getClassName() { return className; }
+        public String getMethodName() { return methodName; }
+        public LogLevel getLevel() { return level; }
+        public long getEmittedCount() { return emittedCount; }
+        public long getSuppressedCount() { return suppressedCount; }
+
+        @Override
+        public String toString() {
+            return className + "#" + methodName + " " + level +
+                   ": emitted=" + emittedCount + ", suppressed=" + suppressedCount;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.logger.ttl.integration;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Listener receiving TTL management events in batches.
+ * The event dispatcher hands every burst of queued events to such a listener in a single call.
+ */
+@FunctionalInterface
+public interface TTLBatchEventListener extends TTLEventListener {
+
+    /**
+     * Called with consecutive TTL management events, oldest first.
+     *
+     * @param events the events, never empty and not modifiable
+     */
+    void onTTLEvents(List<TTLEvent> events);
+
+    @Override
+    default void onTTLEvent(TTLEvent event) {
+        onTTLEvents(Collections.singletonList(event));
+    }
+}
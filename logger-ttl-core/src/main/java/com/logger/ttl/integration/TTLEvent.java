@@ -1,16 +1,22 @@
 package com.logger.ttl.integration;
 
+import java.util.function.Supplier;
+
 /**
  * Event class for TTL management operations in non-Spring applications.
  * Allows custom integrations to listen to TTL management events.
+ * The message may be built lazily, on the first call to {@link #getMessage()}.
  */
 public class TTLEvent {
     
     private final TTLEventType eventType;
-    private final String message;
+    private volatile String message;
+    private Supplier<String> messageSupplier;
     private final String reason;
     private final Object data;
     private final long timestamp;
+    // System.nanoTime() when published during a flight recording, for the dispatch lag
+    volatile long publishedNanos;
     
     public TTLEvent(TTLEventType eventType, String message, String reason, Object data, long timestamp) {
         this.eventType = eventType;
@@ -20,12 +26,28 @@ public class TTLEvent {
         this.timestamp = timestamp;
     }
     
+    public TTLEvent(TTLEventType eventType, Supplier<String> messageSupplier, String reason, Object data, long timestamp) {
+        this(eventType, (String) null, reason, data, timestamp);
+        this.messageSupplier = messageSupplier;
+    }
+    
     public TTLEventType getEventType() {
         return eventType;
     }
     
     public String getMessage() {
-        return message;
+        String built = message;
+        if (built == null) {
+            synchronized (this) {
+                Supplier<String> supplier = messageSupplier;
+                if (message == null && supplier != null) {
+                    message = supplier.get();
+                    messageSupplier = null;
+                }
+                built = message;
+            }
+        }
+        return built;
     }
     
     public String getReason() {
@@ -44,7 +66,7 @@ public class TTLEvent {
     public String toString() {
         return "TTLEvent{" +
                 "eventType=" + eventType +
-                ", message='" + message + '\'' +
+                ", message='" + getMessage() + '\'' +
                 ", reason='" + reason + '\'' +
                 ", data=" + data +
                 ", timestamp=" + timestamp +
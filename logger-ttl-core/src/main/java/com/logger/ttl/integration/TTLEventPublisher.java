@@ -0,0 +1,670 @@
+package com.logger.ttl.integration;
+
+import com.logger.ttl.TTLClock;
+import com.logger.ttl.TTLManager;
+import com.logger.ttl.TTLOverride;
+import com.logger.ttl.jfr.TTLFlightRecorder;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Standalone event publisher for TTL management that works without Spring Boot.
+ * Allows non-Spring applications to build custom integrations and update TTL configs during runtime.
+ *
+ * <p>Events are queued in a bounded lock-free ring and delivered in publishing order by a single
+ * dispatcher thread, in batches to {@link TTLBatchEventListener}s. When the ring is full the
+ * {@link OverflowPolicy} decides whether the publisher waits or an event is dropped. The capacity
+ * is set with the {@code logger.ttl.events.capacity} system property.</p>
+ *
+ * <p>Listeners subscribe to all or to a set of {@link TTLEventType}s. Publishing an event type
+ * without subscribers returns immediately, without creating or queueing an event.</p>
+ *
+ * <p>Every listener has its own bounded queue and consumer thread, so a slow listener only
+ * delays itself. A listener exceeding the latency budget is quarantined until
+ * {@link #releaseListener(TTLEventListener)}; queue depth, latency percentiles and quarantine
+ * state are reported by {@link #getListenerStatuses()}. The per-listener capacity and budget are
+ * set with the {@code logger.ttl.events.listenerCapacity} and
+ * {@code logger.ttl.events.latencyBudgetMillis} system properties.</p>
+ *
+ * <p>Reactive pipelines subscribe through {@link #asFlowPublisher()}, which delivers events on
+ * demand and coalesces superseded events while a subscriber is behind.</p>
+ */
+public class TTLEventPublisher {
+    
+    /**
+     * What happens to an event published while the ring is full
+     */
+    public enum OverflowPolicy {
+        /** Wait until the dispatcher made room */
+        BLOCK,
+        /** Drop the oldest queued event */
+        DROP_OLDEST,
+        /** Drop the event being published */
+        DROP_NEWEST
+    }
+    
+    /**
+     * Default number of queued events
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+    
+    /**
+     * Default number of queued events per listener
+     */
+    public static final int DEFAULT_LISTENER_CAPACITY = DEFAULT_CAPACITY;
+    
+    /**
+     * Default longest listener call before the listener is quarantined
+     */
+    public static final long DEFAULT_LATENCY_BUDGET_MILLIS = 1000;
+    
+    // Largest number of events handed to listeners in one go
+    private static final int MAX_BATCH = 256;
+    
+    // Longest wait of a blocked publisher before checking again
+    private static final long MAX_BLOCK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    
+    private static final TTLEventPublisher INSTANCE = new TTLEventPublisher();
+    
+    private final TTLManager ttlManager;
+    private volatile TTLListenerIndex listeners = TTLListenerIndex.EMPTY;
+    private final TTLEventRing<TTLEvent> ring;
+    private final Thread dispatcher;
+    private final AtomicBoolean enabled;
+    private volatile OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+    private final int listenerCapacity;
+    private volatile long latencyBudgetNanos;
+    private volatile boolean dispatcherWaiting;
+    private volatile boolean paused;
+    private volatile boolean dispatcherPaused;
+    private volatile boolean shutdown;
+    
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong dispatchedCount = new AtomicLong();
+    private final AtomicLong droppedOldestCount = new AtomicLong();
+    private final AtomicLong droppedNewestCount = new AtomicLong();
+    private final AtomicLong blockedCount = new AtomicLong();
+    
+    private TTLEventPublisher() {
+        this.ttlManager = TTLManager.getInstance();
+        this.ring = new TTLEventRing<>(Integer.getInteger("logger.ttl.events.capacity", DEFAULT_CAPACITY));
+        this.listenerCapacity = Integer.getInteger("logger.ttl.events.listenerCapacity", DEFAULT_LISTENER_CAPACITY);
+        this.latencyBudgetNanos = TimeUnit.MILLISECONDS.toNanos(
+            Long.getLong("logger.ttl.events.latencyBudgetMillis", DEFAULT_LATENCY_BUDGET_MILLIS));
+        this.enabled = new AtomicBoolean(true);
+        this.dispatcher = new Thread(this::dispatch, "ttl-event-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+    
+    /**
+     * Get the singleton instance of TTLEventPublisher
+     */
+    public static TTLEventPublisher getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Enable/disable event publishing
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled.set(enabled);
+    }
+    
+    /**
+     * Check if event publishing is enabled
+     */
+    public boolean isEnabled() {
+        return enabled.get();
+    }
+    
+    /**
+     * Set what happens to events published while the ring is full
+     */
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy != null ? overflowPolicy : OverflowPolicy.DROP_OLDEST;
+    }
+    
+    /**
+     * Get the overflow policy
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+    
+    /**
+     * Set the longest listener call before the listener is quarantined, zero or less disables quarantine
+     */
+    public void setListenerLatencyBudget(long budget, TimeUnit unit) {
+        this.latencyBudgetNanos = Math.max(0, unit.toNanos(budget));
+    }
+    
+    /**
+     * Get the listener latency budget in milliseconds, 0 if quarantine is disabled
+     */
+    public long getListenerLatencyBudgetMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(latencyBudgetNanos);
+    }
+    
+    /**
+     * Add an event listener for all event types
+     */
+    public void addListener(TTLEventListener listener) {
+        if (listener != null) {
+            addListener(EnumSet.allOf(TTLEventType.class), listener);
+        }
+    }
+    
+    /**
+     * Add an event listener for the given event types only
+     */
+    public synchronized void addListener(Set<TTLEventType> eventTypes, TTLEventListener listener) {
+        if (eventTypes == null || eventTypes.isEmpty()) {
+            throw new IllegalArgumentException("At least one event type is required");
+        }
+        if (listener != null) {
+            listeners = listeners.with(new TTLListenerQueue(listener, EnumSet.copyOf(eventTypes),
+                listenerCapacity, () -> latencyBudgetNanos));
+        }
+    }
+    
+    /**
+     * Remove an event listener from all event types
+     */
+    public synchronized void removeListener(TTLEventListener listener) {
+        for (TTLListenerQueue queue : listeners.queues()) {
+            if (queue.getListener().equals(listener)) {
+                queue.stop();
+            }
+        }
+        listeners = listeners.without(listener);
+    }
+    
+    /**
+     * Deliver events to a quarantined listener again
+     *
+     * @return true if the listener was quarantined
+     */
+    public boolean releaseListener(TTLEventListener listener) {
+        boolean released = false;
+        for (TTLListenerQueue queue : listeners.queues()) {
+            if (queue.getListener().equals(listener) && queue.isQuarantined()) {
+                queue.release();
+                released = true;
+            }
+        }
+        return released;
+    }
+    
+    /**
+     * Add a simple event listener using lambda
+     */
+    public void addListener(Consumer<TTLEvent> eventHandler) {
+        addListener(EnumSet.allOf(TTLEventType.class), eventHandler::accept);
+    }
+    
+    /**
+     * Add a simple event listener for a single event type using lambda
+     */
+    public void addListener(TTLEventType eventType, Consumer<TTLEvent> eventHandler) {
+        addListener(EnumSet.of(eventType), eventHandler::accept);
+    }
+    
+    /**
+     * Get a {@link Flow.Publisher} of all event types, delivering on the common pool with
+     * a buffer of {@link Flow#defaultBufferSize()} events per subscriber
+     */
+    public Flow.Publisher<TTLEvent> asFlowPublisher() {
+        return asFlowPublisher(EnumSet.allOf(TTLEventType.class), Flow.defaultBufferSize(), ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Get a {@link Flow.Publisher} of the given event types. Subscribers receive no more events than
+     * requested, up to bufferSize events wait per subscriber and superseded ones are coalesced.
+     */
+    public Flow.Publisher<TTLEvent> asFlowPublisher(Set<TTLEventType> eventTypes, int bufferSize, Executor executor) {
+        if (eventTypes == null || eventTypes.isEmpty()) {
+            throw new IllegalArgumentException("At least one event type is required");
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        }
+        Objects.requireNonNull(executor, "executor");
+        Set<TTLEventType> types = EnumSet.copyOf(eventTypes);
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber");
+            TTLFlowSubscription subscription = new TTLFlowSubscription(this, subscriber, executor, bufferSize);
+            addListener(types, subscription);
+            subscriber.onSubscribe(subscription);
+        };
+    }
+    
+    /**
+     * Remove all listeners
+     */
+    public synchronized void clearListeners() {
+        listeners.queues().forEach(TTLListenerQueue::stop);
+        listeners = TTLListenerIndex.EMPTY;
+    }
+    
+    /**
+     * Get current listener count
+     */
+    public int getListenerCount() {
+        return listeners.queues().size();
+    }
+    
+    /**
+     * Get the number of listeners receiving an event type
+     */
+    public int getListenerCount(TTLEventType eventType) {
+        return listeners.listeners(eventType).length;
+    }
+    
+    /**
+     * Get the queue and latency statistics of every listener, in subscription order
+     */
+    public List<TTLListenerStatus> getListenerStatuses() {
+        List<TTLListenerStatus> statuses = new ArrayList<>();
+        for (TTLListenerQueue queue : listeners.queues()) {
+            statuses.add(queue.status());
+        }
+        return statuses;
+    }
+    
+    /**
+     * Check if any listener receives an event type, so callers can skip building event data
+     */
+    public boolean hasListeners(TTLEventType eventType) {
+        return enabled.get() && listeners.hasListeners(eventType);
+    }
+    
+    /**
+     * Publish a TTL event to all listeners
+     */
+    public void publishEvent(TTLEvent event) {
+        if (!hasListeners(event.getEventType())) {
+            return;
+        }
+        if (TTLFlightRecorder.isRecording()) {
+            event.publishedNanos = System.nanoTime();
+        }
+        
+        if (!ring.offer(event) && !offerWhenFull(event)) {
+            return;
+        }
+        publishedCount.incrementAndGet();
+        if (dispatcherWaiting) {
+            LockSupport.unpark(dispatcher);
+        }
+    }
+    
+    /**
+     * Publish event with automatic event creation
+     */
+    public void publishEvent(TTLEventType eventType, String message, String reason, Object data) {
+        if (!hasListeners(eventType)) {
+            return;
+        }
+        publishEvent(new TTLEvent(eventType, message, reason, data, TTLClock.current().millis()));
+    }
+    
+    /**
+     * Publish event with a message that is only built if a listener reads it
+     */
+    public void publishEvent(TTLEventType eventType, Supplier<String> message, String reason, Object data) {
+        if (!hasListeners(eventType)) {
+            return;
+        }
+        publishEvent(new TTLEvent(eventType, message, reason, data, TTLClock.current().millis()));
+    }
+    
+    /**
+     * Applies the overflow policy to an event that did not fit, returns true if it was queued
+     */
+    private boolean offerWhenFull(TTLEvent event) {
+        OverflowPolicy policy = overflowPolicy;
+        // The dispatcher would wait for itself, listeners publishing events never block
+        if (policy == OverflowPolicy.BLOCK && Thread.currentThread() == dispatcher) {
+            policy = OverflowPolicy.DROP_NEWEST;
+        }
+        switch (policy) {
+            case BLOCK:
+                blockedCount.incrementAndGet();
+                long waitNanos = 1000;
+                while (!ring.offer(event)) {
+                    if (shutdown) {
+                        droppedNewestCount.incrementAndGet();
+                        return false;
+                    }
+                    LockSupport.unpark(dispatcher);
+                    LockSupport.parkNanos(this, waitNanos);
+                    waitNanos = Math.min(waitNanos * 2, MAX_BLOCK_NANOS);
+                }
+                return true;
+            case DROP_OLDEST:
+                do {
+                    if (ring.poll() != null) {
+                        droppedOldestCount.incrementAndGet();
+                    }
+                } while (!ring.offer(event));
+                return true;
+            default:
+                droppedNewestCount.incrementAndGet();
+                return false;
+        }
+    }
+    
+    /**
+     * Dispatcher loop, hands queued events to the queues of their listeners
+     */
+    private void dispatch() {
+        List<TTLEvent> batch = new ArrayList<>(MAX_BATCH);
+        while (!shutdown || !ring.isEmpty()) {
+            if (paused && !shutdown) {
+                dispatcherPaused = true;
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(10));
+                continue;
+            }
+            dispatcherPaused = false;
+            if (ring.drainTo(batch, MAX_BATCH) == 0) {
+                dispatcherWaiting = true;
+                if (ring.isEmpty() && !shutdown) {
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(100));
+                }
+                dispatcherWaiting = false;
+                continue;
+            }
+            TTLListenerIndex index = listeners;
+            for (TTLEvent event : batch) {
+                for (TTLListenerQueue queue : index.listeners(event.getEventType())) {
+                    queue.enqueue(event);
+                }
+            }
+            dispatchedCount.addAndGet(batch.size());
+            batch.clear();
+        }
+    }
+    
+    /**
+     * Stop handing events to listeners until {@link #resumeDispatch()}, for tests
+     */
+    void pauseDispatch() {
+        paused = true;
+        while (!dispatcherPaused && !shutdown) {
+            LockSupport.unpark(dispatcher);
+            Thread.onSpinWait();
+        }
+    }
+    
+    void resumeDispatch() {
+        paused = false;
+        LockSupport.unpark(dispatcher);
+    }
+    
+    /**
+     * Wait until all events published so far have been delivered or dropped,
+     * quarantined listeners are not waited for
+     *
+     * @return true if they were, false if the timeout elapsed first
+     */
+    public boolean flush(long timeout, TimeUnit unit) throws InterruptedException {
+        long target = publishedCount.get();
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (dispatchedCount.get() + droppedOldestCount.get() < target) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            LockSupport.unpark(dispatcher);
+            LockSupport.parkNanos(this, TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        for (TTLListenerQueue queue : listeners.queues()) {
+            while (!queue.isQuarantined() && !queue.isIdle()) {
+                if (System.nanoTime() - deadline >= 0) {
+                    return false;
+                }
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                LockSupport.parkNanos(this, TimeUnit.MICROSECONDS.toNanos(100));
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Get the number of queued events
+     */
+    public int getQueuedEventCount() {
+        return ring.size();
+    }
+    
+    /**
+     * Get the maximum number of queued events
+     */
+    public int getCapacity() {
+        return ring.capacity();
+    }
+    
+    /**
+     * Get the number of events queued for dispatch
+     */
+    public long getPublishedCount() {
+        return publishedCount.get();
+    }
+    
+    /**
+     * Get the number of events handed to listener queues
+     */
+    public long getDispatchedCount() {
+        return dispatchedCount.get();
+    }
+    
+    /**
+     * Get the number of queued events dropped to make room for newer ones
+     */
+    public long getDroppedOldestCount() {
+        return droppedOldestCount.get();
+    }
+    
+    /**
+     * Get the number of events dropped because the ring was full
+     */
+    public long getDroppedNewestCount() {
+        return droppedNewestCount.get();
+    }
+    
+    /**
+     * Get the number of publishers that had to wait for room
+     */
+    public long getBlockedCount() {
+        return blockedCount.get();
+    }
+    
+    /**
+     * Enable all TTL rules globally and publish event
+     */
+    public void enableAllTTL(String reason) {
+        ttlManager.enableAllTTL();
+        publishEvent(TTLEventType.GLOBAL_TTL_ENABLED, "All TTL rules enabled", reason, null);
+    }
+    
+    /**
+     * Disable all TTL rules globally and publish event
+     */
+    public void disableAllTTL(String reason) {
+        ttlManager.disableAllTTL();
+        publishEvent(TTLEventType.GLOBAL_TTL_DISABLED, "All TTL rules disabled", reason, null);
+    }
+    
+    /**
+     * Extend global TTL and publish event
+     */
+    public void extendGlobalTTL(int extraDays, String reason) {
+        ttlManager.setGlobalTTLExtension(extraDays);
+        publishEvent(TTLEventType.GLOBAL_TTL_EXTENDED, 
+                    () -> "Global TTL extended by " + extraDays + " days", reason, extraDays);
+    }
+    
+    /**
+     * Override class TTL and publish event
+     */
+    public void overrideClassTTL(Class<?> clazz, TTLOverride override, String reason) {
+        ttlManager.overrideClassTTL(clazz, override);
+        // Skip building the payload when nobody listens
+        if (hasListeners(TTLEventType.CLASS_TTL_OVERRIDDEN)) {
+            publishEvent(TTLEventType.CLASS_TTL_OVERRIDDEN, 
+                        () -> "Class TTL overridden for " + clazz.getSimpleName(), reason, 
+                        new ClassOverrideData(clazz, override));
+        }
+    }
+    
+    /**
+     * Override method TTL and publish event
+     */
+    public void overrideMethodTTL(Class<?> clazz, String methodName, TTLOverride override, String reason) {
+        ttlManager.overrideMethodTTL(clazz, methodName, override);
+        if (hasListeners(TTLEventType.METHOD_TTL_OVERRIDDEN)) {
+            publishEvent(TTLEventType.METHOD_TTL_OVERRIDDEN, 
+                        () -> "Method TTL overridden for " + clazz.getSimpleName() + "#" + methodName, reason,
+                        new MethodOverrideData(clazz, methodName, override));
+        }
+    }
+    
+    /**
+     * Override field TTL and publish event
+     */
+    public void overrideFieldTTL(Class<?> clazz, String fieldName, TTLOverride override, String reason) {
+        ttlManager.overrideFieldTTL(clazz, fieldName, override);
+        if (hasListeners(TTLEventType.FIELD_TTL_OVERRIDDEN)) {
+            publishEvent(TTLEventType.FIELD_TTL_OVERRIDDEN, 
+                        () -> "Field TTL overridden for " + clazz.getSimpleName() + "." + fieldName, reason,
+                        new FieldOverrideData(clazz, fieldName, override));
+        }
+    }
+    
+    /**
+     * Clear all overrides and publish event
+     */
+    public void clearAllOverrides(String reason) {
+        ttlManager.clearAllOverrides();
+        publishEvent(TTLEventType.ALL_OVERRIDES_CLEARED, "All TTL overrides cleared", reason, null);
+    }
+    
+    /**
+     * Get current TTL management status
+     */
+    public TTLManagementStatus getStatus() {
+        return new TTLManagementStatus(
+            ttlManager.isGlobalTTLEnabled(),
+            ttlManager.getGlobalTTLExtension(),
+            ttlManager.getOverridesSummary(),
+            getListenerCount(),
+            enabled.get(),
+            getListenerStatuses()
+        );
+    }
+    
+    /**
+     * Shutdown the event publisher
+     */
+    public void shutdown() {
+        enabled.set(false);
+        shutdown = true;
+        LockSupport.unpark(dispatcher);
+        for (TTLListenerQueue queue : listeners.queues()) {
+            if (queue.getListener() instanceof TTLFlowSubscription) {
+                ((TTLFlowSubscription) queue.getListener()).complete();
+            }
+        }
+        clearListeners();
+    }
+    
+    /**
+     * Check if publisher is shutdown
+     */
+    public boolean isShutdown() {
+        return shutdown;
+    }
+    
+    /**
+     * Data classes for event payloads
+     */
+    public static class ClassOverrideData {
+        private final Class<?> clazz;
+        private final TTLOverride override;
+        
+        public ClassOverrideData(Class<?> clazz, TTLOverride override) {
+            this.clazz = clazz;
+            this.override = override;
+        }
+        
+        public Class<?> getClazz() { return clazz; }
+        public TTLOverride getOverride() { return override; }
+        
+        @Override
+        public String toString() {
+            return "ClassOverrideData{clazz=" + clazz.getSimpleName() + ", override=" + override + "}";
+        }
+    }
+    
+    public static class MethodOverrideData {
+        private final Class<?> clazz;
+        private final String methodName;
+        private final TTLOverride override;
+        
+        public MethodOverrideData(Class<?> clazz, String methodName, TTLOverride override) {
+            this.clazz = clazz;
+            this.methodName = methodName;
+            this.override = override;
+        }
+        
+        public Class<?> getClazz() { return clazz; }
+        public String getMethodName() { return methodName; }
+        public TTLOverride getOverride() { return override; }
+        
+        @Override
+        public String toString() {
+            return "MethodOverrideData{clazz=" + clazz.getSimpleName() + 
+                   ", method=" + methodName + ", override=" + override + "}";
+        }
+    }
+    
+    public static class FieldOverrideData {
+        private final Class<?> clazz;
+        private final String fieldName;
+        private final TTLOverride override;
+        
+        public FieldOverrideData(Class<?> clazz, String fieldName, TTLOverride override) {
+            this.clazz = clazz;
+            this.fieldName = fieldName;
+            this.override = override;
+        }
+        
+        public Class<?> getClazz() { return clazz; }
+        public String getFieldName() { return fieldName; }
+        public TTLOverride getOverride() { return override; }
+        
+        @Override
+        public String toString() {
+            return "FieldOverrideData{clazz=" + clazz.getSimpleName() + 
+                   ", field=" + fieldName + ", override=" + override + "}";
+        }
+    }
+}
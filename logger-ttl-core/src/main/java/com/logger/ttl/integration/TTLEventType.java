@@ -32,6 +32,9 @@ public enum TTLEventType {
     /** TTL override automatically removed */
     TTL_OVERRIDE_REMOVED,
     
+    /** TTL of a log call site expired */
+    CALL_SITE_EXPIRED,
+    
     /** All TTL overrides cleared */
     ALL_OVERRIDES_CLEARED,
     
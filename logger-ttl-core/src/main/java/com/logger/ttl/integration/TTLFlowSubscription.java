@@ -0,0 +1,242 @@
+package com.logger.ttl.integration;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Subscription of a {@link Flow.Subscriber} to TTL events.
+ *
+ * <p>Registered as a batch listener, it buffers events up to a bound and hands them to the
+ * subscriber on an executor, never more than requested. While the subscriber is behind, a newer
+ * event replaces a buffered one it supersedes: global enable/disable and extension events keep
+ * only the latest, override events the latest per class, method or field. When the buffer is
+ * still full the oldest event is dropped.</p>
+ */
+final class TTLFlowSubscription implements Flow.Subscription, TTLBatchEventListener {
+
+    private final TTLEventPublisher publisher;
+    private final Flow.Subscriber<? super TTLEvent> subscriber;
+    private final Executor executor;
+    private final int bufferSize;
+    private final ArrayDeque<TTLEvent> buffer = new ArrayDeque<>();
+
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private volatile boolean cancelled;
+    private volatile boolean completed;
+    private volatile Throwable error;
+
+    TTLFlowSubscription(TTLEventPublisher publisher, Flow.Subscriber<? super TTLEvent> subscriber,
+                        Executor executor, int bufferSize) {
+        this.publisher = publisher;
+        this.subscriber = subscriber;
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void onTTLEvents(List<TTLEvent> events) {
+        if (cancelled) {
+            return;
+        }
+        synchronized (buffer) {
+            for (TTLEvent event : events) {
+                offer(event);
+            }
+        }
+        signal();
+    }
+
+    private void offer(TTLEvent event) {
+        Object key = supersedeKey(event);
+        if (key != null) {
+            for (Iterator<TTLEvent> it = buffer.iterator(); it.hasNext(); ) {
+                if (key.equals(supersedeKey(it.next()))) {
+                    it.remove();
+                    coalescedCount.incrementAndGet();
+                    break;
+                }
+            }
+        }
+        if (buffer.size() >= bufferSize) {
+            buffer.poll();
+            droppedCount.incrementAndGet();
+        }
+        buffer.add(event);
+    }
+
+    /**
+     * Get the key of the state an event sets, a later event with the same key supersedes it
+     */
+    private static Object supersedeKey(TTLEvent event) {
+        Object data = event.getData();
+        switch (event.getEventType()) {
+            case GLOBAL_TTL_ENABLED:
+            case GLOBAL_TTL_DISABLED:
+                return TTLEventType.GLOBAL_TTL_ENABLED;
+            case GLOBAL_TTL_EXTENDED:
+                return TTLEventType.GLOBAL_TTL_EXTENDED;
+            case CLASS_TTL_OVERRIDDEN:
+                if (data instanceof TTLEventPublisher.ClassOverrideData) {
+                    return Arrays.asList(event.getEventType(),
+                        ((TTLEventPublisher.ClassOverrideData) data).getClazz());
+                }
+                return null;
+            case METHOD_TTL_OVERRIDDEN:
+                if (data instanceof TTLEventPublisher.MethodOverrideData) {
+                    TTLEventPublisher.MethodOverrideData method = (TTLEventPublisher.MethodOverrideData) data;
+                    return Arrays.asList(event.getEventType(), method.getClazz(), method.getMethodName());
+                }
+                return null;
+            case FIELD_TTL_OVERRIDDEN:
+                if (data instanceof TTLEventPublisher.FieldOverrideData) {
+                    TTLEventPublisher.FieldOverrideData field = (TTLEventPublisher.FieldOverrideData) data;
+                    return Arrays.asList(event.getEventType(), field.getClazz(), field.getFieldName());
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            fail(new IllegalArgumentException("Requested " + n + " events, the demand must be positive"));
+            return;
+        }
+        long current;
+        long next;
+        do {
+            current = requested.get();
+            next = current + n < 0 ? Long.MAX_VALUE : current + n;
+        } while (!requested.compareAndSet(current, next));
+        signal();
+    }
+
+    @Override
+    public void cancel() {
+        if (!cancelled) {
+            cancelled = true;
+            publisher.removeListener(this);
+            signal();
+        }
+    }
+
+    /**
+     * Ends the subscription with onComplete once the buffered events were delivered
+     */
+    void complete() {
+        completed = true;
+        signal();
+    }
+
+    private void fail(Throwable throwable) {
+        error = throwable;
+        publisher.removeListener(this);
+        signal();
+    }
+
+    /**
+     * Schedules a drain unless one is running, which then loops once more
+     */
+    private void signal() {
+        if (wip.getAndIncrement() == 0) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                cancelled = true;
+                publisher.removeListener(this);
+                subscriber.onError(e);
+            }
+        }
+    }
+
+    private void drain() {
+        int missed = 1;
+        do {
+            long demand = requested.get();
+            long emitted = 0;
+            while (!cancelled) {
+                Throwable failure = error;
+                if (failure != null) {
+                    terminate();
+                    subscriber.onError(failure);
+                    break;
+                }
+                TTLEvent event = null;
+                if (emitted != demand) {
+                    synchronized (buffer) {
+                        event = buffer.poll();
+                    }
+                }
+                if (event == null) {
+                    if (completed && isBufferEmpty()) {
+                        terminate();
+                        subscriber.onComplete();
+                    }
+                    break;
+                }
+                try {
+                    subscriber.onNext(event);
+                } catch (Throwable t) {
+                    // A subscriber must not throw, treat it as cancelled
+                    cancel();
+                    break;
+                }
+                emitted++;
+            }
+            if (cancelled) {
+                synchronized (buffer) {
+                    buffer.clear();
+                }
+            } else if (emitted != 0 && demand != Long.MAX_VALUE) {
+                requested.addAndGet(-emitted);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void terminate() {
+        cancelled = true;
+        publisher.removeListener(this);
+    }
+
+    private boolean isBufferEmpty() {
+        synchronized (buffer) {
+            return buffer.isEmpty();
+        }
+    }
+
+    /**
+     * Get the number of buffered events replaced by a newer event
+     */
+    long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * Get the number of buffered events dropped because the buffer was full
+     */
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "TTLFlowSubscription{subscriber=" + subscriber +
+                ", buffered=" + buffer.size() + "/" + bufferSize +
+                ", coalesced=" + coalescedCount.get() +
+                ", dropped=" + droppedCount.get() + '}';
+    }
+}
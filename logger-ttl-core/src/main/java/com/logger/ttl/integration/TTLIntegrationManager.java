@@ -0,0 +1,626 @@
+package com.logger.ttl.integration;
+
+import com.logger.ttl.TTLClock;
+import com.logger.ttl.TTLExpiryScheduler;
+import com.logger.ttl.TTLManager;
+import com.logger.ttl.TTLOverride;
+import com.logger.ttl.TTLStatistics;
+import com.logger.ttl.TTLConfig;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Comprehensive integration manager for TTL management that works without Spring Boot.
+ * Provides multiple integration patterns for non-Spring applications to build custom integrations
+ * and update TTL configurations during runtime.
+ *
+ * <p>Scheduled overrides are removed by a hierarchical timing wheel, advanced by a single
+ * {@code ttl-override-scheduler} thread every tick of {@code logger.ttl.overrides.tickMillis}
+ * (10 ms by default) on the {@link TTLClock#exactMillis() exact time} of the {@link TTLClock},
+ * which the coarser cached clock does not delay. Scheduling and cancelling take constant time,
+ * so thousands of time-boxed overrides cost no more than a few.</p>
+ */
+public class TTLIntegrationManager {
+    
+    /**
+     * Default resolution of scheduled override removals
+     */
+    public static final long DEFAULT_OVERRIDE_TICK_MILLIS = 10;
+    
+    // Longest idle wait of the scheduler thread, so clock replacements are noticed
+    private static final long MAX_IDLE_WAIT_MILLIS = 1000;
+    
+    private static final TTLIntegrationManager INSTANCE = new TTLIntegrationManager();
+    
+    private final TTLManager ttlManager;
+    private final TTLEventPublisher eventPublisher;
+    private final TTLTimingWheel overrideWheel;
+    private final Thread overrideScheduler;
+    private final ConcurrentMap<String, ScheduledOverride> scheduledOverrides;
+    private final AtomicLong operationCounter;
+    private volatile boolean shutdown;
+    
+    private TTLIntegrationManager() {
+        this.ttlManager = TTLManager.getInstance();
+        this.eventPublisher = TTLEventPublisher.getInstance();
+        this.overrideWheel = new TTLTimingWheel(
+            Long.getLong("logger.ttl.overrides.tickMillis", DEFAULT_OVERRIDE_TICK_MILLIS),
+            () -> TTLClock.current().exactMillis());
+        this.overrideScheduler = new Thread(this::runOverrideScheduler, "ttl-override-scheduler");
+        this.overrideScheduler.setDaemon(true);
+        this.scheduledOverrides = new ConcurrentHashMap<>();
+        this.operationCounter = new AtomicLong(0);
+        
+        // Start the integration manager
+        start();
+    }
+    
+    /**
+     * Get the singleton instance of TTLIntegrationManager
+     */
+    public static TTLIntegrationManager getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Start the integration manager
+     */
+    private void start() {
+        overrideScheduler.start();
+        TTLStatisticsBean.register();
+        
+        eventPublisher.publishEvent(TTLEventType.SYSTEM_STARTED, 
+            "TTL Integration Manager Started", "System startup", null);
+        
+        // Publish call site expiries detected by the expiry scheduler
+        TTLExpiryScheduler.getInstance().addExpiryListener(site ->
+            eventPublisher.publishEvent(TTLEventType.CALL_SITE_EXPIRED,
+                () -> "Call site TTL expired: " + site.getCallingClass().getName() + "#" + site.getMethodName()
+                    + " (" + site.getLevel() + ")",
+                "TTL expired", site));
+    }
+    
+    /**
+     * Shutdown the integration manager
+     */
+    public void shutdown() {
+        eventPublisher.shutdown();
+        TTLStatisticsBean.unregister();
+        shutdown = true;
+        LockSupport.unpark(overrideScheduler);
+        synchronized (scheduledOverrides) {
+            scheduledOverrides.values().forEach(scheduled -> overrideWheel.cancel(scheduled.timeout));
+            scheduledOverrides.clear();
+        }
+        
+        try {
+            overrideScheduler.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    // ========================================
+    // Event Publishing Integration
+    // ========================================
+    
+    /**
+     * Add an event listener for TTL management events
+     */
+    public void addEventListener(TTLEventListener listener) {
+        eventPublisher.addListener(listener);
+    }
+    
+    /**
+     * Subscribe a reactive subscriber to all events, delivered on demand
+     */
+    public void addEventListener(java.util.concurrent.Flow.Subscriber<? super TTLEvent> subscriber) {
+        eventPublisher.asFlowPublisher().subscribe(subscriber);
+    }
+    
+    /**
+     * Add an event listener using lambda expression
+     */
+    public void addLambdaEventListener(Consumer<TTLEvent> eventHandler) {
+        eventPublisher.addListener(eventHandler);
+    }
+    
+    /**
+     * Add an event listener for the given event types only
+     */
+    public void addEventListener(java.util.Set<TTLEventType> eventTypes, TTLEventListener listener) {
+        eventPublisher.addListener(eventTypes, listener);
+    }
+    
+    /**
+     * Add an event listener for a single event type using lambda expression
+     */
+    public void addLambdaEventListener(TTLEventType eventType, Consumer<TTLEvent> eventHandler) {
+        eventPublisher.addListener(eventType, eventHandler);
+    }
+    
+    /**
+     * Remove an event listener
+     */
+    public void removeEventListener(TTLEventListener listener) {
+        eventPublisher.removeListener(listener);
+    }
+    
+    /**
+     * Deliver events to a quarantined event listener again
+     */
+    public boolean releaseEventListener(TTLEventListener listener) {
+        return eventPublisher.releaseListener(listener);
+    }
+    
+    /**
+     * Get current event listener count
+     */
+    public int getEventListenerCount() {
+        return eventPublisher.getListenerCount();
+    }
+    
+    // ========================================
+    // TTL Management Operations
+    // ========================================
+    
+    /**
+     * Enable all TTL rules globally
+     */
+    public void enableAllTTL(String reason) {
+        ttlManager.enableAllTTL();
+        operationCounter.incrementAndGet();
+        eventPublisher.publishEvent(TTLEventType.GLOBAL_TTL_ENABLED, 
+            "All TTL rules enabled", reason, null);
+    }
+    
+    /**
+     * Disable all TTL rules globally
+     */
+    public void disableAllTTL(String reason) {
+        ttlManager.disableAllTTL();
+        operationCounter.incrementAndGet();
+        eventPublisher.publishEvent(TTLEventType.GLOBAL_TTL_DISABLED, 
+            "All TTL rules disabled", reason, null);
+    }
+    
+    /**
+     * Extend global TTL by specified days
+     */
+    public void extendGlobalTTL(int extraDays, String reason) {
+        ttlManager.setGlobalTTLExtension(extraDays);
+        operationCounter.incrementAndGet();
+        eventPublisher.publishEvent(TTLEventType.GLOBAL_TTL_EXTENDED, 
+            () -> "Global TTL extended by " + extraDays + " days", reason, extraDays);
+    }
+    
+    /**
+     * Override TTL for a specific class
+     */
+    public void overrideClassTTL(Class<?> clazz, TTLOverride override, String reason) {
+        ttlManager.overrideClassTTL(clazz, override);
+        operationCounter.incrementAndGet();
+        // Skip building the payload when nobody listens
+        if (eventPublisher.hasListeners(TTLEventType.CLASS_TTL_OVERRIDDEN)) {
+            eventPublisher.publishEvent(TTLEventType.CLASS_TTL_OVERRIDDEN, 
+                () -> "Class TTL overridden for " + clazz.getSimpleName(), reason, 
+                new TTLEventPublisher.ClassOverrideData(clazz, override));
+        }
+    }
+    
+    /**
+     * Override TTL for a specific method
+     */
+    public void overrideMethodTTL(Class<?> clazz, String methodName, TTLOverride override, String reason) {
+        ttlManager.overrideMethodTTL(clazz, methodName, override);
+        operationCounter.incrementAndGet();
+        if (eventPublisher.hasListeners(TTLEventType.METHOD_TTL_OVERRIDDEN)) {
+            eventPublisher.publishEvent(TTLEventType.METHOD_TTL_OVERRIDDEN, 
+                () -> "Method TTL overridden for " + clazz.getSimpleName() + "#" + methodName, reason,
+                new TTLEventPublisher.MethodOverrideData(clazz, methodName, override));
+        }
+    }
+    
+    /**
+     * Override TTL for a specific field
+     */
+    public void overrideFieldTTL(Class<?> clazz, String fieldName, TTLOverride override, String reason) {
+        ttlManager.overrideFieldTTL(clazz, fieldName, override);
+        operationCounter.incrementAndGet();
+        if (eventPublisher.hasListeners(TTLEventType.FIELD_TTL_OVERRIDDEN)) {
+            eventPublisher.publishEvent(TTLEventType.FIELD_TTL_OVERRIDDEN, 
+                () -> "Field TTL overridden for " + clazz.getSimpleName() + "." + fieldName, reason,
+                new TTLEventPublisher.FieldOverrideData(clazz, fieldName, override));
+        }
+    }
+    
+    /**
+     * Clear all TTL overrides
+     */
+    public void clearAllOverrides(String reason) {
+        ttlManager.clearAllOverrides();
+        synchronized (scheduledOverrides) {
+            scheduledOverrides.values().forEach(scheduled -> overrideWheel.cancel(scheduled.timeout));
+            scheduledOverrides.clear();
+        }
+        operationCounter.incrementAndGet();
+        eventPublisher.publishEvent(TTLEventType.ALL_OVERRIDES_CLEARED, 
+            "All TTL overrides cleared", reason, null);
+    }
+    
+    // ========================================
+    // Scheduled Override Management
+    // ========================================
+    
+    /**
+     * Schedule a TTL override that will be automatically removed after specified duration
+     */
+    public void scheduleOverride(String overrideId, Class<?> clazz, TTLOverride override, 
+                               long durationMs, String reason) {
+        schedule(new ScheduledOverride(overrideId, ScheduledOverride.Scope.CLASS, 
+            Objects.requireNonNull(clazz, "clazz"), null, override, durationMs, reason));
+    }
+    
+    /**
+     * Schedule a method TTL override that will be automatically removed after specified duration
+     */
+    public void scheduleMethodOverride(String overrideId, Class<?> clazz, String methodName, 
+                                       TTLOverride override, long durationMs, String reason) {
+        schedule(new ScheduledOverride(overrideId, ScheduledOverride.Scope.METHOD, 
+            Objects.requireNonNull(clazz, "clazz"), Objects.requireNonNull(methodName, "methodName"), 
+            override, durationMs, reason));
+    }
+    
+    /**
+     * Schedule a field TTL override that will be automatically removed after specified duration
+     */
+    public void scheduleFieldOverride(String overrideId, Class<?> clazz, String fieldName, 
+                                      TTLOverride override, long durationMs, String reason) {
+        schedule(new ScheduledOverride(overrideId, ScheduledOverride.Scope.FIELD, 
+            Objects.requireNonNull(clazz, "clazz"), Objects.requireNonNull(fieldName, "fieldName"), 
+            override, durationMs, reason));
+    }
+    
+    /**
+     * Schedule a global override that will be automatically removed after specified duration.
+     * A bypass override enables all TTL rules, an extension override sets the global extension.
+     */
+    public void scheduleGlobalOverride(String overrideId, TTLOverride override, long durationMs, String reason) {
+        if (override != null && override.getType() == TTLOverride.OverrideType.REPLACE) {
+            throw new IllegalArgumentException("A global override can only bypass or extend TTL rules");
+        }
+        schedule(new ScheduledOverride(overrideId, ScheduledOverride.Scope.GLOBAL, null, null, 
+            override, durationMs, reason));
+    }
+    
+    /**
+     * Applies a scheduled override, replacing a scheduled override with the same ID
+     */
+    private void schedule(ScheduledOverride scheduledOverride) {
+        Objects.requireNonNull(scheduledOverride.getOverrideId(), "overrideId");
+        Objects.requireNonNull(scheduledOverride.getOverride(), "override");
+        synchronized (scheduledOverrides) {
+            ScheduledOverride previous = scheduledOverrides.put(scheduledOverride.getOverrideId(), scheduledOverride);
+            if (previous != null) {
+                // The earlier removal must not remove the new override
+                overrideWheel.cancel(previous.timeout);
+                if (!previous.hasSameTarget(scheduledOverride)) {
+                    revert(previous);
+                }
+            }
+            apply(scheduledOverride);
+            scheduledOverride.timeout = overrideWheel.schedule(scheduledOverride.getDurationMs(),
+                () -> expire(scheduledOverride));
+        }
+        if (overrideWheel.size() == 1) {
+            // The scheduler thread idles while no override is scheduled
+            LockSupport.unpark(overrideScheduler);
+        }
+        
+        operationCounter.incrementAndGet();
+        eventPublisher.publishEvent(TTLEventType.TTL_OVERRIDE_SCHEDULED, 
+            () -> "TTL override scheduled for " + scheduledOverride.getTarget() + 
+                " (ID: " + scheduledOverride.getOverrideId() + ")", scheduledOverride.getReason(),
+            scheduledOverride);
+    }
+    
+    /**
+     * Remove a scheduled TTL override
+     */
+    public void removeScheduledOverride(String overrideId, String reason) {
+        ScheduledOverride scheduledOverride;
+        synchronized (scheduledOverrides) {
+            scheduledOverride = scheduledOverrides.remove(overrideId);
+            if (scheduledOverride == null) {
+                return;
+            }
+            overrideWheel.cancel(scheduledOverride.timeout);
+            revert(scheduledOverride);
+        }
+        publishRemoved(scheduledOverride, reason);
+    }
+    
+    private void expire(ScheduledOverride scheduledOverride) {
+        synchronized (scheduledOverrides) {
+            if (!scheduledOverrides.remove(scheduledOverride.getOverrideId(), scheduledOverride)) {
+                return;
+            }
+            revert(scheduledOverride);
+        }
+        publishRemoved(scheduledOverride, scheduledOverride.getReason());
+    }
+    
+    private void publishRemoved(ScheduledOverride scheduledOverride, String reason) {
+        eventPublisher.publishEvent(TTLEventType.TTL_OVERRIDE_REMOVED, 
+            () -> "Scheduled TTL override removed for " + scheduledOverride.getTarget() + 
+            " (ID: " + scheduledOverride.getOverrideId() + ")", reason, scheduledOverride);
+    }
+    
+    private void apply(ScheduledOverride scheduled) {
+        TTLOverride override = scheduled.getOverride();
+        switch (scheduled.getScope()) {
+            case GLOBAL:
+                if (override.getType() == TTLOverride.OverrideType.BYPASS) {
+                    ttlManager.enableAllTTL();
+                } else {
+                    ttlManager.setGlobalTTLExtension(override.getExtraDays());
+                }
+                break;
+            case CLASS:
+                ttlManager.overrideClassTTL(scheduled.getClazz(), override);
+                break;
+            case METHOD:
+                ttlManager.overrideMethodTTL(scheduled.getClazz(), scheduled.getMemberName(), override);
+                break;
+            default:
+                ttlManager.overrideFieldTTL(scheduled.getClazz(), scheduled.getMemberName(), override);
+                break;
+        }
+    }
+    
+    /**
+     * Removes the override of a scheduled override, unless it has been replaced in the meantime
+     */
+    private void revert(ScheduledOverride scheduled) {
+        TTLOverride override = scheduled.getOverride();
+        Class<?> clazz = scheduled.getClazz();
+        String member = scheduled.getMemberName();
+        switch (scheduled.getScope()) {
+            case GLOBAL:
+                if (override.getType() == TTLOverride.OverrideType.BYPASS) {
+                    ttlManager.updateRules(r -> r.isGlobalBypass() ? r.withGlobalBypass(false) : r);
+                } else {
+                    ttlManager.updateRules(r -> r.getGlobalExtension() == override.getExtraDays()
+                        ? r.withGlobalExtension(0) : r);
+                }
+                break;
+            case CLASS:
+                ttlManager.updateRules(r -> r.getClassOverride(clazz) == override
+                    ? r.withClassOverride(clazz, null) : r);
+                break;
+            case METHOD:
+                ttlManager.updateRules(r -> r.getMethodOverride(clazz, member) == override
+                    ? r.withMethodOverride(clazz, member, null) : r);
+                break;
+            default:
+                ttlManager.updateRules(r -> r.getFieldOverride(clazz, member) == override
+                    ? r.withFieldOverride(clazz, member, null) : r);
+                break;
+        }
+    }
+    
+    /**
+     * Removes the scheduled overrides whose duration has passed on the current clock,
+     * e.g. right after a test advanced its clock
+     *
+     * @return the number of overrides removed
+     */
+    public int runDueScheduledOverrides() {
+        List<Runnable> due = overrideWheel.advance();
+        for (Runnable removal : due) {
+            try {
+                removal.run();
+            } catch (RuntimeException e) {
+                System.err.println("Error removing scheduled TTL override: " + e.getMessage());
+            }
+        }
+        return due.size();
+    }
+    
+    private void runOverrideScheduler() {
+        long tickNanos = TimeUnit.MILLISECONDS.toNanos(overrideWheel.getTickMillis());
+        while (!shutdown) {
+            runDueScheduledOverrides();
+            LockSupport.parkNanos(this, overrideWheel.size() > 0
+                ? tickNanos : TimeUnit.MILLISECONDS.toNanos(MAX_IDLE_WAIT_MILLIS));
+        }
+    }
+    
+    /**
+     * Get all scheduled override IDs
+     */
+    public java.util.Set<String> getScheduledOverrideIds() {
+        return scheduledOverrides.keySet();
+    }
+    
+    /**
+     * Get scheduled override count
+     */
+    public int getScheduledOverrideCount() {
+        return scheduledOverrides.size();
+    }
+    
+    // ========================================
+    // Status and Monitoring
+    // ========================================
+    
+    /**
+     * Get comprehensive TTL management status
+     */
+    public TTLManagementStatus getStatus() {
+        return new TTLManagementStatus(
+            ttlManager.isGlobalTTLEnabled(),
+            ttlManager.getGlobalTTLExtension(),
+            ttlManager.getOverridesSummary(),
+            getEventListenerCount(),
+            eventPublisher.isEnabled(),
+            eventPublisher.getListenerStatuses()
+        );
+    }
+    
+    /**
+     * Get total operation count
+     */
+    public long getTotalOperations() {
+        return operationCounter.get();
+    }
+    
+    /**
+     * Get the counts of emitted and suppressed statements, also registered as
+     * the {@value TTLStatisticsBean#OBJECT_NAME} MBean
+     */
+    public TTLStatistics getStatistics() {
+        return TTLStatistics.getInstance();
+    }
+    
+    /**
+     * Get TTL manager instance for direct access
+     */
+    public TTLManager getTTLManager() {
+        return ttlManager;
+    }
+    
+    /**
+     * Get event publisher instance for direct access
+     */
+    public TTLEventPublisher getEventPublisher() {
+        return eventPublisher;
+    }
+    
+    // ========================================
+    // Utility Methods
+    // ========================================
+    
+    /**
+     * Check if TTL should be bypassed for specific context
+     */
+    public boolean shouldBypassTTL(Class<?> clazz, String methodName, String fieldName, TTLConfig config) {
+        return ttlManager.shouldBypassTTL(clazz, methodName, fieldName, config);
+    }
+    
+    /**
+     * Apply global TTL extension to TTL configuration
+     */
+    public TTLConfig applyGlobalExtension(TTLConfig config) {
+        return ttlManager.applyGlobalExtension(config);
+    }
+    
+    /**
+     * Get TTL override for a specific class
+     */
+    public TTLOverride getClassTTLOverride(Class<?> clazz) {
+        return ttlManager.getClassTTLOverride(clazz);
+    }
+    
+    /**
+     * Get TTL override for a specific method
+     */
+    public TTLOverride getMethodTTLOverride(Class<?> clazz, String methodName) {
+        return ttlManager.getMethodTTLOverride(clazz, methodName);
+    }
+    
+    /**
+     * Get TTL override for a specific field
+     */
+    public TTLOverride getFieldTTLOverride(Class<?> clazz, String fieldName) {
+        return ttlManager.getFieldTTLOverride(clazz, fieldName);
+    }
+    
+    // ========================================
+    // Internal Classes
+    // ========================================
+    
+    /**
+     * Scheduled override, published as data of the scheduled and removed events
+     */
+    public static class ScheduledOverride {
+        
+        /**
+         * What a scheduled override applies to
+         */
+        public enum Scope { GLOBAL, CLASS, METHOD, FIELD }
+        
+        private final String overrideId;
+        private final Scope scope;
+        private final Class<?> clazz;
+        private final String memberName;
+        private final TTLOverride override;
+        private final long durationMs;
+        private final String reason;
+        private final long scheduledTime;
+        private TTLTimingWheel.Timeout timeout;
+        
+        ScheduledOverride(String overrideId, Scope scope, Class<?> clazz, String memberName,
+                          TTLOverride override, long durationMs, String reason) {
+            this.overrideId = overrideId;
+            this.scope = scope;
+            this.clazz = clazz;
+            this.memberName = memberName;
+            this.override = override;
+            this.durationMs = durationMs;
+            this.reason = reason;
+            this.scheduledTime = TTLClock.current().exactMillis();
+        }
+        
+        public String getOverrideId() { return overrideId; }
+        public Scope getScope() { return scope; }
+        public Class<?> getClazz() { return clazz; }
+        public String getMemberName() { return memberName; }
+        public TTLOverride getOverride() { return override; }
+        public long getDurationMs() { return durationMs; }
+        public String getReason() { return reason; }
+        public long getScheduledTime() { return scheduledTime; }
+        
+        /**
+         * Get the epoch milliseconds at which the override is removed
+         */
+        public long getExpiryTime() {
+            return durationMs > Long.MAX_VALUE - scheduledTime ? Long.MAX_VALUE : scheduledTime + durationMs;
+        }
+        
+        /**
+         * Get a readable name of the overridden class, method or field
+         */
+        public String getTarget() {
+            switch (scope) {
+                case GLOBAL:
+                    return "all classes";
+                case CLASS:
+                    return clazz.getSimpleName();
+                case METHOD:
+                    return clazz.getSimpleName() + "#" + memberName;
+                default:
+                    return clazz.getSimpleName() + "." + memberName;
+            }
+        }
+        
+        boolean hasSameTarget(ScheduledOverride other) {
+            return scope == other.scope && clazz == other.clazz && Objects.equals(memberName, other.memberName)
+                && (scope != Scope.GLOBAL || override.getType() == other.override.getType());
+        }
+        
+        @Override
+        public String toString() {
+            return "ScheduledOverride{id=" + overrideId + ", target=" + getTarget() + 
+                   ", reason='" + reason + "', scheduled=" + scheduledTime + 
+                   ", expires=" + getExpiryTime() + "}";
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.logger.ttl.integration;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with power-of-two nanosecond buckets.
+ *
+ * <p>Bucket {@code i} counts latencies below {@code 2^(i+1)} ns, so percentiles are reported
+ * as the upper bound of their bucket, at most twice the actual value.</p>
+ */
+final class TTLLatencyHistogram {
+
+    // Up to 2^40 ns, about 18 minutes, longer calls land in the last bucket
+    private static final int BUCKETS = 40;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private volatile long maxNanos;
+
+    /**
+     * Records one latency
+     */
+    void record(long nanos) {
+        long value = Math.max(1, nanos);
+        int bucket = Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(value));
+        counts.incrementAndGet(bucket);
+        if (value > maxNanos) {
+            synchronized (this) {
+                if (value > maxNanos) {
+                    maxNanos = value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the number of recorded latencies
+     */
+    long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Get the upper bound of the given percentile in nanoseconds, or 0 if nothing was recorded
+     */
+    long getPercentileNanos(double percentile) {
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(maxNanos, (1L << (i + 1)) - 1);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Get the largest recorded latency in nanoseconds
+     */
+    long getMaxNanos() {
+        return maxNanos;
+    }
+}
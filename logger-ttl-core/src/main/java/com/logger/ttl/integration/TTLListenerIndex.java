@@ -0,0 +1,78 @@
+package com.logger.ttl.integration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable index of listener queues by the event types their listeners subscribed to.
+ *
+ * <p>{@link TTLEventPublisher} replaces the index as a whole whenever a listener is added or
+ * removed, so publishing and dispatching read a consistent snapshot without locking and only
+ * touch the listeners interested in an event type. Queues are shared between snapshots.</p>
+ */
+final class TTLListenerIndex {
+
+    private static final TTLListenerQueue[] NONE = new TTLListenerQueue[0];
+
+    static final TTLListenerIndex EMPTY = new TTLListenerIndex(Collections.emptyList());
+
+    private final List<TTLListenerQueue> queues;
+    private final Map<TTLEventType, TTLListenerQueue[]> byType = new EnumMap<>(TTLEventType.class);
+
+    private TTLListenerIndex(List<TTLListenerQueue> queues) {
+        this.queues = queues;
+        for (TTLEventType type : TTLEventType.values()) {
+            List<TTLListenerQueue> listeners = new ArrayList<>();
+            for (TTLListenerQueue queue : queues) {
+                if (queue.accepts(type)) {
+                    listeners.add(queue);
+                }
+            }
+            byType.put(type, listeners.isEmpty() ? NONE : listeners.toArray(NONE));
+        }
+    }
+
+    /**
+     * Derive an index with an additional listener queue
+     */
+    TTLListenerIndex with(TTLListenerQueue queue) {
+        List<TTLListenerQueue> copy = new ArrayList<>(queues);
+        copy.add(queue);
+        return new TTLListenerIndex(Collections.unmodifiableList(copy));
+    }
+
+    /**
+     * Derive an index without the queues of the listener
+     */
+    TTLListenerIndex without(TTLEventListener listener) {
+        List<TTLListenerQueue> copy = new ArrayList<>(queues);
+        if (!copy.removeIf(queue -> queue.getListener().equals(listener))) {
+            return this;
+        }
+        return copy.isEmpty() ? EMPTY : new TTLListenerIndex(Collections.unmodifiableList(copy));
+    }
+
+    /**
+     * Get the queues of the listeners subscribed to an event type, in subscription order
+     */
+    TTLListenerQueue[] listeners(TTLEventType type) {
+        return byType.get(type);
+    }
+
+    /**
+     * Check if any listener is subscribed to an event type
+     */
+    boolean hasListeners(TTLEventType type) {
+        return byType.get(type).length > 0;
+    }
+
+    /**
+     * Get all listener queues, in subscription order
+     */
+    List<TTLListenerQueue> queues() {
+        return queues;
+    }
+}
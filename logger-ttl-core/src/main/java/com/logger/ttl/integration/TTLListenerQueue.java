@@ -0,0 +1,267 @@
+package com.logger.ttl.integration;
+
+import com.logger.ttl.jfr.TTLEventDeliveryEvent;
+import com.logger.ttl.jfr.TTLFlightRecorder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded event queue and consumer thread of a single listener.
+ *
+ * <p>The event dispatcher only enqueues, so a slow or stuck listener delays nobody but itself.
+ * When its queue is full the oldest event is dropped. A listener whose call takes longer than
+ * the latency budget, or that is still inside a call after the budget when a new event arrives,
+ * is quarantined: it receives no further events until it is released. So is a listener that
+ * throws an {@link Error}.</p>
+ */
+final class TTLListenerQueue {
+
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+
+    // Largest number of events handed to a batch listener in one call
+    private static final int MAX_BATCH = 256;
+
+    private final TTLEventListener listener;
+    private final EnumSet<TTLEventType> types;
+    private final TTLEventRing<TTLEvent> ring;
+    private final LongSupplier latencyBudgetNanos;
+    private final TTLLatencyHistogram latency = new TTLLatencyHistogram();
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile Thread consumer;
+    private volatile long callStartNanos;
+    private volatile boolean waiting;
+    private volatile boolean quarantined;
+    private volatile boolean stopped;
+    private volatile String lastError;
+
+    TTLListenerQueue(TTLEventListener listener, EnumSet<TTLEventType> types, int capacity,
+                     LongSupplier latencyBudgetNanos) {
+        this.listener = listener;
+        this.types = types;
+        this.ring = new TTLEventRing<>(capacity);
+        this.latencyBudgetNanos = latencyBudgetNanos;
+    }
+
+    TTLEventListener getListener() {
+        return listener;
+    }
+
+    boolean accepts(TTLEventType type) {
+        return types.contains(type);
+    }
+
+    /**
+     * Queues an event for the listener, called by the dispatcher thread only
+     */
+    void enqueue(TTLEvent event) {
+        long callStart = callStartNanos;
+        long budget = latencyBudgetNanos.getAsLong();
+        if (!quarantined && budget > 0 && callStart != 0 && System.nanoTime() - callStart > budget) {
+            quarantine("Listener call running for more than " + TimeUnit.NANOSECONDS.toMillis(budget) + " ms");
+        }
+        if (quarantined || stopped) {
+            rejected.incrementAndGet();
+            return;
+        }
+        while (!ring.offer(event)) {
+            if (ring.poll() != null) {
+                evicted.incrementAndGet();
+            }
+        }
+        enqueued.incrementAndGet();
+        startConsumer();
+        if (waiting) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private synchronized void startConsumer() {
+        if (consumer == null && !stopped) {
+            consumer = new Thread(this::consume, "ttl-event-listener-" + THREAD_IDS.incrementAndGet());
+            consumer.setDaemon(true);
+            consumer.start();
+        }
+    }
+
+    private void consume() {
+        List<TTLEvent> batch = new ArrayList<>();
+        while (!stopped) {
+            if (quarantined || ring.drainTo(batch, MAX_BATCH) == 0) {
+                waiting = true;
+                if ((quarantined || ring.isEmpty()) && !stopped) {
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(100));
+                }
+                waiting = false;
+                continue;
+            }
+            if (listener instanceof TTLBatchEventListener) {
+                call(Collections.unmodifiableList(new ArrayList<>(batch)));
+            } else {
+                for (TTLEvent event : batch) {
+                    call(event);
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    private void call(TTLEvent event) {
+        TTLEventDeliveryEvent delivery = beginDelivery();
+        long start = begin();
+        try {
+            listener.onTTLEvent(event);
+        } catch (Exception e) {
+            fail(e);
+        } catch (Error e) {
+            broken(e);
+        } finally {
+            end(start, 1);
+            record(delivery, start, event, 1);
+        }
+    }
+
+    private void call(List<TTLEvent> events) {
+        TTLEventDeliveryEvent delivery = beginDelivery();
+        long start = begin();
+        try {
+            ((TTLBatchEventListener) listener).onTTLEvents(events);
+        } catch (Exception e) {
+            fail(e);
+        } catch (Error e) {
+            broken(e);
+        } finally {
+            end(start, events.size());
+            record(delivery, start, events.get(0), events.size());
+        }
+    }
+
+    /**
+     * Starts timing a listener call as a delivery event while a flight recording is running
+     */
+    private static TTLEventDeliveryEvent beginDelivery() {
+        if (!TTLFlightRecorder.isRecording()) {
+            return null;
+        }
+        TTLEventDeliveryEvent delivery = new TTLEventDeliveryEvent();
+        delivery.begin();
+        return delivery;
+    }
+
+    /**
+     * Commits a delivery event, the lag is measured for the oldest event of the call
+     */
+    private void record(TTLEventDeliveryEvent delivery, long start, TTLEvent oldest, int events) {
+        if (delivery == null) {
+            return;
+        }
+        delivery.end();
+        if (delivery.shouldCommit()) {
+            delivery.listener = listener.getClass().getName();
+            delivery.eventType = oldest.getEventType().name();
+            delivery.eventCount = events;
+            long published = oldest.publishedNanos;
+            delivery.lag = published != 0 ? Math.max(0, start - published) : 0;
+            delivery.commit();
+        }
+    }
+
+    private long begin() {
+        long start = System.nanoTime();
+        callStartNanos = start == 0 ? 1 : start;
+        return start;
+    }
+
+    private void end(long start, int events) {
+        long elapsed = System.nanoTime() - start;
+        latency.record(elapsed);
+        // Cleared first, so enqueue cannot quarantine a released listener again for a finished call
+        callStartNanos = 0;
+        long budget = latencyBudgetNanos.getAsLong();
+        if (budget > 0 && elapsed > budget) {
+            quarantine("Listener call took " + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms");
+        }
+        // Only counted after the quarantine decision, so flush never sees a half finished call
+        processed.addAndGet(events);
+    }
+
+    private void fail(Throwable e) {
+        failed.incrementAndGet();
+        lastError = e.getClass().getName() + ": " + e.getMessage();
+        // Log error but don't fail other listeners
+        System.err.println("Error in TTL event listener: " + e.getMessage());
+    }
+
+    /**
+     * Quarantines a listener that threw an Error, instead of letting it end the consumer thread
+     * unnoticed. It is called again once released.
+     */
+    private void broken(Error e) {
+        fail(e);
+        quarantine("Listener threw " + e.getClass().getName() + ": " + e.getMessage());
+    }
+
+    private void quarantine(String cause) {
+        if (!quarantined) {
+            quarantined = true;
+            lastError = cause;
+            System.err.println("TTL event listener quarantined: " + cause + " (" + listener + ")");
+        }
+    }
+
+    /**
+     * Lift the quarantine, queued events are delivered again
+     */
+    void release() {
+        quarantined = false;
+        Thread thread = consumer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    boolean isQuarantined() {
+        return quarantined;
+    }
+
+    /**
+     * Stops the consumer, queued events are discarded
+     */
+    void stop() {
+        stopped = true;
+        Thread thread = consumer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Check if every queued event has been delivered or dropped
+     */
+    boolean isIdle() {
+        return processed.get() + evicted.get() >= enqueued.get() && callStartNanos == 0;
+    }
+
+    TTLListenerStatus status() {
+        return new TTLListenerStatus(String.valueOf(listener), Collections.unmodifiableSet(types),
+            ring.size(), ring.capacity(), processed.get() - failed.get(), failed.get(),
+            evicted.get() + rejected.get(),
+            TimeUnit.NANOSECONDS.toMicros(latency.getPercentileNanos(50)),
+            TimeUnit.NANOSECONDS.toMicros(latency.getPercentileNanos(99)),
+            TimeUnit.NANOSECONDS.toMicros(latency.getMaxNanos()),
+            quarantined, lastError);
+    }
+}
@@ -0,0 +1,105 @@
+package com.logger.ttl.integration;
+
+import java.util.Set;
+
+/**
+ * Delivery statistics of a single TTL event listener.
+ * Latencies are the time spent in the listener per call, in microseconds.
+ */
+public class TTLListenerStatus {
+
+    private final String listener;
+    private final Set<TTLEventType> eventTypes;
+    private final int queueDepth;
+    private final int queueCapacity;
+    private final long deliveredCount;
+    private final long failedCount;
+    private final long droppedCount;
+    private final long p50LatencyMicros;
+    private final long p99LatencyMicros;
+    private final long maxLatencyMicros;
+    private final boolean quarantined;
+    private final String lastError;
+
+    public TTLListenerStatus(String listener, Set<TTLEventType> eventTypes, int queueDepth, int queueCapacity,
+                             long deliveredCount, long failedCount, long droppedCount,
+                             long p50LatencyMicros, long p99LatencyMicros, long maxLatencyMicros,
+                             boolean quarantined, String lastError) {
+        this.listener = listener;
+        this.eventTypes = eventTypes;
+        this.queueDepth = queueDepth;
+        this.queueCapacity = queueCapacity;
+        this.deliveredCount = deliveredCount;
+        this.failedCount = failedCount;
+        this.droppedCount = droppedCount;
+        this.p50LatencyMicros = p50LatencyMicros;
+        this.p99LatencyMicros = p99LatencyMicros;
+        this.maxLatencyMicros = maxLatencyMicros;
+        this.quarantined = quarantined;
+        this.lastError = lastError;
+    }
+
+    public String getListener() {
+        return listener;
+    }
+
+    public Set<TTLEventType> getEventTypes() {
+        return eventTypes;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public long getDeliveredCount() {
+        return deliveredCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    public long getP50LatencyMicros() {
+        return p50LatencyMicros;
+    }
+
+    public long getP99LatencyMicros() {
+        return p99LatencyMicros;
+    }
+
+    public long getMaxLatencyMicros() {
+        return maxLatencyMicros;
+    }
+
+    public boolean isQuarantined() {
+        return quarantined;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    @Override
+    public String toString() {
+        return "TTLListenerStatus{" +
+                "listener='" + listener + '\'' +
+                ", queueDepth=" + queueDepth + "/" + queueCapacity +
+                ", delivered=" + deliveredCount +
+                ", failed=" + failedCount +
+                ", dropped=" + droppedCount +
+                ", p50=" + p50LatencyMicros + "us" +
+                ", p99=" + p99LatencyMicros + "us" +
+                ", max=" + maxLatencyMicros + "us" +
+                ", quarantined=" + quarantined +
+                (lastError != null ? ", lastError='" + lastError + '\'' : "") +
+                '}';
+    }
+}
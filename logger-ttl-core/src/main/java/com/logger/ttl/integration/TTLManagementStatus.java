@@ -1,5 +1,8 @@
 package com.logger.ttl.integration;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Status information for TTL management in non-Spring applications.
  * Provides comprehensive information about current TTL management state.
@@ -11,15 +14,24 @@ public class TTLManagementStatus {
     private final String overridesSummary;
     private final int listenerCount;
     private final boolean eventPublishingEnabled;
+    private final List<TTLListenerStatus> listenerStatuses;
     
     public TTLManagementStatus(boolean globalTTLEnabled, int globalTTLExtension, 
                               String overridesSummary, int listenerCount, 
                               boolean eventPublishingEnabled) {
+        this(globalTTLEnabled, globalTTLExtension, overridesSummary, listenerCount,
+             eventPublishingEnabled, Collections.emptyList());
+    }
+    
+    public TTLManagementStatus(boolean globalTTLEnabled, int globalTTLExtension, 
+                              String overridesSummary, int listenerCount, 
+                              boolean eventPublishingEnabled, List<TTLListenerStatus> listenerStatuses) {
         this.globalTTLEnabled = globalTTLEnabled;
         this.globalTTLExtension = globalTTLExtension;
         this.overridesSummary = overridesSummary;
         this.listenerCount = listenerCount;
         this.eventPublishingEnabled = eventPublishingEnabled;
+        this.listenerStatuses = Collections.unmodifiableList(listenerStatuses);
     }
     
     public boolean isGlobalTTLEnabled() {
@@ -42,6 +54,13 @@ public class TTLManagementStatus {
         return eventPublishingEnabled;
     }
     
+    /**
+     * Get the queue and latency statistics of every event listener
+     */
+    public List<TTLListenerStatus> getListenerStatuses() {
+        return listenerStatuses;
+    }
+    
     @Override
     public String toString() {
         return "TTLManagementStatus{" +
@@ -50,6 +69,7 @@ public class TTLManagementStatus {
                 ", overridesSummary='" + overridesSummary + '\'' +
                 ", listenerCount=" + listenerCount +
                 ", eventPublishingEnabled=" + eventPublishingEnabled +
+                ", listenerStatuses=" + listenerStatuses +
                 '}';
     }
 }
@@ -0,0 +1,175 @@
+package com.logger.ttl.integration;
+
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.TTLStatistics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Platform MBean exposing {@link TTLStatistics}, registered by {@link TTLIntegrationManager}.
+ */
+public class TTLStatisticsBean implements TTLStatisticsMXBean {
+
+    /**
+     * Object name of the registered MBean
+     */
+    public static final String OBJECT_NAME = "com.logger.ttl:type=TTLStatistics";
+
+    private static final int TOP_CALL_SITES = 10;
+
+    private final TTLStatistics statistics;
+    private long sampleNanos;
+    private long sampleEmitted;
+    private long sampleSuppressed;
+    private double emittedPerSecond;
+    private double suppressedPerSecond;
+
+    public TTLStatisticsBean(TTLStatistics statistics) {
+        this.statistics = statistics;
+        this.sampleNanos = System.nanoTime();
+        this.sampleEmitted = statistics.getEmittedCount();
+        this.sampleSuppressed = statistics.getSuppressedCount();
+    }
+
+    /**
+     * Register the MBean on the platform MBean server, unless one is registered already
+     *
+     * @return true if it was registered
+     */
+    static boolean register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                return false;
+            }
+            server.registerMBean(new TTLStatisticsBean(TTLStatistics.getInstance()), name);
+            return true;
+        } catch (JMException | SecurityException e) {
+            System.err.println("Could not register TTL statistics MBean: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Unregister the MBean from the platform MBean server
+     */
+    static void unregister() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException | SecurityException e) {
+            System.err.println("Could not unregister TTL statistics MBean: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public long getEmittedCount() {
+        return statistics.getEmittedCount();
+    }
+
+    @Override
+    public long getSuppressedCount() {
+        return statistics.getSuppressedCount();
+    }
+
+    @Override
+    public double getSuppressedRatio() {
+        long suppressed = statistics.getSuppressedCount();
+        long total = suppressed + statistics.getEmittedCount();
+        return total == 0 ? 0 : (double) suppressed / total;
+    }
+
+    @Override
+    public double getEmittedPerSecond() {
+        sample();
+        return emittedPerSecond;
+    }
+
+    @Override
+    public double getSuppressedPerSecond() {
+        sample();
+        return suppressedPerSecond;
+    }
+
+    /**
+     * Recomputes the rates once at least a second passed since the previous sample
+     */
+    private synchronized void sample() {
+        long now = System.nanoTime();
+        long elapsed = now - sampleNanos;
+        if (elapsed < TimeUnit.SECONDS.toNanos(1)) {
+            return;
+        }
+        long emitted = statistics.getEmittedCount();
+        long suppressed = statistics.getSuppressedCount();
+        double seconds = elapsed / 1e9;
+        // A reset in between would give negative rates
+        emittedPerSecond = Math.max(0, emitted - sampleEmitted) / seconds;
+        suppressedPerSecond = Math.max(0, suppressed - sampleSuppressed) / seconds;
+        sampleNanos = now;
+        sampleEmitted = emitted;
+        sampleSuppressed = suppressed;
+    }
+
+    @Override
+    public Map<String, Long> getEmittedByLevel() {
+        return byName(statistics.getEmittedByLevel());
+    }
+
+    @Override
+    public Map<String, Long> getSuppressedByLevel() {
+        return byName(statistics.getSuppressedByLevel());
+    }
+
+    @Override
+    public Map<String, Long> getEmittedByOverride() {
+        return statistics.getEmittedByOverride();
+    }
+
+    @Override
+    public Map<String, Long> getSuppressedByOverride() {
+        return statistics.getSuppressedByOverride();
+    }
+
+    @Override
+    public List<TTLStatistics.CallSiteCounts> getTopCallSites() {
+        return statistics.getTopCallSites(TOP_CALL_SITES);
+    }
+
+    @Override
+    public int getCallSiteCount() {
+        return statistics.getCallSiteCount();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return statistics.isEnabled();
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        statistics.setEnabled(enabled);
+    }
+
+    @Override
+    public void reset() {
+        statistics.reset();
+    }
+
+    private static Map<String, Long> byName(Map<LogLevel, Long> byLevel) {
+        Map<String, Long> result = new TreeMap<>();
+        byLevel.forEach((level, count) -> result.put(level.name(), count));
+        return result;
+    }
+}
@@ -0,0 +1,61 @@
+package com.logger.ttl.integration;
+
+import com.logger.ttl.TTLStatistics;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JMX view of {@link TTLStatistics}, registered as {@value TTLStatisticsBean#OBJECT_NAME}.
+ */
+public interface TTLStatisticsMXBean {
+
+    /**
+     * Get the number of statements logged at TTL call sites
+     */
+    long getEmittedCount();
+
+    /**
+     * Get the number of statements suppressed by TTL
+     */
+    long getSuppressedCount();
+
+    /**
+     * Get the share of statements suppressed by TTL, between 0 and 1
+     */
+    double getSuppressedRatio();
+
+    /**
+     * Get the logged statements per second, measured between reads at least a second apart
+     */
+    double getEmittedPerSecond();
+
+    /**
+     * Get the suppressed statements per second, measured between reads at least a second apart
+     */
+    double getSuppressedPerSecond();
+
+    Map<String, Long> getEmittedByLevel();
+
+    Map<String, Long> getSuppressedByLevel();
+
+    Map<String, Long> getEmittedByOverride();
+
+    Map<String, Long> getSuppressedByOverride();
+
+    /**
+     * Get the ten call sites with the most suppressed statements
+     */
+    List<TTLStatistics.CallSiteCounts> getTopCallSites();
+
+    int getCallSiteCount();
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    /**
+     * Reset all counts to zero
+     */
+    void reset();
+}
@@ -0,0 +1,251 @@
+package com.logger.ttl.integration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Hierarchical timing wheel running the removal of scheduled overrides.
+ *
+ * <p>Time is divided in ticks. Level 0 has a slot per tick for the next 64 ticks and every
+ * further level has slots 64 times as wide, so 11 levels cover any tick. A timeout is linked into
+ * the slot of the lowest level whose span contains it, which makes scheduling and cancelling O(1).
+ * When time reaches a slot of a higher level, its timeouts cascade to the lower levels. Stretches
+ * without timeouts are skipped in one step, and a clock that went backwards re-links all timeouts.
+ * Instants are read from a clock, so a manual {@link com.logger.ttl.TTLClock} drives the wheel.</p>
+ */
+final class TTLTimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+
+    // Pseudo level holding timeouts that were already due when scheduled
+    private static final int DUE = LEVELS;
+
+    private final long tickMillis;
+    private final LongSupplier clock;
+    private final Timeout[][] slots = new Timeout[LEVELS + 1][];
+    private final int[] counts = new int[LEVELS + 1];
+    private long currentTick;
+    private int size;
+
+    TTLTimingWheel(long tickMillis, LongSupplier clock) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+        this.clock = clock;
+        this.currentTick = Math.floorDiv(clock.getAsLong(), tickMillis);
+        slots[DUE] = new Timeout[1];
+    }
+
+    /**
+     * Schedules a task to run once the delay has passed on the clock
+     */
+    synchronized Timeout schedule(long delayMillis, Runnable task) {
+        long now = clock.getAsLong();
+        rebaseIfClockWentBack(Math.floorDiv(now, tickMillis));
+        long at = delayMillis > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + Math.max(0, delayMillis);
+        // Round up, a timeout never runs early
+        Timeout timeout = new Timeout(-Math.floorDiv(-at, tickMillis), task);
+        link(timeout);
+        return timeout;
+    }
+
+    /**
+     * Cancels a timeout
+     *
+     * @return true if it was pending, false if it already ran or was cancelled
+     */
+    synchronized boolean cancel(Timeout timeout) {
+        if (timeout == null || timeout.level < 0) {
+            return false;
+        }
+        unlink(timeout);
+        return true;
+    }
+
+    /**
+     * Advances to the current instant of the clock and removes the timeouts that became due
+     *
+     * @return the tasks of the due timeouts, in expiry order
+     */
+    List<Runnable> advance() {
+        List<Runnable> due = new ArrayList<>();
+        synchronized (this) {
+            long nowTick = Math.floorDiv(clock.getAsLong(), tickMillis);
+            rebaseIfClockWentBack(nowTick);
+            expire(DUE, 0, due);
+            while (currentTick < nowTick) {
+                int lowest = lowestUsedLevel();
+                if (lowest < 0) {
+                    currentTick = nowTick;
+                    break;
+                }
+                int shift = lowest * SLOT_BITS;
+                long next = lowest == 0 ? currentTick + 1 : ((currentTick >>> shift) + 1) << shift;
+                if (next > nowTick) {
+                    // Nothing becomes due before the next slot boundary of the lowest used level
+                    currentTick = nowTick;
+                    break;
+                }
+                currentTick = next;
+                for (int level = LEVELS - 1; level > 0; level--) {
+                    if ((next & ((1L << (level * SLOT_BITS)) - 1)) == 0) {
+                        cascade(level, (int) ((next >>> (level * SLOT_BITS)) & MASK));
+                    }
+                }
+                expire(0, (int) (next & MASK), due);
+                expire(DUE, 0, due);
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Get the number of pending timeouts
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Get the duration of a tick in milliseconds
+     */
+    long getTickMillis() {
+        return tickMillis;
+    }
+
+    private void link(Timeout timeout) {
+        long delta = timeout.expiryTick ^ currentTick;
+        int level;
+        int slot;
+        if (timeout.expiryTick <= currentTick) {
+            level = DUE;
+            slot = 0;
+        } else {
+            level = (Long.SIZE - 1 - Long.numberOfLeadingZeros(delta)) / SLOT_BITS;
+            slot = (int) ((timeout.expiryTick >>> (level * SLOT_BITS)) & MASK);
+        }
+        Timeout[] buckets = slots[level];
+        if (buckets == null) {
+            buckets = new Timeout[SLOTS];
+            slots[level] = buckets;
+        }
+        timeout.level = level;
+        timeout.slot = slot;
+        timeout.prev = null;
+        timeout.next = buckets[slot];
+        if (timeout.next != null) {
+            timeout.next.prev = timeout;
+        }
+        buckets[slot] = timeout;
+        counts[level]++;
+        size++;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            slots[timeout.level][timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        counts[timeout.level]--;
+        size--;
+        timeout.level = -1;
+        timeout.prev = null;
+        timeout.next = null;
+    }
+
+    private int lowestUsedLevel() {
+        for (int level = 0; level < LEVELS; level++) {
+            if (counts[level] > 0) {
+                return level;
+            }
+        }
+        return -1;
+    }
+
+    private Timeout detach(int level, int slot) {
+        Timeout[] buckets = slots[level];
+        if (buckets == null || buckets[slot] == null) {
+            return null;
+        }
+        Timeout head = buckets[slot];
+        buckets[slot] = null;
+        for (Timeout t = head; t != null; t = t.next) {
+            counts[level]--;
+            size--;
+            t.level = -1;
+        }
+        return head;
+    }
+
+    private void cascade(int level, int slot) {
+        Timeout t = detach(level, slot);
+        while (t != null) {
+            Timeout next = t.next;
+            link(t);
+            t = next;
+        }
+    }
+
+    private void expire(int level, int slot, List<Runnable> due) {
+        Timeout t = detach(level, slot);
+        List<Timeout> expired = new ArrayList<>();
+        while (t != null) {
+            Timeout next = t.next;
+            t.prev = null;
+            t.next = null;
+            expired.add(t);
+            t = next;
+        }
+        if (expired.size() > 1) {
+            expired.sort((a, b) -> Long.compare(a.expiryTick, b.expiryTick));
+        }
+        for (Timeout timeout : expired) {
+            due.add(timeout.task);
+        }
+    }
+
+    private void rebaseIfClockWentBack(long nowTick) {
+        if (nowTick >= currentTick) {
+            return;
+        }
+        List<Timeout> all = new ArrayList<>(size);
+        for (int level = 0; level <= LEVELS; level++) {
+            Timeout[] buckets = slots[level];
+            for (int slot = 0; buckets != null && slot < buckets.length; slot++) {
+                for (Timeout t = detach(level, slot); t != null; t = t.next) {
+                    all.add(t);
+                }
+            }
+        }
+        currentTick = nowTick;
+        for (Timeout t : all) {
+            link(t);
+        }
+    }
+
+    /**
+     * Pending task, linked into a slot of the wheel
+     */
+    static final class Timeout {
+        private final long expiryTick;
+        private final Runnable task;
+        private Timeout prev;
+        private Timeout next;
+        private int level = -1;
+        private int slot;
+
+        private Timeout(long expiryTick, Runnable task) {
+            this.expiryTick = expiryTick;
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.logger.ttl.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * TTL decision of a log statement. The duration is the time spent resolving the caller
+ * and its call site and deciding.
+ */
+@Name(TTLDecisionEvent.NAME)
+@Label("TTL Decision")
+@Description("Decision whether a log statement is executed or suppressed by its TTL")
+@Category("Logger TTL")
+@Enabled(false)
+@StackTrace(false)
+public final class TTLDecisionEvent extends Event {
+
+    public static final String NAME = "com.logger.ttl.Decision";
+
+    /**
+     * Statement was executed, within its TTL window
+     */
+    public static final String LOGGED = "LOGGED";
+
+    /**
+     * Statement was skipped, its TTL expired or has not started
+     */
+    public static final String SUPPRESSED = "SUPPRESSED";
+
+    /**
+     * Statement was executed, no TTL applies to it
+     */
+    public static final String UNAFFECTED = "UNAFFECTED";
+
+    @Label("Calling Class")
+    public String callingClass;
+
+    @Label("Calling Method")
+    public String callingMethod;
+
+    @Label("Level")
+    public String level;
+
+    @Label("Decision")
+    public String decision;
+
+    @Label("Cache Hit")
+    @Description("The call site was resolved before")
+    public boolean cacheHit;
+}
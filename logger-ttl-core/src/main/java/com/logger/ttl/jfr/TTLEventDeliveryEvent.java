@@ -0,0 +1,39 @@
+package com.logger.ttl.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Call of a TTL event listener. The duration is the listener call, the lag how long
+ * the oldest delivered event waited since it was published.
+ */
+@Name(TTLEventDeliveryEvent.NAME)
+@Label("TTL Event Delivery")
+@Description("TTLEventPublisher handing events to a listener")
+@Category("Logger TTL")
+@Enabled(false)
+@StackTrace(false)
+public final class TTLEventDeliveryEvent extends Event {
+
+    public static final String NAME = "com.logger.ttl.EventDelivery";
+
+    @Label("Listener")
+    public String listener;
+
+    @Label("Event Type")
+    @Description("Type of the oldest delivered event")
+    public String eventType;
+
+    @Label("Event Count")
+    public int eventCount;
+
+    @Label("Dispatch Lag")
+    @Timespan(Timespan.NANOSECONDS)
+    public long lag;
+}
@@ -0,0 +1,60 @@
+package com.logger.ttl.jfr;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Tracks whether a Java Flight Recorder recording is running.
+ *
+ * <p>TTL code only creates its JFR events while a recording runs, which costs a single
+ * volatile read otherwise. The flag follows the state changes of all recordings. Whether an
+ * event is committed is then decided by the recording settings. All TTL events are disabled
+ * by default, they are enabled by name in a {@code .jfc} settings file or with
+ * {@code Recording.enable("com.logger.ttl.Decision")}.</p>
+ */
+public final class TTLFlightRecorder {
+
+    private static volatile boolean recording;
+
+    static {
+        try {
+            FlightRecorder.addListener(new FlightRecorderListener() {
+                @Override
+                public void recorderInitialized(FlightRecorder recorder) {
+                    update(recorder);
+                }
+
+                @Override
+                public void recordingStateChanged(Recording changed) {
+                    update(FlightRecorder.getFlightRecorder());
+                }
+            });
+        } catch (RuntimeException | LinkageError e) {
+            // No JFR in this runtime, events are never created
+        }
+    }
+
+    private TTLFlightRecorder() {
+        // Utility class
+    }
+
+    /**
+     * Check if a recording is running, TTL events are only created when it is
+     */
+    public static boolean isRecording() {
+        return recording;
+    }
+
+    private static void update(FlightRecorder recorder) {
+        boolean running = false;
+        for (Recording r : recorder.getRecordings()) {
+            if (r.getState() == RecordingState.RUNNING) {
+                running = true;
+                break;
+            }
+        }
+        recording = running;
+    }
+}
@@ -0,0 +1,261 @@
+package com.logger.ttl.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summarizes the TTL events of a {@code .jfr} file into tables of suppression and cost per
+ * call site, per kind of rules change and per event listener.
+ *
+ * <p>Run it as {@code java -cp logger-ttl.jar com.logger.ttl.jfr.TTLRecordingSummary recording.jfr [rows]}.</p>
+ */
+public final class TTLRecordingSummary {
+
+    private final Map<String, CallSite> callSites = new LinkedHashMap<>();
+    private final Map<String, RulesChange> rulesChanges = new LinkedHashMap<>();
+    private final Map<String, Delivery> deliveries = new LinkedHashMap<>();
+
+    private TTLRecordingSummary() {
+    }
+
+    /**
+     * Reads the TTL events of a recording
+     */
+    public static TTLRecordingSummary read(Path recording) throws IOException {
+        TTLRecordingSummary summary = new TTLRecordingSummary();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                summary.add(file.readEvent());
+            }
+        }
+        return summary;
+    }
+
+    private void add(RecordedEvent event) {
+        long nanos = event.getDuration().toNanos();
+        switch (event.getEventType().getName()) {
+            case TTLDecisionEvent.NAME: {
+                String className = event.getString("callingClass");
+                String methodName = event.getString("callingMethod");
+                String level = event.getString("level");
+                callSites.computeIfAbsent(className + "#" + methodName + " " + level,
+                        k -> new CallSite(className, methodName, level))
+                    .add(event.getString("decision"), event.getBoolean("cacheHit"), nanos);
+                break;
+            }
+            case TTLRulesChangeEvent.NAME: {
+                String change = event.getString("change");
+                rulesChanges.computeIfAbsent(change, RulesChange::new).add(event.getInt("retries"), nanos);
+                break;
+            }
+            case TTLEventDeliveryEvent.NAME: {
+                String listener = event.getString("listener");
+                deliveries.computeIfAbsent(listener, Delivery::new)
+                    .add(event.getInt("eventCount"), event.getDuration("lag").toNanos(), nanos);
+                break;
+            }
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Get the call sites, those with the most suppressed statements first
+     */
+    public List<CallSite> getCallSites() {
+        List<CallSite> result = new ArrayList<>(callSites.values());
+        result.sort(Comparator.comparingLong(CallSite::getSuppressed)
+            .thenComparingLong(CallSite::getTotalNanos).reversed());
+        return result;
+    }
+
+    /**
+     * Get the rules changes per TTLManager operation, the most expensive first
+     */
+    public List<RulesChange> getRulesChanges() {
+        List<RulesChange> result = new ArrayList<>(rulesChanges.values());
+        result.sort(Comparator.comparingLong(RulesChange::getTotalNanos).reversed());
+        return result;
+    }
+
+    /**
+     * Get the deliveries per listener class, the most lagging first
+     */
+    public List<Delivery> getDeliveries() {
+        List<Delivery> result = new ArrayList<>(deliveries.values());
+        result.sort(Comparator.comparingLong(Delivery::getMaxLagNanos).reversed());
+        return result;
+    }
+
+    /**
+     * Prints the summary tables, with at most the given number of rows each
+     */
+    public void print(PrintStream out, int rows) {
+        out.println("TTL decisions per call site");
+        out.printf("%-60s %-5s %10s %10s %7s %8s %10s %10s%n",
+            "Call site", "Level", "Decisions", "Suppressed", "Supp%", "Misses", "Mean ns", "Max ns");
+        for (CallSite site : limit(getCallSites(), rows)) {
+            out.printf("%-60s %-5s %10d %10d %6.1f%% %8d %10d %10d%n",
+                site.getClassName() + "#" + site.getMethodName(), site.getLevel(), site.getDecisions(),
+                site.getSuppressed(), site.getSuppressedRatio() * 100, site.getCacheMisses(),
+                site.getMeanNanos(), site.getMaxNanos());
+        }
+        out.println();
+        out.println("TTL rules changes");
+        out.printf("%-30s %8s %12s %12s %8s%n", "Change", "Count", "Mean ns", "Max ns", "Retries");
+        for (RulesChange change : limit(getRulesChanges(), rows)) {
+            out.printf("%-30s %8d %12d %12d %8d%n", change.getChange(), change.getCount(),
+                change.getMeanNanos(), change.getMaxNanos(), change.getRetries());
+        }
+        out.println();
+        out.println("TTL event deliveries per listener");
+        out.printf("%-50s %8s %8s %12s %12s %12s%n",
+            "Listener", "Calls", "Events", "Mean lag ns", "Max lag ns", "Mean ns");
+        for (Delivery delivery : limit(getDeliveries(), rows)) {
+            out.printf("%-50s %8d %8d %12d %12d %12d%n", delivery.getListener(), delivery.getCalls(),
+                delivery.getEvents(), delivery.getMeanLagNanos(), delivery.getMaxLagNanos(),
+                delivery.getMeanNanos());
+        }
+    }
+
+    private static <T> List<T> limit(List<T> list, int rows) {
+        return list.size() > rows ? list.subList(0, rows) : list;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: TTLRecordingSummary <recording.jfr> [rows]");
+            System.exit(2);
+        }
+        int rows = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        read(Paths.get(args[0])).print(System.out, rows);
+    }
+
+    /**
+     * Decisions taken at one call site and level
+     */
+    public static final class CallSite {
+        private final String className;
+        private final String methodName;
+        private final String level;
+        private long decisions;
+        private long suppressed;
+        private long cacheMisses;
+        private long totalNanos;
+        private long maxNanos;
+
+        CallSite(String className, String methodName, String level) {
+            this.className = className;
+            this.methodName = methodName;
+            this.level = level;
+        }
+
+        void add(String decision, boolean cacheHit, long nanos) {
+            decisions++;
+            if (TTLDecisionEvent.SUPPRESSED.equals(decision)) {
+                suppressed++;
+            }
+            if (!cacheHit) {
+                cacheMisses++;
+            }
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        public String getClassName() { return className; }
+        public String getMethodName() { return methodName; }
+        public String getLevel() { return level; }
+        public long getDecisions() { return decisions; }
+        public long getSuppressed() { return suppressed; }
+        public long getCacheMisses() { return cacheMisses; }
+        public long getTotalNanos() { return totalNanos; }
+        public long getMaxNanos() { return maxNanos; }
+
+        public double getSuppressedRatio() {
+            return decisions == 0 ? 0 : (double) suppressed / decisions;
+        }
+
+        public long getMeanNanos() {
+            return decisions == 0 ? 0 : totalNanos / decisions;
+        }
+    }
+
+    /**
+     * Rules changes made by one TTLManager operation
+     */
+    public static final class RulesChange {
+        private final String change;
+        private long count;
+        private long retries;
+        private long totalNanos;
+        private long maxNanos;
+
+        RulesChange(String change) {
+            this.change = change;
+        }
+
+        void add(int retried, long nanos) {
+            count++;
+            retries += retried;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        public String getChange() { return change; }
+        public long getCount() { return count; }
+        public long getRetries() { return retries; }
+        public long getTotalNanos() { return totalNanos; }
+        public long getMaxNanos() { return maxNanos; }
+
+        public long getMeanNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+    }
+
+    /**
+     * Calls of the listeners of one class
+     */
+    public static final class Delivery {
+        private final String listener;
+        private long calls;
+        private long events;
+        private long totalLagNanos;
+        private long maxLagNanos;
+        private long totalNanos;
+
+        Delivery(String listener) {
+            this.listener = listener;
+        }
+
+        void add(int eventCount, long lagNanos, long nanos) {
+            calls++;
+            events += eventCount;
+            totalLagNanos += lagNanos;
+            maxLagNanos = Math.max(maxLagNanos, lagNanos);
+            totalNanos += nanos;
+        }
+
+        public String getListener() { return listener; }
+        public long getCalls() { return calls; }
+        public long getEvents() { return events; }
+        public long getMaxLagNanos() { return maxLagNanos; }
+
+        public long getMeanLagNanos() {
+            return calls == 0 ? 0 : totalLagNanos / calls;
+        }
+
+        public long getMeanNanos() {
+            return calls == 0 ? 0 : totalNanos / calls;
+        }
+    }
+}
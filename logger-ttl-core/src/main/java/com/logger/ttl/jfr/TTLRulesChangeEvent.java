@@ -0,0 +1,40 @@
+package com.logger.ttl.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Change of the TTL rules of {@link com.logger.ttl.TTLManager}. The duration includes
+ * invalidating the call sites and notifying the rules listeners.
+ */
+@Name(TTLRulesChangeEvent.NAME)
+@Label("TTL Rules Change")
+@Description("Override or global TTL setting changed at runtime")
+@Category("Logger TTL")
+@Enabled(false)
+public final class TTLRulesChangeEvent extends Event {
+
+    public static final String NAME = "com.logger.ttl.RulesChange";
+
+    @Label("Change")
+    @Description("TTLManager operation, such as overrideClassTTL")
+    public String change;
+
+    @Label("Target")
+    @Description("Class, method or field the change applies to, empty for global changes")
+    public String target;
+
+    @Label("Override Type")
+    public String overrideType;
+
+    @Label("Rules Version")
+    public long version;
+
+    @Label("Retries")
+    @Description("Times the change was retried because of a concurrent change")
+    public int retries;
+}
@@ -0,0 +1,139 @@
+package com.logger.ttl.jul;
+
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.LogTTL;
+import com.logger.ttl.TTLLoggerName;
+import com.logger.ttl.TTLManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Filter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * {@code java.util.logging} filter applying {@link LogTTL} annotations and {@link TTLManager}
+ * rules, so suppressed records never reach handler formatting or I/O.
+ *
+ * <p>Set it on a logger with {@link #install(Logger)}, or on a handler in
+ * {@code logging.properties}, which also covers records of child loggers:</p>
+ * <pre>
+ * java.util.logging.ConsoleHandler.filter = com.logger.ttl.jul.TTLJulFilter
+ * </pre>
+ *
+ * <p>The calling class is the class the logger is named after, resolved once per name by
+ * {@link TTLLoggerName}. Only when that class has method-level annotations or overrides, or when
+ * the logger name is not a class name, is the source class and method of the record used.
+ * Getting them makes JUL infer the caller from the stack unless it was given with
+ * {@code logp}; the result is kept in the record for formatters. Loggers named after a class
+ * without annotations are passed without looking at the source.</p>
+ *
+ * <p>Loggers not named after a class, such as the root, global or component loggers, may be
+ * shared by annotated and unannotated classes, so each of their records is decided by its own
+ * source class, resolved once per class name.</p>
+ */
+public class TTLJulFilter implements Filter {
+
+    private final Filter next;
+    private final ConcurrentMap<String, TTLLoggerName> names = new ConcurrentHashMap<>();
+
+    public TTLJulFilter() {
+        this(null);
+    }
+
+    /**
+     * Creates a filter that asks the given filter about records within their TTL
+     */
+    public TTLJulFilter(Filter next) {
+        this.next = next;
+    }
+
+    /**
+     * Sets a TTL filter on a logger, in front of the filter it already has
+     */
+    public static TTLJulFilter install(Logger logger) {
+        TTLJulFilter filter = new TTLJulFilter(logger.getFilter());
+        logger.setFilter(filter);
+        return filter;
+    }
+
+    /**
+     * Get the number of logger and source class names with a cached TTL resolution
+     */
+    public int getCachedNameCount() {
+        return names.size();
+    }
+
+    @Override
+    public boolean isLoggable(LogRecord record) {
+        return decide(record) && (next == null || next.isLoggable(record));
+    }
+
+    private boolean decide(LogRecord record) {
+        LogLevel level = toLogLevel(record.getLevel());
+        if (level == null) {
+            return true;
+        }
+        TTLLoggerName name = resolve(record.getLoggerName());
+        if (name == TTLLoggerName.UNKNOWN) {
+            // Not named after a class, such as a component logger
+            name = resolve(record.getSourceClassName());
+        }
+        if (!name.isManaged()) {
+            return true;
+        }
+        return name.shouldLog(name.needsMethod(level) ? sourceMethod(record, name) : "", level);
+    }
+
+    private TTLLoggerName resolve(String name) {
+        if (name == null) {
+            return TTLLoggerName.UNKNOWN;
+        }
+        TTLLoggerName resolved = names.get(name);
+        if (resolved == null) {
+            resolved = names.computeIfAbsent(name, TTLLoggerName::resolve);
+        }
+        return resolved;
+    }
+
+    /**
+     * Gets the source method of a record from the calling class, or "" for class-level rules
+     */
+    private static String sourceMethod(LogRecord record, TTLLoggerName name) {
+        String method = record.getSourceMethodName();
+        return method != null && name.isCallingClass(record.getSourceClassName()) ? method : "";
+    }
+
+    /**
+     * Maps a JUL level to the nearest TTL level: FINEST and FINER to TRACE, FINE and CONFIG to
+     * DEBUG, WARNING to WARN and SEVERE to ERROR. Returns null for OFF.
+     */
+    static LogLevel toLogLevel(Level level) {
+        if (level == null) {
+            return null;
+        }
+        int value = level.intValue();
+        if (value == Level.OFF.intValue()) {
+            return null;
+        }
+        if (value <= Level.FINER.intValue()) {
+            return LogLevel.TRACE;
+        }
+        if (value <= Level.CONFIG.intValue()) {
+            return LogLevel.DEBUG;
+        }
+        if (value <= Level.INFO.intValue()) {
+            return LogLevel.INFO;
+        }
+        if (value <= Level.WARNING.intValue()) {
+            return LogLevel.WARN;
+        }
+        return LogLevel.ERROR;
+    }
+
+    @Override
+    public String toString() {
+        return "TTLJulFilter{names=" + names.size() + (next != null ? ", next=" + next : "") + '}';
+    }
+}
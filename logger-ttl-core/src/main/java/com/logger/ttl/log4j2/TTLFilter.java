@@ -0,0 +1,216 @@
+package com.logger.ttl.log4j2;
+
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.LogTTL;
+import com.logger.ttl.TTLLoggerName;
+import com.logger.ttl.TTLManager;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.Logger;
+import org.apache.logging.log4j.core.config.Node;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.filter.AbstractFilter;
+import org.apache.logging.log4j.message.Message;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Log4j2 filter applying {@link LogTTL} annotations and {@link TTLManager} rules to plain
+ * SLF4J and Log4j2 loggers, so call sites do not have to switch to {@code TTLLogger}.
+ *
+ * <p>Declared directly under {@code <Configuration>}, it runs before Log4j2 creates a
+ * {@code LogEvent}, so suppressed statements cost no event, message or appender work:</p>
+ * <pre>
+ * &lt;Configuration&gt;
+ *     &lt;TTLFilter onMatch="NEUTRAL" onMismatch="DENY"/&gt;
+ *     ...
+ * &lt;/Configuration&gt;
+ * </pre>
+ *
+ * <p>The calling class is the class the logger is named after. Whether that class, its
+ * superclasses or interfaces carry TTL annotations is resolved once per logger name by
+ * {@link TTLLoggerName}. Only for levels covered by an annotated method, or while one of its
+ * methods has a runtime override, is the stack walked for the calling method. Decisions are
+ * kept per class, method and level by the {@link com.logger.ttl.TTLCallSite call sites} of the
+ * TTL core.</p>
+ *
+ * <p>Statements below the logger's level are left to Log4j2, which checks the level only after
+ * context-wide filters. Statements within their TTL, or not subject to TTL, get
+ * {@code onMatch}, default {@code NEUTRAL}. Expired statements get {@code onMismatch}, default
+ * {@code DENY}.</p>
+ */
+@Plugin(name = "TTLFilter", category = Node.CATEGORY, elementType = Filter.ELEMENT_TYPE, printObject = true)
+public final class TTLFilter extends AbstractFilter {
+
+    private final ConcurrentMap<String, TTLLoggerName> loggers = new ConcurrentHashMap<>();
+
+    private TTLFilter(Result onMatch, Result onMismatch) {
+        super(onMatch, onMismatch);
+    }
+
+    @PluginFactory
+    public static TTLFilter createFilter(
+            @PluginAttribute(AbstractFilterBuilder.ATTR_ON_MATCH) Result match,
+            @PluginAttribute(AbstractFilterBuilder.ATTR_ON_MISMATCH) Result mismatch) {
+        return new TTLFilter(match != null ? match : Result.NEUTRAL, mismatch != null ? mismatch : Result.DENY);
+    }
+
+    /**
+     * Get the number of logger names with a cached TTL resolution
+     */
+    public int getCachedLoggerCount() {
+        return loggers.size();
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object... params) {
+        return decide(logger, level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0) {
+        return decide(logger, level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1) {
+        return decide(logger, level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1,
+                         Object p2) {
+        return decide(logger, level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1,
+                         Object p2, Object p3) {
+        return decide(logger, level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1,
+                         Object p2, Object p3, Object p4) {
+        return decide(logger, level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1,
+                         Object p2, Object p3, Object p4, Object p5) {
+        return decide(logger, level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1,
+                         Object p2, Object p3, Object p4, Object p5, Object p6) {
+        return decide(logger, level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1,
+                         Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        return decide(logger, level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1,
+                         Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        return decide(logger, level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1,
+                         Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8,
+                         Object p9) {
+        return decide(logger, level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, Object msg, Throwable t) {
+        return decide(logger, level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, Message msg, Throwable t) {
+        return decide(logger, level);
+    }
+
+    /**
+     * Filters an event that was already created, as when declared on a logger or appender.
+     * The location of the event is used if it was captured.
+     */
+    @Override
+    public Result filter(LogEvent event) {
+        return decide(event.getLoggerName(), event.getLevel(), event);
+    }
+
+    private Result decide(Logger logger, Level level) {
+        // Context-wide filters run before the level check, which is left to Log4j2
+        if (level != null && level.intLevel() > logger.getLevel().intLevel()) {
+            return Result.NEUTRAL;
+        }
+        return decide(logger.getName(), level, null);
+    }
+
+    private Result decide(String loggerName, Level level, LogEvent event) {
+        LogLevel logLevel = toLogLevel(level);
+        if (logLevel == null || loggerName == null) {
+            return onMatch;
+        }
+        TTLLoggerName name = loggers.get(loggerName);
+        if (name == null) {
+            name = loggers.computeIfAbsent(loggerName, TTLLoggerName::resolve);
+        }
+        if (!name.isManaged()) {
+            return onMatch;
+        }
+        boolean open = event != null && name.needsMethod(logLevel)
+            ? name.shouldLog(eventMethod(event, name), logLevel)
+            : name.shouldLog(logLevel);
+        return open ? onMatch : onMismatch;
+    }
+
+    private static String eventMethod(LogEvent event, TTLLoggerName name) {
+        if (!event.isIncludeLocation()) {
+            return "";
+        }
+        StackTraceElement source = event.getSource();
+        return source != null && name.isCallingClass(source.getClassName()) ? source.getMethodName() : "";
+    }
+
+    /**
+     * Maps a Log4j2 level, including custom levels, to the nearest TTL level
+     */
+    static LogLevel toLogLevel(Level level) {
+        if (level == null) {
+            return null;
+        }
+        switch (level.getStandardLevel()) {
+            case TRACE:
+                return LogLevel.TRACE;
+            case DEBUG:
+                return LogLevel.DEBUG;
+            case INFO:
+                return LogLevel.INFO;
+            case WARN:
+                return LogLevel.WARN;
+            case ERROR:
+            case FATAL:
+                return LogLevel.ERROR;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TTLFilter{onMatch=" + onMatch + ", onMismatch=" + onMismatch +
+               ", loggers=" + loggers.size() + '}';
+    }
+}
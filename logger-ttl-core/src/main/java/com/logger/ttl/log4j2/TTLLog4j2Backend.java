@@ -0,0 +1,129 @@
+package com.logger.ttl.log4j2;
+
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.TTLLogger;
+import com.logger.ttl.TTLLoggerBackend;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.MessageFactory;
+import org.apache.logging.log4j.message.MessageFactory2;
+import org.apache.logging.log4j.message.ReusableMessageFactory;
+import org.apache.logging.log4j.spi.ExtendedLogger;
+import org.apache.logging.log4j.spi.LocationAwareLogger;
+import org.apache.logging.log4j.spi.MessageFactory2Adapter;
+
+/**
+ * {@link TTLLogger} backend writing directly to a Log4j2 logger, selected automatically when
+ * Log4j2 implements SLF4J.
+ *
+ * <p>Statements are passed the location TTL resolved through {@link LocationAwareLogger}, so
+ * Log4j2 does not walk the stack again when {@code includeLocation} or a location pattern is
+ * used. Async loggers take the location along when they enqueue the event. Statements without
+ * a resolved location are logged with {@code TTLLogger} as the logger class, so Log4j2 reports
+ * the application frame instead of the TTL logger. Messages come from the logger's message
+ * factory, reusable per thread in Log4j2's garbage-free mode, and are released after logging.</p>
+ */
+public final class TTLLog4j2Backend implements TTLLoggerBackend {
+
+    private static final String FQCN = TTLLogger.class.getName();
+
+    // Indexed by LogLevel ordinal
+    private static final Level[] LEVELS = {Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR};
+
+    private final ExtendedLogger logger;
+    private final LocationAwareLogger locationAware;
+    private final MessageFactory2 messageFactory;
+
+    public TTLLog4j2Backend(ExtendedLogger logger) {
+        this.logger = logger;
+        this.locationAware = logger instanceof LocationAwareLogger ? (LocationAwareLogger) logger : null;
+        MessageFactory factory = logger.getMessageFactory();
+        this.messageFactory = factory instanceof MessageFactory2
+            ? (MessageFactory2) factory : new MessageFactory2Adapter(factory);
+    }
+
+    /**
+     * Creates a backend for the Log4j2 logger with the given name
+     */
+    public static TTLLog4j2Backend getBackend(String name) {
+        return new TTLLog4j2Backend(LogManager.getContext(false).getLogger(name));
+    }
+
+    /**
+     * Get the Log4j2 logger
+     */
+    public ExtendedLogger getLogger() {
+        return logger;
+    }
+
+    @Override
+    public boolean isEnabled(LogLevel level) {
+        return logger.isEnabled(LEVELS[level.ordinal()]);
+    }
+
+    @Override
+    public boolean usesLocation() {
+        return locationAware != null;
+    }
+
+    @Override
+    public void log(LogLevel level, StackTraceElement location, String msg) {
+        Level log4jLevel = LEVELS[level.ordinal()];
+        if (logger.isEnabled(log4jLevel, null, msg)) {
+            write(log4jLevel, location, messageFactory.newMessage(msg), null);
+        }
+    }
+
+    @Override
+    public void log(LogLevel level, StackTraceElement location, String format, Object arg) {
+        Level log4jLevel = LEVELS[level.ordinal()];
+        if (logger.isEnabled(log4jLevel, null, format, arg)) {
+            Message message = messageFactory.newMessage(format, arg);
+            write(log4jLevel, location, message, message.getThrowable());
+        }
+    }
+
+    @Override
+    public void log(LogLevel level, StackTraceElement location, String format, Object arg1, Object arg2) {
+        Level log4jLevel = LEVELS[level.ordinal()];
+        if (logger.isEnabled(log4jLevel, null, format, arg1, arg2)) {
+            Message message = messageFactory.newMessage(format, arg1, arg2);
+            write(log4jLevel, location, message, message.getThrowable());
+        }
+    }
+
+    @Override
+    public void log(LogLevel level, StackTraceElement location, String format, Object... arguments) {
+        Level log4jLevel = LEVELS[level.ordinal()];
+        if (logger.isEnabled(log4jLevel, null, format, arguments)) {
+            Message message = messageFactory.newMessage(format, arguments);
+            write(log4jLevel, location, message, message.getThrowable());
+        }
+    }
+
+    @Override
+    public void log(LogLevel level, StackTraceElement location, String msg, Throwable t) {
+        Level log4jLevel = LEVELS[level.ordinal()];
+        if (logger.isEnabled(log4jLevel, null, msg, t)) {
+            write(log4jLevel, location, messageFactory.newMessage(msg), t);
+        }
+    }
+
+    private void write(Level level, StackTraceElement location, Message message, Throwable t) {
+        try {
+            if (location != null && locationAware != null) {
+                locationAware.logMessage(level, null, FQCN, location, message, t);
+            } else {
+                logger.logMessage(FQCN, level, null, message, t);
+            }
+        } finally {
+            ReusableMessageFactory.release(message);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TTLLog4j2Backend{logger=" + logger.getName() + '}';
+    }
+}
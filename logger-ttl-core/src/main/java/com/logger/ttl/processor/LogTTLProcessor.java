@@ -0,0 +1,293 @@
+package com.logger.ttl.processor;
+
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.LogTTL;
+import com.logger.ttl.TTLConfig;
+import com.logger.ttl.TTLRegistry;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Annotation processor that generates a {@link TTLRegistry} for every module compiled with it.
+ *
+ * <p>The processor inspects the classes of a compilation that carry {@link LogTTL} annotations
+ * on the class or its members, validates the {@code start} of each annotation, precomputes
+ * start and expiry times and emits a registry class listed in
+ * {@code META-INF/services/com.logger.ttl.TTLRegistry}. At runtime the registry replaces
+ * reflection for these classes.</p>
+ *
+ * <p>The processor is registered as a service in the logger-ttl jar, so it runs automatically
+ * when the jar is on the compile classpath. Compilers that do not discover processors
+ * automatically need {@code -processor com.logger.ttl.processor.LogTTLProcessor}.</p>
+ */
+@SupportedAnnotationTypes("com.logger.ttl.LogTTL")
+public class LogTTLProcessor extends AbstractProcessor {
+
+    private static final String SERVICE_FILE = "META-INF/services/" + TTLRegistry.class.getName();
+
+    // Statements per generated method, keeps methods well below the bytecode size limit
+    private static final int STATEMENTS_PER_METHOD = 200;
+
+    private final List<String> registries = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+
+        Set<TypeElement> annotated = new LinkedHashSet<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(LogTTL.class)) {
+            TypeElement type = enclosingType(element);
+            if (type != null) {
+                annotated.add(type);
+            }
+        }
+        if (!annotated.isEmpty()) {
+            List<TypeElement> types = new ArrayList<>(annotated);
+            types.sort(Comparator.comparing(this::binaryName));
+            generateRegistry(types);
+        }
+        // Never claim annotations, other processors may handle them too
+        return false;
+    }
+
+    /**
+     * Gets the class of an annotated element, the element itself for classes and interfaces
+     */
+    private static TypeElement enclosingType(Element element) {
+        Element current = element;
+        while (current != null && !current.getKind().isClass() && !current.getKind().isInterface()) {
+            current = current.getEnclosingElement();
+        }
+        return (TypeElement) current;
+    }
+
+    private void generateRegistry(List<TypeElement> types) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder names = new StringBuilder();
+        for (TypeElement type : types) {
+            String className = binaryName(type);
+            names.append(className).append(';');
+
+            LogTTL classTTL = type.getAnnotation(LogTTL.class);
+            if (classTTL != null) {
+                String values = values(classTTL, type);
+                if (values != null) {
+                    statements.add("classTTL(" + literal(className) + ", " + values + ");");
+                }
+            }
+
+            for (Element member : type.getEnclosedElements()) {
+                LogTTL memberTTL = member.getAnnotation(LogTTL.class);
+                if (memberTTL == null) {
+                    continue;
+                }
+                if (member.getKind() == ElementKind.METHOD) {
+                    String values = values(memberTTL, member);
+                    if (values != null) {
+                        statements.add("methodTTL(" + literal(className) + ", "
+                            + literal(member.getSimpleName().toString()) + ", " + values + ");");
+                    }
+                } else if (member.getKind() == ElementKind.FIELD) {
+                    String fieldType = runtimeName(member.asType());
+                    String values = values(memberTTL, member);
+                    // Primitive fields can never hold a logger
+                    if (fieldType != null && values != null) {
+                        statements.add("fieldTTL(" + literal(className) + ", "
+                            + literal(fieldType) + ", " + values + ");");
+                    }
+                }
+            }
+        }
+
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(types.get(0));
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String simpleName = "LogTTLRegistry_" + Integer.toHexString(names.toString().hashCode());
+        String registryName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        try {
+            JavaFileObject file = processingEnv.getFiler()
+                .createSourceFile(registryName, types.toArray(new Element[0]));
+            try (Writer writer = file.openWriter()) {
+                writer.write(source(packageName, simpleName, statements));
+            }
+            registries.add(registryName);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "Unable to write LogTTL registry " + registryName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Validates an annotation and formats its precomputed values as registry arguments
+     */
+    private String values(LogTTL annotation, Element element) {
+        String start = annotation.start();
+        long startMillis = Long.MIN_VALUE;
+        // Without a start time the expiry is counted from first use at runtime
+        long expiryMillis = Long.MAX_VALUE;
+        if (start != null && !start.trim().isEmpty()) {
+            try {
+                Instant.parse(start.trim());
+            } catch (DateTimeParseException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Invalid @LogTTL start \"" + start + "\", expected an ISO-8601 instant such as "
+                        + "2025-01-01T00:00:00Z", element);
+                return null;
+            }
+            // Same arithmetic as at runtime, the clock is not used when a start time is given
+            TTLConfig config = new TTLConfig(start, annotation.ttlDays(), annotation.levels());
+            startMillis = config.getStartMillis();
+            expiryMillis = config.getExpiryMillis();
+        }
+
+        int levelMask = 0;
+        for (LogLevel level : annotation.levels()) {
+            levelMask |= 1 << level.ordinal();
+        }
+        return millis(startMillis) + ", " + millis(expiryMillis) + ", " + annotation.ttlDays() + ", " + levelMask;
+    }
+
+    private String source(String packageName, String simpleName, List<String> statements) {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * LogTTL metadata of this module, generated by ")
+              .append(getClass().getName()).append(".\n */\n");
+        Elements elements = processingEnv.getElementUtils();
+        if (elements.getTypeElement("javax.annotation.processing.Generated") != null) {
+            source.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+        }
+        source.append("public final class ").append(simpleName)
+              .append(" extends ").append(TTLRegistry.class.getName()).append(" {\n\n");
+
+        int chunks = (statements.size() + STATEMENTS_PER_METHOD - 1) / STATEMENTS_PER_METHOD;
+        source.append("    @Override\n    protected void register() {\n");
+        for (int i = 0; i < chunks; i++) {
+            source.append("        register").append(i).append("();\n");
+        }
+        source.append("    }\n");
+
+        for (int i = 0; i < chunks; i++) {
+            source.append("\n    private void register").append(i).append("() {\n");
+            int end = Math.min(statements.size(), (i + 1) * STATEMENTS_PER_METHOD);
+            for (String statement : statements.subList(i * STATEMENTS_PER_METHOD, end)) {
+                source.append("        ").append(statement).append('\n');
+            }
+            source.append("    }\n");
+        }
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private void writeServiceFile() {
+        if (registries.isEmpty()) {
+            return;
+        }
+        Filer filer = processingEnv.getFiler();
+        Messager messager = processingEnv.getMessager();
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String registry : registries) {
+                    writer.write(registry);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                "Unable to write " + SERVICE_FILE + ": " + e.getMessage());
+        }
+    }
+
+    private String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    /**
+     * Gets the name of the erased type as accepted by {@link Class#forName(String)}, or null for primitives
+     */
+    private String runtimeName(TypeMirror type) {
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror erased = types.erasure(type);
+        if (erased.getKind() == TypeKind.DECLARED) {
+            return binaryName((TypeElement) ((DeclaredType) erased).asElement());
+        }
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return "[" + descriptor(((ArrayType) erased).getComponentType());
+        }
+        return null;
+    }
+
+    private String descriptor(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN: return "Z";
+            case BYTE: return "B";
+            case CHAR: return "C";
+            case SHORT: return "S";
+            case INT: return "I";
+            case LONG: return "J";
+            case FLOAT: return "F";
+            case DOUBLE: return "D";
+            case ARRAY: return "[" + descriptor(((ArrayType) type).getComponentType());
+            default: return "L" + runtimeName(type) + ";";
+        }
+    }
+
+    private static String millis(long value) {
+        if (value == Long.MIN_VALUE) {
+            return "Long.MIN_VALUE";
+        }
+        if (value == Long.MAX_VALUE) {
+            return "Long.MAX_VALUE";
+        }
+        return value + "L";
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                literal.append('\\');
+            }
+            literal.append(c);
+        }
+        return literal.append('"').toString();
+    }
+}
@@ -0,0 +1,109 @@
+package com.logger.ttl.slf4j;
+
+import org.slf4j.ILoggerFactory;
+import org.slf4j.IMarkerFactory;
+import org.slf4j.helpers.NOP_FallbackServiceProvider;
+import org.slf4j.spi.MDCAdapter;
+import org.slf4j.spi.SLF4JServiceProvider;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * SLF4J 2 service provider making {@code LoggerFactory.getLogger} return TTL-aware loggers,
+ * so existing SLF4J call sites and libraries get {@code @LogTTL} rules without switching to
+ * {@code TTLLogger}.
+ *
+ * <p>Select it with {@code -Dslf4j.provider=com.logger.ttl.slf4j.TTLServiceProvider}. It wraps
+ * the first other provider on the classpath, or the one named by the
+ * {@code logger.ttl.slf4j.provider} system property. Loggers named after a class carrying TTL
+ * annotations are {@link TTLSlf4jLogger}s; all other loggers are the loggers of the wrapped
+ * provider, so they cost nothing extra. Markers and MDC are those of the wrapped provider.</p>
+ */
+public class TTLServiceProvider implements SLF4JServiceProvider {
+
+    /**
+     * System property naming the provider class to wrap
+     */
+    public static final String PROVIDER_PROPERTY = "logger.ttl.slf4j.provider";
+
+    private final SLF4JServiceProvider provider;
+    private volatile TTLSlf4jLoggerFactory loggerFactory;
+
+    public TTLServiceProvider() {
+        this(findProvider());
+    }
+
+    /**
+     * Creates a provider wrapping the given provider
+     */
+    public TTLServiceProvider(SLF4JServiceProvider provider) {
+        this.provider = provider;
+    }
+
+    /**
+     * Get the wrapped provider
+     */
+    public SLF4JServiceProvider getProvider() {
+        return provider;
+    }
+
+    @Override
+    public ILoggerFactory getLoggerFactory() {
+        return loggerFactory;
+    }
+
+    @Override
+    public IMarkerFactory getMarkerFactory() {
+        return provider.getMarkerFactory();
+    }
+
+    @Override
+    public MDCAdapter getMDCAdapter() {
+        return provider.getMDCAdapter();
+    }
+
+    @Override
+    public String getRequestedApiVersion() {
+        return provider.getRequestedApiVersion();
+    }
+
+    @Override
+    public void initialize() {
+        provider.initialize();
+        loggerFactory = new TTLSlf4jLoggerFactory(provider.getLoggerFactory());
+    }
+
+    private static SLF4JServiceProvider findProvider() {
+        ClassLoader loader = TTLServiceProvider.class.getClassLoader();
+        String name = System.getProperty(PROVIDER_PROPERTY);
+        if (name != null && !name.isEmpty()) {
+            try {
+                return (SLF4JServiceProvider) Class.forName(name, true, loader).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                throw new IllegalStateException("Cannot create SLF4J provider " + name, e);
+            }
+        }
+        Iterator<SLF4JServiceProvider> providers = ServiceLoader.load(SLF4JServiceProvider.class, loader).iterator();
+        while (true) {
+            try {
+                if (!providers.hasNext()) {
+                    break;
+                }
+                SLF4JServiceProvider candidate = providers.next();
+                if (!(candidate instanceof TTLServiceProvider)) {
+                    return candidate;
+                }
+            } catch (ServiceConfigurationError e) {
+                // Skip providers that cannot be loaded, as SLF4J does
+            }
+        }
+        return new NOP_FallbackServiceProvider();
+    }
+
+    @Override
+    public String toString() {
+        return "TTLServiceProvider{provider=" + provider.getClass().getName() + '}';
+    }
+}
@@ -0,0 +1,733 @@
+package com.logger.ttl.slf4j;
+
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.LogTTL;
+import com.logger.ttl.TTLLoggerName;
+import org.slf4j.Logger;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LocationAwareLogger;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.slf4j.spi.NOPLoggingEventBuilder;
+
+/**
+ * SLF4J logger applying {@link LogTTL} annotations and runtime overrides of the class it is
+ * named after, handed out by {@link TTLServiceProvider} for classes that carry annotations.
+ *
+ * <p>Every statement is first checked against the level of the wrapped logger, then against the
+ * TTL, so disabled levels cost no TTL lookup. The fluent API returns a no-op builder when the
+ * statement is suppressed. {@code isXxxEnabled} methods only check the level, the TTL is decided
+ * when the statement is logged. When the wrapped logger is a {@link LocationAwareLogger}, as
+ * with Log4j2 and Logback, statements are passed this class as the logger boundary so the
+ * backend reports the application frame as the location.</p>
+ */
+public final class TTLSlf4jLogger implements Logger {
+
+    private static final String FQCN = TTLSlf4jLogger.class.getName();
+
+    private final Logger delegate;
+    private final LocationAwareLogger locationAware;
+    private final TTLLoggerName name;
+
+    TTLSlf4jLogger(Logger delegate, TTLLoggerName name) {
+        this.delegate = delegate;
+        this.locationAware = delegate instanceof LocationAwareLogger ? (LocationAwareLogger) delegate : null;
+        this.name = name;
+    }
+
+    /**
+     * Gets the logger wrapped by a TTL logger, or the logger itself if it is not one
+     */
+    public static Logger unwrap(Logger logger) {
+        return logger instanceof TTLSlf4jLogger ? ((TTLSlf4jLogger) logger).delegate : logger;
+    }
+
+    /**
+     * Get the wrapped logger
+     */
+    public Logger getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Get the TTL resolution of the logger name
+     */
+    public TTLLoggerName getLoggerName() {
+        return name;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public boolean isEnabledForLevel(Level level) {
+        return delegate.isEnabledForLevel(level);
+    }
+
+    @Override
+    public LoggingEventBuilder makeLoggingEventBuilder(Level level) {
+        return name.shouldLog(toLogLevel(level))
+            ? delegate.makeLoggingEventBuilder(level) : NOPLoggingEventBuilder.singleton();
+    }
+
+    @Override
+    public LoggingEventBuilder atLevel(Level level) {
+        return delegate.isEnabledForLevel(level) && name.shouldLog(toLogLevel(level))
+            ? delegate.atLevel(level) : NOPLoggingEventBuilder.singleton();
+    }
+
+    @Override
+    public LoggingEventBuilder atTrace() {
+        return delegate.isTraceEnabled() && name.shouldLog(LogLevel.TRACE)
+            ? delegate.atTrace() : NOPLoggingEventBuilder.singleton();
+    }
+
+    @Override
+    public LoggingEventBuilder atDebug() {
+        return delegate.isDebugEnabled() && name.shouldLog(LogLevel.DEBUG)
+            ? delegate.atDebug() : NOPLoggingEventBuilder.singleton();
+    }
+
+    @Override
+    public LoggingEventBuilder atInfo() {
+        return delegate.isInfoEnabled() && name.shouldLog(LogLevel.INFO)
+            ? delegate.atInfo() : NOPLoggingEventBuilder.singleton();
+    }
+
+    @Override
+    public LoggingEventBuilder atWarn() {
+        return delegate.isWarnEnabled() && name.shouldLog(LogLevel.WARN)
+            ? delegate.atWarn() : NOPLoggingEventBuilder.singleton();
+    }
+
+    @Override
+    public LoggingEventBuilder atError() {
+        return delegate.isErrorEnabled() && name.shouldLog(LogLevel.ERROR)
+            ? delegate.atError() : NOPLoggingEventBuilder.singleton();
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return delegate.isTraceEnabled();
+    }
+
+    @Override
+    public boolean isTraceEnabled(Marker marker) {
+        return delegate.isTraceEnabled(marker);
+    }
+
+    @Override
+    public void trace(String msg) {
+        if (delegate.isTraceEnabled() && name.shouldLog(LogLevel.TRACE)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.TRACE_INT, msg, null, null);
+            } else {
+                delegate.trace(msg);
+            }
+        }
+    }
+
+    @Override
+    public void trace(String format, Object arg) {
+        if (delegate.isTraceEnabled() && name.shouldLog(LogLevel.TRACE)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.TRACE_INT, format, new Object[] {arg}, null);
+            } else {
+                delegate.trace(format, arg);
+            }
+        }
+    }
+
+    @Override
+    public void trace(String format, Object arg1, Object arg2) {
+        if (delegate.isTraceEnabled() && name.shouldLog(LogLevel.TRACE)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.TRACE_INT, format, new Object[] {arg1, arg2}, null);
+            } else {
+                delegate.trace(format, arg1, arg2);
+            }
+        }
+    }
+
+    @Override
+    public void trace(String format, Object... arguments) {
+        if (delegate.isTraceEnabled() && name.shouldLog(LogLevel.TRACE)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.TRACE_INT, format, arguments, null);
+            } else {
+                delegate.trace(format, arguments);
+            }
+        }
+    }
+
+    @Override
+    public void trace(String msg, Throwable t) {
+        if (delegate.isTraceEnabled() && name.shouldLog(LogLevel.TRACE)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.TRACE_INT, msg, null, t);
+            } else {
+                delegate.trace(msg, t);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg) {
+        if (delegate.isTraceEnabled(marker) && name.shouldLog(LogLevel.TRACE)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.TRACE_INT, msg, null, null);
+            } else {
+                delegate.trace(marker, msg);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String format, Object arg) {
+        if (delegate.isTraceEnabled(marker) && name.shouldLog(LogLevel.TRACE)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.TRACE_INT, format, new Object[] {arg}, null);
+            } else {
+                delegate.trace(marker, format, arg);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String format, Object arg1, Object arg2) {
+        if (delegate.isTraceEnabled(marker) && name.shouldLog(LogLevel.TRACE)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.TRACE_INT, format, new Object[] {arg1, arg2}, null);
+            } else {
+                delegate.trace(marker, format, arg1, arg2);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String format, Object... arguments) {
+        if (delegate.isTraceEnabled(marker) && name.shouldLog(LogLevel.TRACE)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.TRACE_INT, format, arguments, null);
+            } else {
+                delegate.trace(marker, format, arguments);
+            }
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Throwable t) {
+        if (delegate.isTraceEnabled(marker) && name.shouldLog(LogLevel.TRACE)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.TRACE_INT, msg, null, t);
+            } else {
+                delegate.trace(marker, msg, t);
+            }
+        }
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return delegate.isDebugEnabled();
+    }
+
+    @Override
+    public boolean isDebugEnabled(Marker marker) {
+        return delegate.isDebugEnabled(marker);
+    }
+
+    @Override
+    public void debug(String msg) {
+        if (delegate.isDebugEnabled() && name.shouldLog(LogLevel.DEBUG)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.DEBUG_INT, msg, null, null);
+            } else {
+                delegate.debug(msg);
+            }
+        }
+    }
+
+    @Override
+    public void debug(String format, Object arg) {
+        if (delegate.isDebugEnabled() && name.shouldLog(LogLevel.DEBUG)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.DEBUG_INT, format, new Object[] {arg}, null);
+            } else {
+                delegate.debug(format, arg);
+            }
+        }
+    }
+
+    @Override
+    public void debug(String format, Object arg1, Object arg2) {
+        if (delegate.isDebugEnabled() && name.shouldLog(LogLevel.DEBUG)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.DEBUG_INT, format, new Object[] {arg1, arg2}, null);
+            } else {
+                delegate.debug(format, arg1, arg2);
+            }
+        }
+    }
+
+    @Override
+    public void debug(String format, Object... arguments) {
+        if (delegate.isDebugEnabled() && name.shouldLog(LogLevel.DEBUG)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.DEBUG_INT, format, arguments, null);
+            } else {
+                delegate.debug(format, arguments);
+            }
+        }
+    }
+
+    @Override
+    public void debug(String msg, Throwable t) {
+        if (delegate.isDebugEnabled() && name.shouldLog(LogLevel.DEBUG)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.DEBUG_INT, msg, null, t);
+            } else {
+                delegate.debug(msg, t);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg) {
+        if (delegate.isDebugEnabled(marker) && name.shouldLog(LogLevel.DEBUG)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.DEBUG_INT, msg, null, null);
+            } else {
+                delegate.debug(marker, msg);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String format, Object arg) {
+        if (delegate.isDebugEnabled(marker) && name.shouldLog(LogLevel.DEBUG)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.DEBUG_INT, format, new Object[] {arg}, null);
+            } else {
+                delegate.debug(marker, format, arg);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String format, Object arg1, Object arg2) {
+        if (delegate.isDebugEnabled(marker) && name.shouldLog(LogLevel.DEBUG)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.DEBUG_INT, format, new Object[] {arg1, arg2}, null);
+            } else {
+                delegate.debug(marker, format, arg1, arg2);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String format, Object... arguments) {
+        if (delegate.isDebugEnabled(marker) && name.shouldLog(LogLevel.DEBUG)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.DEBUG_INT, format, arguments, null);
+            } else {
+                delegate.debug(marker, format, arguments);
+            }
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Throwable t) {
+        if (delegate.isDebugEnabled(marker) && name.shouldLog(LogLevel.DEBUG)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.DEBUG_INT, msg, null, t);
+            } else {
+                delegate.debug(marker, msg, t);
+            }
+        }
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return delegate.isInfoEnabled();
+    }
+
+    @Override
+    public boolean isInfoEnabled(Marker marker) {
+        return delegate.isInfoEnabled(marker);
+    }
+
+    @Override
+    public void info(String msg) {
+        if (delegate.isInfoEnabled() && name.shouldLog(LogLevel.INFO)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.INFO_INT, msg, null, null);
+            } else {
+                delegate.info(msg);
+            }
+        }
+    }
+
+    @Override
+    public void info(String format, Object arg) {
+        if (delegate.isInfoEnabled() && name.shouldLog(LogLevel.INFO)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.INFO_INT, format, new Object[] {arg}, null);
+            } else {
+                delegate.info(format, arg);
+            }
+        }
+    }
+
+    @Override
+    public void info(String format, Object arg1, Object arg2) {
+        if (delegate.isInfoEnabled() && name.shouldLog(LogLevel.INFO)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.INFO_INT, format, new Object[] {arg1, arg2}, null);
+            } else {
+                delegate.info(format, arg1, arg2);
+            }
+        }
+    }
+
+    @Override
+    public void info(String format, Object... arguments) {
+        if (delegate.isInfoEnabled() && name.shouldLog(LogLevel.INFO)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.INFO_INT, format, arguments, null);
+            } else {
+                delegate.info(format, arguments);
+            }
+        }
+    }
+
+    @Override
+    public void info(String msg, Throwable t) {
+        if (delegate.isInfoEnabled() && name.shouldLog(LogLevel.INFO)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.INFO_INT, msg, null, t);
+            } else {
+                delegate.info(msg, t);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg) {
+        if (delegate.isInfoEnabled(marker) && name.shouldLog(LogLevel.INFO)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.INFO_INT, msg, null, null);
+            } else {
+                delegate.info(marker, msg);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String format, Object arg) {
+        if (delegate.isInfoEnabled(marker) && name.shouldLog(LogLevel.INFO)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.INFO_INT, format, new Object[] {arg}, null);
+            } else {
+                delegate.info(marker, format, arg);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String format, Object arg1, Object arg2) {
+        if (delegate.isInfoEnabled(marker) && name.shouldLog(LogLevel.INFO)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.INFO_INT, format, new Object[] {arg1, arg2}, null);
+            } else {
+                delegate.info(marker, format, arg1, arg2);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String format, Object... arguments) {
+        if (delegate.isInfoEnabled(marker) && name.shouldLog(LogLevel.INFO)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.INFO_INT, format, arguments, null);
+            } else {
+                delegate.info(marker, format, arguments);
+            }
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Throwable t) {
+        if (delegate.isInfoEnabled(marker) && name.shouldLog(LogLevel.INFO)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.INFO_INT, msg, null, t);
+            } else {
+                delegate.info(marker, msg, t);
+            }
+        }
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return delegate.isWarnEnabled();
+    }
+
+    @Override
+    public boolean isWarnEnabled(Marker marker) {
+        return delegate.isWarnEnabled(marker);
+    }
+
+    @Override
+    public void warn(String msg) {
+        if (delegate.isWarnEnabled() && name.shouldLog(LogLevel.WARN)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.WARN_INT, msg, null, null);
+            } else {
+                delegate.warn(msg);
+            }
+        }
+    }
+
+    @Override
+    public void warn(String format, Object arg) {
+        if (delegate.isWarnEnabled() && name.shouldLog(LogLevel.WARN)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.WARN_INT, format, new Object[] {arg}, null);
+            } else {
+                delegate.warn(format, arg);
+            }
+        }
+    }
+
+    @Override
+    public void warn(String format, Object arg1, Object arg2) {
+        if (delegate.isWarnEnabled() && name.shouldLog(LogLevel.WARN)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.WARN_INT, format, new Object[] {arg1, arg2}, null);
+            } else {
+                delegate.warn(format, arg1, arg2);
+            }
+        }
+    }
+
+    @Override
+    public void warn(String format, Object... arguments) {
+        if (delegate.isWarnEnabled() && name.shouldLog(LogLevel.WARN)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.WARN_INT, format, arguments, null);
+            } else {
+                delegate.warn(format, arguments);
+            }
+        }
+    }
+
+    @Override
+    public void warn(String msg, Throwable t) {
+        if (delegate.isWarnEnabled() && name.shouldLog(LogLevel.WARN)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.WARN_INT, msg, null, t);
+            } else {
+                delegate.warn(msg, t);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg) {
+        if (delegate.isWarnEnabled(marker) && name.shouldLog(LogLevel.WARN)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.WARN_INT, msg, null, null);
+            } else {
+                delegate.warn(marker, msg);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String format, Object arg) {
+        if (delegate.isWarnEnabled(marker) && name.shouldLog(LogLevel.WARN)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.WARN_INT, format, new Object[] {arg}, null);
+            } else {
+                delegate.warn(marker, format, arg);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String format, Object arg1, Object arg2) {
+        if (delegate.isWarnEnabled(marker) && name.shouldLog(LogLevel.WARN)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.WARN_INT, format, new Object[] {arg1, arg2}, null);
+            } else {
+                delegate.warn(marker, format, arg1, arg2);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String format, Object... arguments) {
+        if (delegate.isWarnEnabled(marker) && name.shouldLog(LogLevel.WARN)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.WARN_INT, format, arguments, null);
+            } else {
+                delegate.warn(marker, format, arguments);
+            }
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, Throwable t) {
+        if (delegate.isWarnEnabled(marker) && name.shouldLog(LogLevel.WARN)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.WARN_INT, msg, null, t);
+            } else {
+                delegate.warn(marker, msg, t);
+            }
+        }
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return delegate.isErrorEnabled();
+    }
+
+    @Override
+    public boolean isErrorEnabled(Marker marker) {
+        return delegate.isErrorEnabled(marker);
+    }
+
+    @Override
+    public void error(String msg) {
+        if (delegate.isErrorEnabled() && name.shouldLog(LogLevel.ERROR)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.ERROR_INT, msg, null, null);
+            } else {
+                delegate.error(msg);
+            }
+        }
+    }
+
+    @Override
+    public void error(String format, Object arg) {
+        if (delegate.isErrorEnabled() && name.shouldLog(LogLevel.ERROR)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.ERROR_INT, format, new Object[] {arg}, null);
+            } else {
+                delegate.error(format, arg);
+            }
+        }
+    }
+
+    @Override
+    public void error(String format, Object arg1, Object arg2) {
+        if (delegate.isErrorEnabled() && name.shouldLog(LogLevel.ERROR)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.ERROR_INT, format, new Object[] {arg1, arg2}, null);
+            } else {
+                delegate.error(format, arg1, arg2);
+            }
+        }
+    }
+
+    @Override
+    public void error(String format, Object... arguments) {
+        if (delegate.isErrorEnabled() && name.shouldLog(LogLevel.ERROR)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.ERROR_INT, format, arguments, null);
+            } else {
+                delegate.error(format, arguments);
+            }
+        }
+    }
+
+    @Override
+    public void error(String msg, Throwable t) {
+        if (delegate.isErrorEnabled() && name.shouldLog(LogLevel.ERROR)) {
+            if (locationAware != null) {
+                locationAware.log(null, FQCN, LocationAwareLogger.ERROR_INT, msg, null, t);
+            } else {
+                delegate.error(msg, t);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg) {
+        if (delegate.isErrorEnabled(marker) && name.shouldLog(LogLevel.ERROR)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.ERROR_INT, msg, null, null);
+            } else {
+                delegate.error(marker, msg);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String format, Object arg) {
+        if (delegate.isErrorEnabled(marker) && name.shouldLog(LogLevel.ERROR)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.ERROR_INT, format, new Object[] {arg}, null);
+            } else {
+                delegate.error(marker, format, arg);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String format, Object arg1, Object arg2) {
+        if (delegate.isErrorEnabled(marker) && name.shouldLog(LogLevel.ERROR)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.ERROR_INT, format, new Object[] {arg1, arg2}, null);
+            } else {
+                delegate.error(marker, format, arg1, arg2);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String format, Object... arguments) {
+        if (delegate.isErrorEnabled(marker) && name.shouldLog(LogLevel.ERROR)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.ERROR_INT, format, arguments, null);
+            } else {
+                delegate.error(marker, format, arguments);
+            }
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, Throwable t) {
+        if (delegate.isErrorEnabled(marker) && name.shouldLog(LogLevel.ERROR)) {
+            if (locationAware != null) {
+                locationAware.log(marker, FQCN, LocationAwareLogger.ERROR_INT, msg, null, t);
+            } else {
+                delegate.error(marker, msg, t);
+            }
+        }
+    }
+
+    /**
+     * Maps an SLF4J level to the TTL level of the same name
+     */
+    static LogLevel toLogLevel(Level level) {
+        switch (level) {
+            case TRACE:
+                return LogLevel.TRACE;
+            case DEBUG:
+                return LogLevel.DEBUG;
+            case INFO:
+                return LogLevel.INFO;
+            case WARN:
+                return LogLevel.WARN;
+            default:
+                return LogLevel.ERROR;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TTLSlf4jLogger{logger=" + delegate.getName() + ", " + name + '}';
+    }
+}
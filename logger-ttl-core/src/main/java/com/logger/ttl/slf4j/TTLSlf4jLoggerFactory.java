@@ -0,0 +1,43 @@
+package com.logger.ttl.slf4j;
+
+import com.logger.ttl.TTLLoggerName;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.Logger;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Logger factory of {@link TTLServiceProvider}, wrapping the loggers of the real provider
+ * whose name is a class carrying TTL annotations. Other loggers are returned as they are.
+ */
+final class TTLSlf4jLoggerFactory implements ILoggerFactory {
+
+    private final ILoggerFactory factory;
+    private final ConcurrentMap<String, Logger> loggers = new ConcurrentHashMap<>();
+
+    TTLSlf4jLoggerFactory(ILoggerFactory factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    public Logger getLogger(String name) {
+        Logger logger = loggers.get(name);
+        if (logger != null) {
+            return logger;
+        }
+        // Not computeIfAbsent, creating the wrapped logger may get other loggers
+        Logger delegate = factory.getLogger(name);
+        TTLLoggerName loggerName = TTLLoggerName.resolve(name);
+        logger = loggerName.isManaged() ? new TTLSlf4jLogger(delegate, loggerName) : delegate;
+        Logger existing = loggers.putIfAbsent(name, logger);
+        return existing != null ? existing : logger;
+    }
+
+    /**
+     * Get the factory of the real provider
+     */
+    ILoggerFactory getDelegate() {
+        return factory;
+    }
+}
@@ -0,0 +1,28 @@
+package com.logger.samples;
+
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.LogTTL;
+
+/**
+ * TTL annotations shared by the samples of every logging API. Subclasses only differ in the
+ * logging API their statements use, loggers are named after the subclass.
+ */
+@LogTTL(start = "2020-01-01T00:00:00Z", ttlDays = 1, levels = {LogLevel.DEBUG})
+public abstract class AnnotatedService {
+
+    /**
+     * DEBUG statements, expired by the class annotation
+     */
+    public abstract void expiredDebug();
+
+    /**
+     * DEBUG statements, kept by the method annotation
+     */
+    @LogTTL(start = "2020-01-01T00:00:00Z", ttlDays = 36500, levels = {LogLevel.DEBUG})
+    public abstract void liveDebug();
+
+    /**
+     * INFO statements, not covered by the annotations
+     */
+    public abstract void info();
+}
@@ -0,0 +1,30 @@
+package com.logger.samples;
+
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Plain Log4j2 logger call sites, filtered by TTLFilter through the logger name
+ */
+public class FilteredService extends AnnotatedService {
+
+    private final Logger logger;
+
+    public FilteredService(Logger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public void expiredDebug() {
+        logger.debug("expired {}", "statement");
+    }
+
+    @Override
+    public void liveDebug() {
+        logger.debug("live {}", "statement");
+    }
+
+    @Override
+    public void info() {
+        logger.info("info statement");
+    }
+}
@@ -0,0 +1,31 @@
+package com.logger.samples;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * java.util.logging call sites, filtered by TTLJulFilter through the logger name or the record source
+ */
+public class JulService extends AnnotatedService {
+
+    private final Logger logger;
+
+    public JulService(Logger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public void expiredDebug() {
+        logger.fine("expired statement");
+    }
+
+    @Override
+    public void liveDebug() {
+        logger.log(Level.FINE, "live {0}", "statement");
+    }
+
+    @Override
+    public void info() {
+        logger.info("info statement");
+    }
+}
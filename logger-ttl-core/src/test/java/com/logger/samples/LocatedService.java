@@ -0,0 +1,55 @@
+package com.logger.samples;
+
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.TTLLogger;
+
+/**
+ * TTLLogger call sites whose location is reported by the logging backend
+ */
+public class LocatedService extends AnnotatedService {
+
+    private final TTLLogger logger;
+
+    public LocatedService(TTLLogger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public void expiredDebug() {
+        logger.debug("expired statement");
+    }
+
+    /**
+     * Expired statements using every placeholder, exception and supplier overload
+     */
+    public void expiredDebugStatements(Object arg1, Object arg2, Object[] args, Throwable t) {
+        logger.debug("{}", arg1);
+        logger.debug("{} {}", arg1, arg2);
+        logger.debug("{} {} {}", args);
+        logger.debug("failure", t);
+        logger.debug(() -> "expired " + arg1);
+    }
+
+    /**
+     * Guards of the same expired statements, resolving the caller as often
+     */
+    public boolean expiredDebugGuards() {
+        return logger.isTTLActive(LogLevel.DEBUG) | logger.isTTLActive(LogLevel.DEBUG)
+            | logger.isTTLActive(LogLevel.DEBUG) | logger.isTTLActive(LogLevel.DEBUG)
+            | logger.isTTLActive(LogLevel.DEBUG);
+    }
+
+    @Override
+    public void liveDebug() {
+        logger.debug("live {}", "statement");
+    }
+
+    @Override
+    public void info() {
+        logger.info("info statement");
+    }
+
+    public void explicitInfo() {
+        logger.info("explicit statement", "2020-01-01T00:00:00Z", 36500, LogLevel.INFO);
+    }
+}
@@ -0,0 +1,35 @@
+package com.logger.samples;
+
+import org.slf4j.Logger;
+import org.slf4j.MarkerFactory;
+
+/**
+ * Plain SLF4J call sites, made TTL-aware by TTLServiceProvider through the logger name
+ */
+public class Slf4jService extends AnnotatedService {
+
+    private final Logger logger;
+
+    public Slf4jService(Logger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public void expiredDebug() {
+        logger.debug("expired {}", "statement");
+        logger.debug(MarkerFactory.getMarker("TEST"), "expired marked statement");
+        logger.debug("expired failure", new IllegalStateException());
+        logger.atDebug().addArgument("fluent").log("expired {} statement");
+    }
+
+    @Override
+    public void liveDebug() {
+        logger.debug("live {}", "statement");
+        logger.atDebug().addArgument("fluent").log("live {} statement");
+    }
+
+    @Override
+    public void info() {
+        logger.info("info statement");
+    }
+}
@@ -0,0 +1,86 @@
+package com.logger.ttl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.invoke.MethodHandle;
+import java.time.Instant;
+
+/**
+ * Tests for TTLCallSites gates and their invalidation
+ */
+@DisplayName("TTLCallSites")
+class TTLCallSitesTest {
+
+    @LogTTL(start = "2020-01-01T00:00:00Z", ttlDays = 1, levels = {LogLevel.DEBUG})
+    static class ExpiredService {
+        void process() {}
+    }
+
+    private TTLManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = TTLManager.getInstance();
+        manager.clearAllOverrides();
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.clearAllOverrides();
+    }
+
+    @Test
+    @DisplayName("Gate should reflect the annotation decision")
+    void testGateDecision() throws Throwable {
+        MethodHandle debugGate = TTLCallSites.gate(ExpiredService.class, "process", LogLevel.DEBUG);
+        MethodHandle infoGate = TTLCallSites.gate(ExpiredService.class, "process", LogLevel.INFO);
+
+        assertFalse((boolean) debugGate.invokeExact());
+        assertTrue((boolean) infoGate.invokeExact());
+    }
+
+    @Test
+    @DisplayName("Gate should follow TTLManager overrides immediately")
+    void testGateInvalidation() throws Throwable {
+        MethodHandle gate = TTLCallSites.gate(ExpiredService.class, "process", LogLevel.DEBUG);
+        assertFalse((boolean) gate.invokeExact());
+
+        manager.overrideClassTTL(ExpiredService.class, TTLOverride.bypass());
+        assertTrue((boolean) gate.invokeExact());
+
+        manager.removeClassTTLOverride(ExpiredService.class);
+        assertFalse((boolean) gate.invokeExact());
+
+        manager.enableAllTTL();
+        assertTrue((boolean) gate.invokeExact());
+    }
+
+    @Test
+    @DisplayName("Gate should be relinked when its TTL window opens")
+    void testGateTimer() throws Throwable {
+        String start = Instant.now().plusMillis(200).toString();
+        manager.overrideClassTTL(ExpiredService.class, TTLOverride.replace(start, 1, LogLevel.DEBUG));
+
+        MethodHandle gate = TTLCallSites.gate(ExpiredService.class, "process", LogLevel.DEBUG);
+        assertFalse((boolean) gate.invokeExact());
+
+        long deadline = System.currentTimeMillis() + 5000;
+        boolean open = false;
+        while (!open && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            open = (boolean) gate.invokeExact();
+        }
+        assertTrue(open, "Gate should open once the start time has passed");
+    }
+
+    @Test
+    @DisplayName("Logger without class should always be open")
+    void testNamedLoggerGate() throws Throwable {
+        MethodHandle gate = TTLLogger.getLogger("named").gate("process", LogLevel.DEBUG);
+        assertTrue((boolean) gate.invokeExact());
+    }
+}
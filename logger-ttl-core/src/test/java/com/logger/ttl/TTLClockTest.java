@@ -0,0 +1,91 @@
+package com.logger.ttl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Tests for TTLClock implementations and their use in TTL calculations
+ */
+@DisplayName("TTLClock")
+class TTLClockTest {
+
+    @AfterEach
+    void tearDown() {
+        TTLManager.getInstance().setClock(null);
+    }
+
+    @Test
+    @DisplayName("Manual clock should simulate TTL expiry")
+    void testManualClockExpiry() {
+        TTLClock.Manual clock = TTLClock.manual(Instant.parse("2025-01-01T00:00:00Z").toEpochMilli());
+        TTLManager.getInstance().setClock(clock);
+
+        TTLConfig config = new TTLConfig("2025-01-01T00:00:00Z", 30, new LogLevel[]{});
+        assertTrue(config.isWithinTTL());
+
+        clock.advance(Duration.ofDays(29));
+        assertTrue(config.isWithinTTL());
+
+        clock.advance(Duration.ofDays(2));
+        assertFalse(config.isWithinTTL());
+    }
+
+    @Test
+    @DisplayName("TTL without start date should be counted from creation on the current clock")
+    void testManualClockCreationTime() {
+        TTLClock.Manual clock = TTLClock.manual(0);
+        TTLManager.getInstance().setClock(clock);
+
+        TTLConfig config = new TTLConfig("", 7, new LogLevel[]{});
+        clock.advance(Duration.ofDays(7));
+        assertTrue(config.isWithinTTL());
+
+        clock.advance(Duration.ofMillis(1));
+        assertFalse(config.isWithinTTL());
+
+        assertEquals(clock.instant(), TTLOverride.bypass().getOverrideTime());
+    }
+
+    @Test
+    @DisplayName("Cached clock should follow the system clock within its resolution")
+    void testCachedClock() throws InterruptedException {
+        try (TTLClock.Cached clock = TTLClock.cached(5)) {
+            long before = clock.millis();
+            Thread.sleep(50);
+            assertTrue(clock.millis() > before);
+            assertTrue(Math.abs(System.currentTimeMillis() - clock.millis()) < 1000);
+        }
+    }
+
+    @Test
+    @DisplayName("Exact time should bypass the cache of a cached clock only")
+    void testExactMillis() throws InterruptedException {
+        try (TTLClock.Cached clock = TTLClock.cached(60_000)) {
+            Thread.sleep(20);
+            long cached = clock.millis();
+            Thread.sleep(20);
+            assertEquals(cached, clock.millis());
+            assertTrue(clock.exactMillis() > cached);
+        }
+
+        TTLClock.Manual manual = TTLClock.manual(0);
+        manual.advance(Duration.ofMillis(5));
+        assertEquals(5, manual.exactMillis());
+    }
+
+    @Test
+    @DisplayName("Restoring the clock should fall back to the default clock")
+    void testRestoreDefault() {
+        TTLClock defaultClock = TTLClock.current();
+        TTLManager.getInstance().setClock(TTLClock.precise());
+        assertSame(TTLClock.precise(), TTLManager.getInstance().getClock());
+
+        TTLManager.getInstance().setClock(null);
+        assertSame(defaultClock, TTLClock.current());
+    }
+}
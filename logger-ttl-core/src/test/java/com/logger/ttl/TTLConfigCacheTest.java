@@ -0,0 +1,121 @@
+package com.logger.ttl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+/**
+ * Tests for TTLConfigCache resolution, statistics and eviction
+ */
+@DisplayName("TTLConfigCache")
+class TTLConfigCacheTest {
+
+    @LogTTL(ttlDays = 30, levels = {LogLevel.DEBUG})
+    static class AnnotatedService {
+        @LogTTL(ttlDays = 7, levels = {LogLevel.INFO})
+        void annotatedMethod() {}
+
+        void plainMethod() {}
+    }
+
+    static class PlainService {
+        void plainMethod() {}
+    }
+
+    static class OtherService {}
+
+    @LogTTL(ttlDays = 1, levels = {LogLevel.DEBUG})
+    static class UnstartedService {}
+
+    @Test
+    @DisplayName("Should resolve method-level before class-level configuration")
+    void testResolutionPriority() {
+        TTLConfigCache cache = new TTLConfigCache(100);
+
+        TTLConfig info = cache.get(AnnotatedService.class, "annotatedMethod", TTLLogger.class, LogLevel.INFO);
+        assertEquals(7, info.getTtlDays());
+
+        TTLConfig debug = cache.get(AnnotatedService.class, "annotatedMethod", TTLLogger.class, LogLevel.DEBUG);
+        assertEquals(30, debug.getTtlDays());
+
+        assertNull(cache.get(AnnotatedService.class, "plainMethod", TTLLogger.class, LogLevel.ERROR));
+        assertNull(cache.get(PlainService.class, "plainMethod", TTLLogger.class, LogLevel.INFO));
+    }
+
+    @Test
+    @DisplayName("Should count hits and misses")
+    void testHitAndMissCounters() {
+        TTLConfigCache cache = new TTLConfigCache(100);
+
+        cache.get(AnnotatedService.class, "annotatedMethod", TTLLogger.class, LogLevel.INFO);
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0, cache.getHitCount());
+
+        cache.get(AnnotatedService.class, "annotatedMethod", TTLLogger.class, LogLevel.INFO);
+        cache.get(AnnotatedService.class, "annotatedMethod", TTLLogger.class, LogLevel.WARN);
+        assertEquals(1, cache.getMissCount());
+        assertEquals(2, cache.getHitCount());
+
+        // Same instance is returned for repeated lookups
+        assertSame(cache.get(AnnotatedService.class, "annotatedMethod", TTLLogger.class, LogLevel.INFO),
+                   cache.get(AnnotatedService.class, "annotatedMethod", TTLLogger.class, LogLevel.INFO));
+    }
+
+    @Test
+    @DisplayName("Should evict oldest classes when the bound is exceeded")
+    void testEviction() {
+        TTLConfigCache cache = new TTLConfigCache(2);
+
+        cache.get(AnnotatedService.class, "annotatedMethod", TTLLogger.class, LogLevel.INFO);
+        cache.get(PlainService.class, "plainMethod", TTLLogger.class, LogLevel.INFO);
+        assertEquals(2, cache.size());
+        assertEquals(0, cache.getEvictionCount());
+
+        cache.get(OtherService.class, "run", TTLLogger.class, LogLevel.INFO);
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+
+        // Evicted class is resolved again on next access
+        long misses = cache.getMissCount();
+        cache.get(AnnotatedService.class, "annotatedMethod", TTLLogger.class, LogLevel.INFO);
+        assertEquals(misses + 1, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Should remove all entries on clear")
+    void testClear() {
+        TTLConfigCache cache = new TTLConfigCache(100);
+        cache.get(AnnotatedService.class, "annotatedMethod", TTLLogger.class, LogLevel.INFO);
+        cache.get(PlainService.class, "plainMethod", TTLLogger.class, LogLevel.INFO);
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Annotations without a start should expire counted from their first resolution")
+    void testUnstartedAnnotationExpires() {
+        TTLManager manager = TTLManager.getInstance();
+        TTLClock.Manual clock = TTLClock.manual(System.currentTimeMillis());
+        manager.setClock(clock);
+        try {
+            TTLConfigCache cache = new TTLConfigCache(100);
+            TTLConfig config = cache.get(UnstartedService.class, "run", TTLLogger.class, LogLevel.DEBUG);
+            assertTrue(config.shouldLog(LogLevel.DEBUG));
+
+            // The expiry is not moved by later lookups
+            clock.advance(Duration.ofHours(23));
+            assertSame(config, cache.get(UnstartedService.class, "run", TTLLogger.class, LogLevel.DEBUG));
+            assertTrue(config.shouldLog(LogLevel.DEBUG));
+
+            clock.advance(Duration.ofHours(2));
+            assertFalse(cache.get(UnstartedService.class, "run", TTLLogger.class, LogLevel.DEBUG)
+                .shouldLog(LogLevel.DEBUG));
+        } finally {
+            manager.setClock(null);
+        }
+    }
+}
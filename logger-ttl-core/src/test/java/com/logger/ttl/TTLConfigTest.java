@@ -165,4 +165,68 @@ public class TTLConfigTest {
         assertTrue(levelSpecificConfig.getLevels().contains(LogLevel.DEBUG));
         assertTrue(levelSpecificConfig.getLevels().contains(LogLevel.INFO));
     }
+    
+    @Test
+    void testInternedConfigIsShared() {
+        TTLConfig first = TTLConfigInterner.intern("2025-01-01T00:00:00Z", 30, new LogLevel[]{LogLevel.INFO});
+        TTLConfig second = TTLConfigInterner.intern("2025-01-01T00:00:00Z", 30, new LogLevel[]{LogLevel.INFO});
+        assertSame(first, second);
+        
+        // Any differing argument yields a different configuration
+        assertNotSame(first, TTLConfigInterner.intern("2025-01-01T00:00:00Z", 31, new LogLevel[]{LogLevel.INFO}));
+        assertNotSame(first, TTLConfigInterner.intern("2025-01-01T00:00:00Z", 30, new LogLevel[]{LogLevel.DEBUG}));
+        assertNotSame(first, TTLConfigInterner.intern("2025-01-02T00:00:00Z", 30, new LogLevel[]{LogLevel.INFO}));
+        
+        TTLConfig noStart = TTLConfigInterner.intern(null, 30, null);
+        assertFalse(noStart.hasStartTime());
+        assertTrue(noStart.isLevelAffected(LogLevel.ERROR));
+    }
+    
+    @Test
+    void testConfigsWithoutStartAreNotCached() {
+        TTLClock.Manual clock = TTLClock.manual(Instant.parse("2025-01-01T00:00:00Z").toEpochMilli());
+        TTLManager.getInstance().setClock(clock);
+        try {
+            TTLConfig first = TTLConfigInterner.intern("", 1, new LogLevel[]{LogLevel.INFO});
+            clock.advance(java.time.Duration.ofDays(2));
+            TTLConfig later = TTLConfigInterner.intern("", 1, new LogLevel[]{LogLevel.INFO});
+            
+            // Counted from each call, as for a new TTLConfig, and never pooled
+            assertNotSame(first, later);
+            assertTrue(later.isWithinTTL());
+            assertNotSame(TTLConfig.of(null, 1), TTLConfig.of(null, 1));
+            assertNotSame(TTLConfigInterner.intern("not a date", 1, null), TTLConfigInterner.intern("not a date", 1, null));
+        } finally {
+            TTLManager.getInstance().setClock(null);
+        }
+    }
+    
+    @Test
+    void testLongTTLDoesNotOverflow() {
+        // 30,000 days overflowed the previous int-based seconds calculation
+        String pastStart = Instant.now().minus(1, ChronoUnit.DAYS).toString();
+        TTLConfig config = new TTLConfig(pastStart, 30_000, new LogLevel[]{});
+        assertTrue(config.isWithinTTL());
+        assertTrue(config.getExpiryMillis() > config.getStartMillis());
+    }
+    
+    @Test
+    void testLevelMaskAndSharing() {
+        TTLConfig config = TTLConfig.of("2025-01-01T00:00:00Z", 30, LogLevel.DEBUG, LogLevel.WARN);
+        assertEquals((1 << LogLevel.DEBUG.ordinal()) | (1 << LogLevel.WARN.ordinal()), config.getLevelMask());
+        assertSame(config, TTLConfig.of("2025-01-01T00:00:00Z", 30, LogLevel.WARN, LogLevel.DEBUG));
+        assertEquals(config, new TTLConfig("2025-01-01T00:00:00Z", 30, new LogLevel[]{LogLevel.DEBUG, LogLevel.WARN}));
+        assertSame(TTLConfig.defaultConfig(), TTLConfig.defaultConfig());
+    }
+    
+    @Test
+    void testWithExtraDays() {
+        TTLConfig extended = pastStartConfig.withExtraDays(10);
+        assertEquals(40, extended.getTtlDays());
+        assertEquals(pastStartConfig.getStartMillis(), extended.getStartMillis());
+        assertEquals(pastStartConfig.getExpiryMillis() + 10L * 24 * 60 * 60 * 1000, extended.getExpiryMillis());
+        
+        // Configurations without TTL stay unrestricted
+        assertSame(defaultConfig, defaultConfig.withExtraDays(10));
+    }
 }
@@ -0,0 +1,112 @@
+package com.logger.ttl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Tests for TTLExpiryScheduler and the call site decisions it drives
+ */
+@DisplayName("TTLExpiryScheduler")
+class TTLExpirySchedulerTest {
+
+    @LogTTL(start = "2030-01-01T00:00:00Z", ttlDays = 1, levels = {LogLevel.DEBUG})
+    static class ExpiringService {
+        void process() {}
+    }
+
+    @LogTTL(start = "2030-01-02T00:00:00Z", ttlDays = 1, levels = {LogLevel.DEBUG})
+    static class StartingService {
+        void process() {}
+    }
+
+    private TTLManager manager;
+    private TTLClock.Manual clock;
+
+    @BeforeEach
+    void setUp() {
+        manager = TTLManager.getInstance();
+        manager.clearAllOverrides();
+        clock = TTLClock.manual(Instant.parse("2030-01-01T12:00:00Z").toEpochMilli());
+        manager.setClock(clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.clearAllOverrides();
+        manager.setClock(null);
+    }
+
+    @Test
+    @DisplayName("Call site should close at its expiry and notify listeners")
+    void testCallSiteExpiry() {
+        List<TTLCallSite> expired = new CopyOnWriteArrayList<>();
+        Consumer<TTLCallSite> listener = expired::add;
+        TTLExpiryScheduler scheduler = TTLExpiryScheduler.getInstance();
+        scheduler.addExpiryListener(listener);
+        try {
+            TTLCallSite site = TTLConfigCache.getInstance()
+                .site(ExpiringService.class, "process", ExpiringService.class, LogLevel.DEBUG);
+            assertNotNull(site);
+            assertTrue(site.isOpen());
+            assertNull(TTLConfigCache.getInstance()
+                .site(ExpiringService.class, "process", ExpiringService.class, LogLevel.INFO));
+
+            clock.advance(Duration.ofHours(13));
+            scheduler.runDueTransitions();
+
+            assertFalse(site.isOpen());
+            assertTrue(expired.contains(site));
+        } finally {
+            scheduler.removeExpiryListener(listener);
+        }
+    }
+
+    @Test
+    @DisplayName("Call site should open at its start without notifying expiry listeners")
+    void testCallSiteStart() {
+        List<TTLCallSite> expired = new CopyOnWriteArrayList<>();
+        Consumer<TTLCallSite> listener = expired::add;
+        TTLExpiryScheduler scheduler = TTLExpiryScheduler.getInstance();
+        scheduler.addExpiryListener(listener);
+        try {
+            TTLCallSite site = TTLConfigCache.getInstance()
+                .site(StartingService.class, "process", StartingService.class, LogLevel.DEBUG);
+            assertFalse(site.isOpen());
+
+            clock.advance(Duration.ofHours(13));
+            scheduler.runDueTransitions();
+
+            assertTrue(site.isOpen());
+            assertTrue(site.toString().contains("OPEN"), site.toString());
+            assertTrue(expired.isEmpty());
+        } finally {
+            scheduler.removeExpiryListener(listener);
+        }
+    }
+
+    @Test
+    @DisplayName("Call site should follow TTLManager overrides immediately")
+    void testCallSiteInvalidation() {
+        TTLCallSite site = TTLConfigCache.getInstance()
+            .site(ExpiringService.class, "process", ExpiringService.class, LogLevel.DEBUG);
+
+        clock.advance(Duration.ofDays(2));
+        TTLExpiryScheduler.getInstance().runDueTransitions();
+        assertFalse(site.isOpen());
+
+        manager.overrideClassTTL(ExpiringService.class, TTLOverride.bypass());
+        assertTrue(site.isOpen());
+
+        manager.removeClassTTLOverride(ExpiringService.class);
+        assertFalse(site.isOpen());
+    }
+}
@@ -0,0 +1,152 @@
+package com.logger.ttl;
+
+import com.logger.samples.LocatedService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Tests that suppressed TTLLogger statements neither format their message nor allocate
+ */
+@DisplayName("TTLLogger Allocation")
+class TTLLoggerAllocationTest {
+
+    private static final int ITERATIONS = 20_000;
+    private static final int ROUNDS = 3;
+    private static final String EXPIRED_START = "2020-01-01T00:00:00Z";
+    private static final Object ARG1 = "first";
+    private static final Object ARG2 = "second";
+    private static final Object[] ARGS = {ARG1, ARG2, "third"};
+    private static final Throwable ERROR = new IllegalStateException("test");
+    private static final Supplier<String> MESSAGE = () -> "message";
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("Statements below the delegate level should not allocate")
+    void testDisabledLevelDoesNotAllocate() {
+        // TRACE is disabled for com.logger.ttl in log4j2.xml
+        TTLLogger logger = TTLLogger.getLogger(TTLLoggerAllocationTest.class);
+        assertFalse(logger.isTTLActive(LogLevel.TRACE));
+
+        assertEquals(0, allocatedBytes(() -> {
+            logger.trace("{}", ARG1);
+            logger.trace("{} {}", ARG1, ARG2);
+            logger.trace("{} {} {}", ARGS);
+            logger.trace("failure", ERROR);
+            logger.trace(MESSAGE);
+        }));
+    }
+
+    @Test
+    @DisplayName("Expired statements should not allocate")
+    void testExpiredTTLDoesNotAllocate() {
+        TTLLogger logger = TTLLoggerFactory.getLogger(
+            TTLLoggerAllocationTest.class, EXPIRED_START, 1, LogLevel.DEBUG);
+        assertFalse(logger.isTTLActive(LogLevel.DEBUG));
+
+        assertEquals(0, allocatedBytes(() -> {
+            logger.debug("{}", ARG1);
+            logger.debug("{} {}", ARG1, ARG2);
+            logger.debug("{} {} {}", ARGS);
+            logger.debug("failure", ERROR);
+            logger.debug(MESSAGE);
+            logger.debug("explicit", EXPIRED_START, 1, LogLevel.DEBUG);
+            logger.debug("explicit", EXPIRED_START, 1, LogLevel.DEBUG, LogLevel.INFO);
+        }));
+    }
+
+    @Test
+    @DisplayName("Statements expired by a @LogTTL annotation should allocate nothing beyond the caller lookup")
+    void testExpiredAnnotationDoesNotFormat() {
+        // LocatedService is annotated with an expired DEBUG TTL, the backend has every level enabled
+        TTLLogger logger = TTLLoggerFactory.getLogger(LocatedService.class, new DiscardingBackend());
+        LocatedService service = new LocatedService(logger);
+        assertTrue(logger.isEnabledFor(LogLevel.DEBUG));
+        assertFalse(service.expiredDebugGuards());
+
+        // Walking the stack for the caller allocates frames, the same for a guard and a statement
+        long guards = allocatedBytes(service::expiredDebugGuards);
+        long statements = allocatedBytes(() -> service.expiredDebugStatements(ARG1, ARG2, ARGS, ERROR));
+        assertTrue(statements <= guards + guards / 20,
+            "statements allocated " + statements + " bytes, guards " + guards);
+    }
+
+    @Test
+    @DisplayName("Supplier should only be called when the statement is logged")
+    void testSupplierIsLazy() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String> supplier = () -> "call " + calls.incrementAndGet();
+
+        TTLLoggerFactory.getLogger(TTLLoggerAllocationTest.class, EXPIRED_START, 1, LogLevel.INFO)
+            .info(supplier);
+        assertEquals(0, calls.get());
+
+        TTLLogger.getLogger(TTLLoggerAllocationTest.class).info(supplier);
+        assertEquals(1, calls.get());
+    }
+
+    /**
+     * Runs the statements repeatedly and returns the fewest bytes allocated by a round of runs,
+     * so one-off allocations such as class loading or JIT deoptimization are not counted
+     */
+    private static long allocatedBytes(Runnable statements) {
+        long thread = Thread.currentThread().getId();
+        for (int i = 0; i < ITERATIONS; i++) {
+            statements.run();
+        }
+        long overhead = THREADS.getThreadAllocatedBytes(thread);
+        overhead = THREADS.getThreadAllocatedBytes(thread) - overhead;
+
+        long fewest = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS && fewest > 0; round++) {
+            long before = THREADS.getThreadAllocatedBytes(thread);
+            for (int i = 0; i < ITERATIONS; i++) {
+                statements.run();
+            }
+            fewest = Math.min(fewest, THREADS.getThreadAllocatedBytes(thread) - before - overhead);
+        }
+        return fewest;
+    }
+
+    /**
+     * Backend with every level enabled that drops the statements it receives
+     */
+    private static class DiscardingBackend implements TTLLoggerBackend {
+
+        @Override
+        public boolean isEnabled(LogLevel level) {
+            return true;
+        }
+
+        @Override
+        public boolean usesLocation() {
+            return false;
+        }
+
+        @Override
+        public void log(LogLevel level, StackTraceElement location, String msg) {
+        }
+
+        @Override
+        public void log(LogLevel level, StackTraceElement location, String format, Object arg) {
+        }
+
+        @Override
+        public void log(LogLevel level, StackTraceElement location, String format, Object arg1, Object arg2) {
+        }
+
+        @Override
+        public void log(LogLevel level, StackTraceElement location, String format, Object... arguments) {
+        }
+
+        @Override
+        public void log(LogLevel level, StackTraceElement location, String msg, Throwable t) {
+        }
+    }
+}
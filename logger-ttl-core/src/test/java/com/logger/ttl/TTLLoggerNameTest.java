@@ -0,0 +1,148 @@
+package com.logger.ttl;
+
+import com.logger.samples.LocatedService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests for TTLLoggerName
+ */
+@DisplayName("TTLLoggerName")
+class TTLLoggerNameTest {
+
+    private static final String EXPIRED = "2020-01-01T00:00:00Z";
+
+    @LogTTL(start = EXPIRED, ttlDays = 1, levels = {LogLevel.DEBUG})
+    interface Expiring {
+    }
+
+    static class Implementing implements Expiring {
+    }
+
+    @LogTTL(start = EXPIRED, ttlDays = 1, levels = {LogLevel.DEBUG})
+    static class Base {
+        @LogTTL(start = EXPIRED, ttlDays = 36500, levels = {LogLevel.DEBUG})
+        void live() {}
+    }
+
+    static class Derived extends Base {
+    }
+
+    private static final String BROKEN = "@com.logger.ttl.LogTTL(ttlDays = 1) public class Broken {"
+        + " @com.logger.ttl.LogTTL(ttlDays = 2) public Missing create() { return null; } }";
+
+    @Test
+    @DisplayName("Annotated and unannotated classes should be resolved")
+    void testResolve() {
+        TTLLoggerName name = TTLLoggerName.resolve(LocatedService.class.getName());
+        assertTrue(name.isManaged());
+        assertSame(LocatedService.class, name.getCallingClass());
+        assertTrue(name.needsMethod(), "LocatedService has an annotated method");
+
+        assertSame(TTLLoggerName.UNMANAGED, TTLLoggerName.of(TTLLoggerNameTest.class));
+        assertSame(TTLLoggerName.UNKNOWN, TTLLoggerName.resolve("component.audit"));
+    }
+
+    @Test
+    @DisplayName("Annotations of interfaces and superclasses should apply as in the TTL core")
+    void testInheritedAnnotations() {
+        TTLLoggerName implementing = TTLLoggerName.of(Implementing.class);
+        assertTrue(implementing.isManaged());
+        assertFalse(implementing.needsMethod());
+        assertFalse(implementing.shouldLog("", LogLevel.DEBUG));
+        assertTrue(implementing.shouldLog("", LogLevel.INFO));
+
+        TTLLoggerName derived = TTLLoggerName.of(Derived.class);
+        assertTrue(derived.needsMethod(), "The superclass has an annotated method");
+        assertTrue(derived.isCallingClass(Base.class.getName()));
+        assertFalse(derived.isCallingClass(Object.class.getName()));
+        assertTrue(derived.shouldLog("live", LogLevel.DEBUG));
+        assertFalse(derived.shouldLog("", LogLevel.DEBUG));
+
+        assertEquals(TTLAnnotationProcessor.shouldLog(Derived.class, "live", Object.class, LogLevel.DEBUG),
+            derived.shouldLog("live", LogLevel.DEBUG));
+        assertEquals(TTLAnnotationProcessor.shouldLog(Implementing.class, "", Object.class, LogLevel.DEBUG),
+            implementing.shouldLog("", LogLevel.DEBUG));
+    }
+
+    @Test
+    @DisplayName("The calling method should only be needed for levels it can change")
+    void testMethodLevels() {
+        TTLLoggerName derived = TTLLoggerName.of(Derived.class);
+        assertTrue(derived.needsMethod(LogLevel.DEBUG));
+        assertFalse(derived.needsMethod(LogLevel.INFO), "No annotation covers INFO");
+
+        TTLLoggerName implementing = TTLLoggerName.of(Implementing.class);
+        TTLManager manager = TTLManager.getInstance();
+        try {
+            manager.overrideMethodTTL(Implementing.class, "process", TTLOverride.bypass());
+            assertTrue(implementing.needsMethod(LogLevel.DEBUG));
+            assertFalse(implementing.needsMethod(LogLevel.INFO));
+        } finally {
+            manager.clearAllOverrides();
+        }
+        assertFalse(implementing.needsMethod(LogLevel.DEBUG));
+    }
+
+    @Test
+    @DisplayName("Classes whose members cannot be linked should not be managed")
+    void testUnlinkableClassIsUnmanaged(@TempDir Path output) throws Exception {
+        compile(output, "-proc:none");
+        Files.delete(output.resolve("Missing.class"));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {output.toUri().toURL()})) {
+            Class<?> broken = loader.loadClass("Broken");
+            assertThrows(NoClassDefFoundError.class, broken::getDeclaredMethods);
+            assertSame(TTLLoggerName.UNMANAGED, TTLLoggerName.of(broken));
+        }
+    }
+
+    @Test
+    @DisplayName("Classes listed in a registry should be resolved without reflection")
+    void testRegisteredClassIsNotReflected(@TempDir Path output) throws Exception {
+        compile(output);
+        Files.delete(output.resolve("Missing.class"));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {output.toUri().toURL()},
+                TTLLoggerNameTest.class.getClassLoader())) {
+            TTLLoggerName name = TTLLoggerName.of(loader.loadClass("Broken"));
+            assertTrue(name.isManaged());
+            assertTrue(name.needsMethod());
+        }
+    }
+
+    private static void compile(Path output, String... options) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        String classpath = new File(LogTTL.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+        List<String> arguments = new ArrayList<>(Arrays.asList("-classpath", classpath, "-d", output.toString()));
+        arguments.addAll(Arrays.asList(options));
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, arguments, null,
+            Arrays.asList(source("Missing", "public class Missing {}"), source("Broken", BROKEN)));
+        assertTrue(task.call());
+    }
+
+    private static JavaFileObject source(String name, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + name + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
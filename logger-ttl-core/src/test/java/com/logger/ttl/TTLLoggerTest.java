@@ -4,6 +4,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Tests for TTLLogger class.
  */
@@ -157,4 +161,83 @@ public class TTLLoggerTest {
         // Should be expired
         logger.info("After zero TTL", "", 0, LogLevel.INFO);
     }
+    
+    @Test
+    void testPlaceholderWithStringAndIntIsFormatted() {
+        RecordingBackend backend = new RecordingBackend();
+        TTLLogger recorded = TTLLoggerFactory.getLogger(TTLLoggerTest.class, backend);
+        
+        recorded.info("{} {}", (Object) "a", 1);
+        recorded.info("user {} retried {} times", (Object) "alice", 3);
+        
+        assertEquals(Arrays.asList("INFO {} {} [a, 1]", "INFO user {} retried {} times [alice, 3]"),
+            backend.statements);
+    }
+    
+    @Test
+    void testExplicitTTLForAllLevelsWithEmptyLevels() {
+        RecordingBackend backend = new RecordingBackend();
+        TTLLogger recorded = TTLLoggerFactory.getLogger(TTLLoggerTest.class, backend);
+        
+        recorded.info("expired", "2020-01-01T00:00:00Z", 1, new LogLevel[0]);
+        recorded.info("live", "2020-01-01T00:00:00Z", 36500, new LogLevel[0]);
+        
+        assertEquals(Arrays.asList("INFO live"), backend.statements);
+    }
+    
+    @Test
+    @SuppressWarnings("deprecation")
+    void testExplicitTTLForAllLevelsWithoutLevels() {
+        RecordingBackend backend = new RecordingBackend();
+        TTLLogger recorded = TTLLoggerFactory.getLogger(TTLLoggerTest.class, backend);
+        
+        recorded.info("expired", "2020-01-01T00:00:00Z", 1);
+        recorded.info("live", "2020-01-01T00:00:00Z", 36500);
+        recorded.error("expired", "2020-01-01T00:00:00Z", 1);
+        
+        assertEquals(Arrays.asList("INFO live"), backend.statements);
+    }
+    
+    /**
+     * Backend recording the statements it receives, unformatted
+     */
+    private static class RecordingBackend implements TTLLoggerBackend {
+        
+        final List<String> statements = new ArrayList<>();
+        
+        @Override
+        public boolean isEnabled(LogLevel level) {
+            return true;
+        }
+        
+        @Override
+        public boolean usesLocation() {
+            return false;
+        }
+        
+        @Override
+        public void log(LogLevel level, StackTraceElement location, String msg) {
+            statements.add(level + " " + msg);
+        }
+        
+        @Override
+        public void log(LogLevel level, StackTraceElement location, String format, Object arg) {
+            log(level, location, format, new Object[] {arg});
+        }
+        
+        @Override
+        public void log(LogLevel level, StackTraceElement location, String format, Object arg1, Object arg2) {
+            log(level, location, format, new Object[] {arg1, arg2});
+        }
+        
+        @Override
+        public void log(LogLevel level, StackTraceElement location, String format, Object... arguments) {
+            statements.add(level + " " + format + " " + Arrays.toString(arguments));
+        }
+        
+        @Override
+        public void log(LogLevel level, StackTraceElement location, String msg, Throwable t) {
+            statements.add(level + " " + msg + " " + t);
+        }
+    }
 }
@@ -242,4 +242,30 @@ class TTLManagerTest {
             thread.join();
         });
     }
+    
+    @Test
+    @DisplayName("Rule changes should publish consistent versioned snapshots")
+    void testVersionedRules() {
+        long version = manager.getRulesVersion();
+        TTLRules before = manager.getRules();
+        
+        manager.overrideMethodTTL(String.class, "test", TTLOverride.extend(5));
+        assertTrue(manager.getRulesVersion() > version);
+        assertNull(before.getMethodOverride(String.class, "test"));
+        
+        TTLRules batch = manager.updateRules(r -> r
+            .withGlobalExtension(10)
+            .withClassOverride(Integer.class, TTLOverride.bypass())
+            .withFieldOverride(Integer.class, "field", TTLOverride.extend(1)));
+        assertSame(batch, manager.getRules());
+        assertEquals(10, batch.getGlobalExtension());
+        assertEquals(1, batch.getClassOverrideCount());
+        assertEquals(1, batch.getMethodOverrideCount());
+        assertEquals(1, batch.getFieldOverrideCount());
+        
+        manager.clearAllOverrides();
+        assertTrue(manager.getRulesVersion() > batch.getVersion());
+        assertNull(manager.getClassTTLOverride(Integer.class));
+        assertEquals(0, manager.getGlobalTTLExtension());
+    }
 }
@@ -0,0 +1,136 @@
+package com.logger.ttl;
+
+import com.logger.ttl.processor.LogTTLProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.lang.ref.WeakReference;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the registry generated by LogTTLProcessor
+ */
+@DisplayName("TTLRegistry")
+class TTLRegistryTest {
+
+    @LogTTL(start = "2025-01-01T00:00:00Z", ttlDays = 30, levels = {LogLevel.DEBUG})
+    static class RegisteredService {
+        @LogTTL(start = "2025-02-01T00:00:00Z", ttlDays = 7, levels = {LogLevel.INFO, LogLevel.WARN})
+        private TTLLogger logger;
+
+        @LogTTL(ttlDays = 14)
+        void process() {}
+    }
+
+    @Test
+    @DisplayName("Test classes should be resolved from the generated registry")
+    void testGeneratedMetadata() {
+        TTLRegistry.ClassMetadata metadata = TTLRegistry.lookup(RegisteredService.class);
+        assertNotNull(metadata, "Test sources are compiled with LogTTLProcessor");
+
+        assertEquals(TTLConfig.of("2025-01-01T00:00:00Z", 30, LogLevel.DEBUG), metadata.getClassConfig());
+        assertEquals(TTLConfig.of("2025-02-01T00:00:00Z", 7, LogLevel.INFO, LogLevel.WARN),
+            metadata.getFieldConfig(TTLLogger.class));
+        assertNull(metadata.getFieldConfig(String.class));
+        assertEquals(14, metadata.getMethodConfig("process").getTtlDays());
+        assertNull(metadata.getMethodConfig("other"));
+
+        assertNull(TTLRegistry.lookup(String.class), "JDK classes have no registry");
+        assertNull(TTLRegistry.lookup(TTLRegistryTest.class), "Classes without annotations are not listed");
+    }
+
+    @Test
+    @DisplayName("Registry should give the same result as reflection")
+    void testRegistryMatchesReflection() {
+        assertSame(TTLRegistry.lookup(RegisteredService.class).getClassConfig(),
+            TTLAnnotationProcessor.getClassLevelTTL(RegisteredService.class));
+        assertEquals(TTLConfig.of("2025-02-01T00:00:00Z", 7, LogLevel.INFO, LogLevel.WARN),
+            TTLAnnotationProcessor.getFieldLevelTTL(RegisteredService.class, TTLLogger.class));
+    }
+
+    @Test
+    @DisplayName("Processor should reject invalid start dates")
+    void testInvalidStartIsRejected(@TempDir Path output) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        String classpath = new File(LogTTL.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+
+        JavaFileObject source = new SimpleJavaFileObject(URI.create("string:///Invalid.java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return "@com.logger.ttl.LogTTL(start = \"yesterday\", ttlDays = 1) class Invalid {}";
+            }
+        };
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+            Arrays.asList("-proc:only", "-classpath", classpath, "-s", output.toString(), "-d", output.toString()),
+            null, Collections.singletonList(source));
+        task.setProcessors(Collections.singletonList(new LogTTLProcessor()));
+
+        assertFalse(task.call());
+        assertTrue(diagnostics.getDiagnostics().stream()
+            .anyMatch(d -> d.getKind() == Diagnostic.Kind.ERROR
+                && d.getMessage(null).contains("Invalid @LogTTL start")));
+        try (Stream<Path> files = Files.list(output)) {
+            assertTrue(files.anyMatch(file -> file.getFileName().toString().startsWith("LogTTLRegistry_")));
+        }
+    }
+
+    @Test
+    @DisplayName("Registry should not keep the class loader of a registered class")
+    void testClassLoaderIsCollected(@TempDir Path output) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        String classpath = new File(LogTTL.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+
+        JavaFileObject source = new SimpleJavaFileObject(URI.create("string:///Unloaded.java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return "@com.logger.ttl.LogTTL(ttlDays = 1) public class Unloaded {"
+                    + " public static class Log {}"
+                    + " @com.logger.ttl.LogTTL(ttlDays = 2) private Log log; }";
+            }
+        };
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null,
+            Arrays.asList("-classpath", classpath, "-d", output.toString()),
+            null, Collections.singletonList(source));
+        task.setProcessors(Collections.singletonList(new LogTTLProcessor()));
+        assertTrue(task.call());
+
+        WeakReference<ClassLoader> loader = lookupAndRelease(output);
+        for (int i = 0; i < 50 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(loader.get(), "Class loader should be collected after its classes were looked up");
+    }
+
+    /**
+     * Loads the compiled class in its own loader, resolves its field metadata and closes the loader
+     */
+    private static WeakReference<ClassLoader> lookupAndRelease(Path output) throws Exception {
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {output.toUri().toURL()},
+                TTLRegistryTest.class.getClassLoader())) {
+            Class<?> type = loader.loadClass("Unloaded");
+            TTLRegistry.ClassMetadata metadata = TTLRegistry.lookup(type);
+            assertNotNull(metadata);
+            assertEquals(1, metadata.getClassConfig().getTtlDays());
+            assertEquals(2, metadata.getFieldConfig(loader.loadClass("Unloaded$Log")).getTtlDays());
+            return new WeakReference<>(loader);
+        }
+    }
+}
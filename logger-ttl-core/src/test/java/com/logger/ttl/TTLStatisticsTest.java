@@ -0,0 +1,121 @@
+package com.logger.ttl;
+
+import com.logger.ttl.integration.TTLStatisticsBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Tests for the per call site counts of TTLStatistics
+ */
+@DisplayName("TTLStatistics")
+class TTLStatisticsTest {
+
+    @LogTTL(start = "2020-01-01T00:00:00Z", ttlDays = 1, levels = {LogLevel.DEBUG, LogLevel.INFO})
+    static class CountedService {
+        void process() {}
+    }
+
+    private final TTLStatistics statistics = TTLStatistics.getInstance();
+    private TTLManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = TTLManager.getInstance();
+        manager.clearAllOverrides();
+        statistics.setEnabled(true);
+        statistics.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.clearAllOverrides();
+        statistics.setEnabled(true);
+    }
+
+    @Test
+    @DisplayName("Should count suppressed statements per call site and level")
+    void testCallSiteCounts() {
+        log(LogLevel.DEBUG, 3);
+        log(LogLevel.INFO, 2);
+
+        TTLStatistics.CallSiteCounts debug = find(LogLevel.DEBUG);
+        assertEquals(0, debug.getEmittedCount());
+        assertEquals(3, debug.getSuppressedCount());
+        assertEquals("process", debug.getMethodName());
+
+        TTLStatistics.CallSiteCounts info = find(LogLevel.INFO);
+        assertEquals(2, info.getSuppressedCount());
+
+        assertTrue(statistics.getSuppressedByLevel().get(LogLevel.DEBUG) >= 3);
+        assertTrue(statistics.getSuppressedByLevel().get(LogLevel.INFO) >= 2);
+    }
+
+    @Test
+    @DisplayName("Should count statements per override in effect")
+    void testOverrideCounts() {
+        log(LogLevel.DEBUG, 2);
+        manager.overrideClassTTL(CountedService.class, TTLOverride.bypass());
+        log(LogLevel.DEBUG, 4);
+
+        String override = "class " + CountedService.class.getName() + " BYPASS";
+        assertEquals(4L, statistics.getEmittedByOverride().get(override));
+        assertTrue(statistics.getSuppressedByOverride().get("none") >= 2);
+
+        TTLStatistics.CallSiteCounts debug = find(LogLevel.DEBUG);
+        assertEquals(4, debug.getEmittedCount());
+        assertEquals(2, debug.getSuppressedCount());
+    }
+
+    @Test
+    @DisplayName("Should stop counting when disabled")
+    void testDisabled() {
+        log(LogLevel.DEBUG, 1);
+        statistics.setEnabled(false);
+        log(LogLevel.DEBUG, 5);
+
+        assertEquals(1, find(LogLevel.DEBUG).getSuppressedCount());
+    }
+
+    @Test
+    @DisplayName("Should expose the counts through the platform MBean server")
+    void testMBean() throws Exception {
+        // Registered when the integration manager starts
+        com.logger.ttl.integration.TTLIntegrationManager.getInstance();
+        log(LogLevel.DEBUG, 3);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(TTLStatisticsBean.OBJECT_NAME);
+        assertTrue(server.isRegistered(name));
+        assertTrue((Long) server.getAttribute(name, "SuppressedCount") >= 3);
+        // Maps are open typed as TabularData keyed by the map key
+        TabularData byLevel = (TabularData) server.getAttribute(name, "SuppressedByLevel");
+        assertTrue((Long) byLevel.get(new Object[] {"DEBUG"}).get("value") >= 3);
+        assertNotNull(server.getAttribute(name, "TopCallSites"));
+
+        server.invoke(name, "reset", new Object[0], new String[0]);
+        assertEquals(0L, server.getAttribute(name, "SuppressedCount"));
+    }
+
+    private void log(LogLevel level, int times) {
+        TTLCallSite site = TTLConfigCache.getInstance()
+            .site(CountedService.class, "process", TTLLogger.class, level);
+        for (int i = 0; i < times; i++) {
+            site.check();
+        }
+    }
+
+    private TTLStatistics.CallSiteCounts find(LogLevel level) {
+        return statistics.getTopCallSites(Integer.MAX_VALUE).stream()
+            .filter(site -> site.getClassName().equals(CountedService.class.getName()) && site.getLevel() == level)
+            .findFirst()
+            .orElseThrow();
+    }
+}
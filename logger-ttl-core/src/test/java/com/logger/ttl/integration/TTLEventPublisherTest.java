@@ -0,0 +1,308 @@
+package com.logger.ttl.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the event ring and dispatcher of TTLEventPublisher
+ */
+@DisplayName("TTLEventPublisher")
+class TTLEventPublisherTest {
+
+    private final TTLEventPublisher publisher = TTLEventPublisher.getInstance();
+    private final List<TTLEventListener> added = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        publisher.resumeDispatch();
+        added.forEach(publisher::removeListener);
+        publisher.setOverflowPolicy(TTLEventPublisher.OverflowPolicy.DROP_OLDEST);
+        publisher.setListenerLatencyBudget(TTLEventPublisher.DEFAULT_LATENCY_BUDGET_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    @DisplayName("Events should be delivered in order and in batches")
+    void testOrderedBatchDelivery() throws InterruptedException {
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger batches = new AtomicInteger();
+        add((TTLBatchEventListener) events -> {
+            batches.incrementAndGet();
+            events.forEach(event -> received.add((Integer) event.getData()));
+        });
+
+        for (int i = 0; i < 500; i++) {
+            publisher.publishEvent(TTLEventType.GLOBAL_TTL_EXTENDED, "extended", "test", i);
+        }
+        assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+
+        assertEquals(500, received.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i, received.get(i));
+        }
+        assertTrue(batches.get() <= 500);
+    }
+
+    @Test
+    @DisplayName("Full ring should drop the newest or the oldest events")
+    void testDropPolicies() throws InterruptedException {
+        for (TTLEventPublisher.OverflowPolicy policy : new TTLEventPublisher.OverflowPolicy[] {
+                TTLEventPublisher.OverflowPolicy.DROP_NEWEST, TTLEventPublisher.OverflowPolicy.DROP_OLDEST}) {
+            publisher.setOverflowPolicy(policy);
+            add(event -> {});
+            publisher.pauseDispatch();
+            long droppedNewest = publisher.getDroppedNewestCount();
+            long droppedOldest = publisher.getDroppedOldestCount();
+
+            for (int i = 0; i < publisher.getCapacity() + 10; i++) {
+                publisher.publishEvent(TTLEventType.GLOBAL_TTL_EXTENDED, "extended", "test", i);
+            }
+            publisher.resumeDispatch();
+            assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+
+            if (policy == TTLEventPublisher.OverflowPolicy.DROP_NEWEST) {
+                assertEquals(droppedNewest + 10, publisher.getDroppedNewestCount());
+                assertEquals(droppedOldest, publisher.getDroppedOldestCount());
+            } else {
+                assertEquals(droppedOldest + 10, publisher.getDroppedOldestCount());
+                assertEquals(droppedNewest, publisher.getDroppedNewestCount());
+            }
+            added.forEach(publisher::removeListener);
+        }
+    }
+
+    @Test
+    @DisplayName("Full ring should block publishers with the blocking policy")
+    void testBlockPolicy() throws InterruptedException {
+        publisher.setOverflowPolicy(TTLEventPublisher.OverflowPolicy.BLOCK);
+        add(event -> {});
+        publisher.pauseDispatch();
+        long blocked = publisher.getBlockedCount();
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i <= publisher.getCapacity(); i++) {
+                publisher.publishEvent(TTLEventType.GLOBAL_TTL_EXTENDED, "extended", "test", i);
+            }
+        });
+        producer.start();
+        producer.join(200);
+        assertTrue(producer.isAlive(), "Producer should wait for room");
+        assertEquals(blocked + 1, publisher.getBlockedCount());
+
+        publisher.resumeDispatch();
+        producer.join(5000);
+        assertFalse(producer.isAlive());
+        assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Event messages should only be built when read")
+    void testLazyMessage() throws InterruptedException {
+        AtomicInteger built = new AtomicInteger();
+        add(event -> {
+            if (event.getReason().equals("read")) {
+                event.getMessage();
+                event.getMessage();
+            }
+        });
+
+        publisher.publishEvent(TTLEventType.GLOBAL_TTL_EXTENDED, () -> "built " + built.incrementAndGet(), "unread", null);
+        assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+        assertEquals(0, built.get());
+
+        publisher.publishEvent(TTLEventType.GLOBAL_TTL_EXTENDED, () -> "built " + built.incrementAndGet(), "read", null);
+        assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+        assertEquals(1, built.get());
+    }
+
+    @Test
+    @DisplayName("Listeners should only receive their event types")
+    void testTypedListeners() throws InterruptedException {
+        List<TTLEvent> classEvents = Collections.synchronizedList(new ArrayList<>());
+        List<TTLEvent> globalEvents = Collections.synchronizedList(new ArrayList<>());
+        add(EnumSet.of(TTLEventType.CLASS_TTL_OVERRIDDEN), classEvents::add);
+        add(EnumSet.of(TTLEventType.GLOBAL_TTL_ENABLED, TTLEventType.GLOBAL_TTL_DISABLED),
+            (TTLBatchEventListener) globalEvents::addAll);
+
+        publisher.publishEvent(TTLEventType.CLASS_TTL_OVERRIDDEN, "class", "test", null);
+        publisher.publishEvent(TTLEventType.GLOBAL_TTL_ENABLED, "enabled", "test", null);
+        publisher.publishEvent(TTLEventType.METHOD_TTL_OVERRIDDEN, "method", "test", null);
+        publisher.publishEvent(TTLEventType.GLOBAL_TTL_DISABLED, "disabled", "test", null);
+        assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+
+        assertEquals(1, classEvents.size());
+        assertEquals(TTLEventType.CLASS_TTL_OVERRIDDEN, classEvents.get(0).getEventType());
+        assertEquals(2, globalEvents.size());
+        assertEquals(TTLEventType.GLOBAL_TTL_ENABLED, globalEvents.get(0).getEventType());
+        assertEquals(TTLEventType.GLOBAL_TTL_DISABLED, globalEvents.get(1).getEventType());
+    }
+
+    @Test
+    @DisplayName("Events without subscribers should not be created or queued")
+    void testEventsWithoutSubscribersAreSkipped() {
+        TTLEventType unused = TTLEventType.TTL_OVERRIDE_REMOVED;
+        publisher.clearListeners();
+        add(EnumSet.of(TTLEventType.CLASS_TTL_OVERRIDDEN), event -> {});
+        assertFalse(publisher.hasListeners(unused));
+
+        AtomicInteger built = new AtomicInteger();
+        long published = publisher.getPublishedCount();
+        publisher.publishEvent(unused, () -> "built " + built.incrementAndGet(), "test", null);
+        assertEquals(published, publisher.getPublishedCount());
+        assertEquals(0, built.get());
+    }
+
+    @Test
+    @DisplayName("A slow listener should not delay other listeners")
+    void testSlowListenerIsolation() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch fastReceived = new CountDownLatch(10);
+        add(event -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        add(event -> fastReceived.countDown());
+
+        for (int i = 0; i < 10; i++) {
+            publisher.publishEvent(TTLEventType.GLOBAL_TTL_EXTENDED, "extended", "test", i);
+        }
+        assertTrue(fastReceived.await(5, TimeUnit.SECONDS));
+        release.countDown();
+        assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Listeners exceeding the latency budget should be quarantined until released")
+    void testQuarantine() throws InterruptedException {
+        publisher.setListenerLatencyBudget(20, TimeUnit.MILLISECONDS);
+        AtomicInteger received = new AtomicInteger();
+        TTLEventListener slow = add(event -> {
+            received.incrementAndGet();
+            if ("slow".equals(event.getReason())) {
+                sleep(50);
+            }
+        });
+
+        publisher.publishEvent(TTLEventType.GLOBAL_TTL_EXTENDED, "extended", "slow", null);
+        assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+        TTLListenerStatus status = statusOf(slow);
+        assertTrue(status.isQuarantined());
+        assertTrue(status.getMaxLatencyMicros() >= 20_000);
+
+        publisher.publishEvent(TTLEventType.GLOBAL_TTL_EXTENDED, "extended", "fast", null);
+        assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+        assertEquals(1, received.get());
+        assertEquals(1, statusOf(slow).getDroppedCount());
+
+        assertTrue(publisher.releaseListener(slow));
+        publisher.publishEvent(TTLEventType.GLOBAL_TTL_EXTENDED, "extended", "fast", null);
+        assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+        assertEquals(2, received.get());
+        assertFalse(statusOf(slow).isQuarantined());
+    }
+
+    @Test
+    @DisplayName("A listener stuck in a call should be quarantined when the next event arrives")
+    void testStuckListenerQuarantine() throws InterruptedException {
+        publisher.setListenerLatencyBudget(20, TimeUnit.MILLISECONDS);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TTLEventListener stuck = add(event -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        publisher.publishEvent(TTLEventType.GLOBAL_TTL_EXTENDED, "extended", "test", null);
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        sleep(50);
+        publisher.publishEvent(TTLEventType.GLOBAL_TTL_EXTENDED, "extended", "test", null);
+        assertTrue(publisher.flush(5, TimeUnit.SECONDS), "Quarantined listeners should not hold up flush");
+        assertTrue(statusOf(stuck).isQuarantined());
+        assertTrue(publisher.getStatus().getListenerStatuses().stream().anyMatch(TTLListenerStatus::isQuarantined));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Listener failures should be counted per listener")
+    void testListenerFailures() throws InterruptedException {
+        TTLEventListener failing = add(event -> {
+            throw new IllegalStateException("broken");
+        });
+
+        publisher.publishEvent(TTLEventType.GLOBAL_TTL_EXTENDED, "extended", "test", null);
+        publisher.publishEvent(TTLEventType.GLOBAL_TTL_EXTENDED, "extended", "test", null);
+        assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+
+        TTLListenerStatus status = statusOf(failing);
+        assertEquals(2, status.getFailedCount());
+        assertEquals(0, status.getDeliveredCount());
+        assertEquals(0, status.getQueueDepth());
+        assertTrue(status.getLastError().contains("broken"));
+    }
+
+    @Test
+    @DisplayName("Listeners throwing an error should be quarantined until released")
+    void testListenerErrors() throws InterruptedException {
+        AtomicInteger received = new AtomicInteger();
+        TTLEventListener broken = add(event -> {
+            if (received.incrementAndGet() == 1) {
+                throw new AssertionError("broken");
+            }
+        });
+
+        publisher.publishEvent(TTLEventType.GLOBAL_TTL_EXTENDED, "extended", "test", null);
+        assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+        TTLListenerStatus status = statusOf(broken);
+        assertTrue(status.isQuarantined());
+        assertEquals(1, status.getFailedCount());
+        assertTrue(status.getLastError().contains(AssertionError.class.getName()), status.getLastError());
+
+        assertTrue(publisher.releaseListener(broken));
+        publisher.publishEvent(TTLEventType.GLOBAL_TTL_EXTENDED, "extended", "test", null);
+        assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+        assertEquals(2, received.get(), "The consumer thread should survive the error");
+        assertFalse(statusOf(broken).isQuarantined());
+    }
+
+    private TTLListenerStatus statusOf(TTLEventListener listener) {
+        return publisher.getListenerStatuses().stream()
+            .filter(status -> status.getListener().equals(String.valueOf(listener)))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private TTLEventListener add(TTLEventListener listener) {
+        added.add(listener);
+        publisher.addListener(listener);
+        return listener;
+    }
+
+    private void add(EnumSet<TTLEventType> types, TTLEventListener listener) {
+        added.add(listener);
+        publisher.addListener(types, listener);
+    }
+}
@@ -0,0 +1,138 @@
+package com.logger.ttl.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Tests for the Flow.Publisher view of TTLEventPublisher
+ */
+@DisplayName("TTL event Flow.Publisher")
+class TTLFlowSubscriptionTest {
+
+    private final TTLEventPublisher publisher = TTLEventPublisher.getInstance();
+    private final List<RecordingSubscriber> subscribers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        subscribers.forEach(subscriber -> subscriber.subscription.cancel());
+    }
+
+    @Test
+    @DisplayName("Subscribers should receive no more events than requested")
+    void testDemand() throws InterruptedException {
+        RecordingSubscriber subscriber = subscribe(EnumSet.of(TTLEventType.CUSTOM_EVENT), 16);
+        publish(TTLEventType.CUSTOM_EVENT, 5);
+
+        subscriber.subscription.request(2);
+        await(() -> subscriber.events.size() == 2);
+        Thread.sleep(50);
+        assertEquals(2, subscriber.events.size());
+
+        subscriber.subscription.request(3);
+        await(() -> subscriber.events.size() == 5);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, subscriber.events.get(i).getData());
+        }
+    }
+
+    @Test
+    @DisplayName("Superseded events should be coalesced while the subscriber is behind")
+    void testCoalescing() throws InterruptedException {
+        RecordingSubscriber subscriber = subscribe(
+            EnumSet.of(TTLEventType.GLOBAL_TTL_EXTENDED, TTLEventType.CUSTOM_EVENT), 16);
+        publish(TTLEventType.GLOBAL_TTL_EXTENDED, 10);
+        publish(TTLEventType.CUSTOM_EVENT, 3);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        await(() -> subscriber.events.size() == 4);
+        assertEquals(TTLEventType.GLOBAL_TTL_EXTENDED, subscriber.events.get(0).getEventType());
+        assertEquals(9, subscriber.events.get(0).getData());
+        assertEquals(TTLEventType.CUSTOM_EVENT, subscriber.events.get(3).getEventType());
+    }
+
+    @Test
+    @DisplayName("A full buffer should drop the oldest events")
+    void testBufferBound() throws InterruptedException {
+        RecordingSubscriber subscriber = subscribe(EnumSet.of(TTLEventType.CUSTOM_EVENT), 4);
+        publish(TTLEventType.CUSTOM_EVENT, 10);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        await(() -> subscriber.events.size() == 4);
+        assertEquals(6, subscriber.events.get(0).getData());
+        assertEquals(9, subscriber.events.get(3).getData());
+    }
+
+    @Test
+    @DisplayName("Invalid demand should signal an error and cancelling should unsubscribe")
+    void testErrorAndCancel() throws InterruptedException {
+        int listeners = publisher.getListenerCount();
+        RecordingSubscriber failing = subscribe(EnumSet.of(TTLEventType.CUSTOM_EVENT), 4);
+        RecordingSubscriber cancelled = subscribe(EnumSet.of(TTLEventType.CUSTOM_EVENT), 4);
+        assertEquals(listeners + 2, publisher.getListenerCount());
+
+        failing.subscription.request(0);
+        await(() -> failing.error != null);
+        assertTrue(failing.error instanceof IllegalArgumentException);
+
+        cancelled.subscription.cancel();
+        assertEquals(listeners, publisher.getListenerCount());
+    }
+
+    private RecordingSubscriber subscribe(EnumSet<TTLEventType> types, int bufferSize) {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.asFlowPublisher(types, bufferSize, ForkJoinPool.commonPool()).subscribe(subscriber);
+        subscribers.add(subscriber);
+        return subscriber;
+    }
+
+    private void publish(TTLEventType type, int count) throws InterruptedException {
+        for (int i = 0; i < count; i++) {
+            publisher.publishEvent(type, "event " + i, "test", i);
+        }
+        assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out");
+            Thread.sleep(5);
+        }
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<TTLEvent> {
+        final List<TTLEvent> events = Collections.synchronizedList(new ArrayList<>());
+        volatile Flow.Subscription subscription;
+        volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(TTLEvent item) {
+            events.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.logger.ttl.integration;
 
+import com.logger.ttl.TTLClock;
 import com.logger.ttl.TTLManager;
 import com.logger.ttl.TTLOverride;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.Duration;
+
 @DisplayName("TTLIntegrationManager Non-Spring Integration")
 class TTLIntegrationManagerTest {
     
@@ -22,6 +26,12 @@ class TTLIntegrationManagerTest {
         ttlManager.clearAllOverrides();
     }
     
+    @AfterEach
+    void tearDown() {
+        integrationManager.clearAllOverrides("Test cleanup");
+        ttlManager.setClock(null);
+    }
+    
     @Test
     @DisplayName("Should be singleton instance")
     void testSingletonInstance() {
@@ -171,6 +181,64 @@ class TTLIntegrationManagerTest {
             "Scheduled override should be automatically removed");
     }
     
+    @Test
+    @DisplayName("Should schedule method, field and global overrides")
+    void testScheduledOverrideScopes() {
+        TTLClock.Manual clock = TTLClock.manual(1_700_000_000_000L);
+        ttlManager.setClock(clock);
+        Class<?> testClass = TTLIntegrationManagerTest.class;
+        TTLOverride method = TTLOverride.bypass();
+        TTLOverride field = TTLOverride.extend(3);
+        
+        integrationManager.scheduleMethodOverride("method", testClass, "process", method, 1000, "Test");
+        integrationManager.scheduleFieldOverride("field", testClass, "secret", field, 2000, "Test");
+        integrationManager.scheduleGlobalOverride("global", TTLOverride.extend(7), 3000, "Test");
+        assertSame(method, ttlManager.getMethodTTLOverride(testClass, "process"));
+        assertSame(field, ttlManager.getFieldTTLOverride(testClass, "secret"));
+        assertEquals(7, ttlManager.getGlobalTTLExtension());
+        assertThrows(IllegalArgumentException.class, () -> integrationManager.scheduleGlobalOverride(
+            "replace", TTLOverride.replace("2030-01-01", 1), 1000, "Test"));
+        
+        clock.advance(Duration.ofMillis(1500));
+        assertEquals(1, integrationManager.runDueScheduledOverrides());
+        assertNull(ttlManager.getMethodTTLOverride(testClass, "process"));
+        assertSame(field, ttlManager.getFieldTTLOverride(testClass, "secret"));
+        
+        clock.advance(Duration.ofMillis(1500));
+        assertEquals(2, integrationManager.runDueScheduledOverrides());
+        assertNull(ttlManager.getFieldTTLOverride(testClass, "secret"));
+        assertEquals(0, ttlManager.getGlobalTTLExtension());
+        assertEquals(0, integrationManager.getScheduledOverrideCount());
+    }
+    
+    @Test
+    @DisplayName("Rescheduling an override ID should replace the earlier removal")
+    void testRescheduledOverrideId() {
+        TTLClock.Manual clock = TTLClock.manual(1_700_000_000_000L);
+        ttlManager.setClock(clock);
+        Class<?> testClass = TTLIntegrationManagerTest.class;
+        
+        integrationManager.scheduleOverride("incident", testClass, TTLOverride.bypass(), 1000, "Test");
+        TTLOverride extended = TTLOverride.extend(1);
+        integrationManager.scheduleOverride("incident", testClass, extended, 5000, "Test");
+        clock.advance(Duration.ofMillis(2000));
+        integrationManager.runDueScheduledOverrides();
+        assertSame(extended, ttlManager.getClassTTLOverride(testClass), "Earlier removal should be cancelled");
+        
+        // Moving the ID to another target removes the override of the earlier target
+        integrationManager.scheduleMethodOverride("incident", testClass, "process", extended, 1000, "Test");
+        assertNull(ttlManager.getClassTTLOverride(testClass));
+        assertSame(extended, ttlManager.getMethodTTLOverride(testClass, "process"));
+        
+        // An override replaced under another ID is left in place
+        TTLOverride other = TTLOverride.bypass();
+        integrationManager.scheduleMethodOverride("other", testClass, "process", other, 10_000, "Test");
+        clock.advance(Duration.ofMillis(1000));
+        assertEquals(1, integrationManager.runDueScheduledOverrides());
+        assertSame(other, ttlManager.getMethodTTLOverride(testClass, "process"));
+        assertEquals(1, integrationManager.getScheduledOverrideCount());
+    }
+    
     @Test
     @DisplayName("Should get integration status")
     void testGetStatus() {
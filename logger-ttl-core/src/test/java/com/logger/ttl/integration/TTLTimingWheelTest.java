@@ -0,0 +1,99 @@
+package com.logger.ttl.integration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tests for the hierarchical timing wheel of scheduled overrides
+ */
+@DisplayName("TTLTimingWheel")
+class TTLTimingWheelTest {
+
+    private static final long TICK = 10;
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_123L);
+    private final TTLTimingWheel wheel = new TTLTimingWheel(TICK, now::get);
+
+    @Test
+    @DisplayName("Timeouts should run unless cancelled and never early")
+    void testRandomTimeouts() {
+        Random random = new Random(42);
+        int count = 20_000;
+        long[] dueAt = new long[count];
+        long[] ranAt = new long[count];
+        TTLTimingWheel.Timeout[] timeouts = new TTLTimingWheel.Timeout[count];
+        for (int i = 0; i < count; i++) {
+            // Spread over several levels, from milliseconds to weeks
+            long delay = (long) Math.pow(10, random.nextDouble() * 9);
+            int index = i;
+            dueAt[i] = now.get() + delay;
+            timeouts[i] = wheel.schedule(delay, () -> ranAt[index] = now.get());
+        }
+        boolean[] cancelled = new boolean[count];
+        for (int i = 0; i < count; i += 3) {
+            assertTrue(wheel.cancel(timeouts[i]));
+            cancelled[i] = true;
+        }
+        assertEquals(count - (count + 2) / 3, wheel.size());
+
+        long end = now.get() + 1_000_000_000L;
+        while (now.get() < end) {
+            // Mostly short steps with some long jumps
+            now.addAndGet(random.nextInt(10) == 0 ? random.nextInt(50_000_000) : random.nextInt(50) + 1);
+            wheel.advance().forEach(Runnable::run);
+        }
+
+        assertEquals(0, wheel.size());
+        for (int i = 0; i < count; i++) {
+            if (cancelled[i]) {
+                assertEquals(0, ranAt[i], "Cancelled timeout ran");
+            } else {
+                assertTrue(ranAt[i] >= dueAt[i], "Timeout ran early");
+            }
+            assertFalse(wheel.cancel(timeouts[i]));
+        }
+    }
+
+    @Test
+    @DisplayName("Due timeouts should run in expiry order")
+    void testExpiryOrder() {
+        List<Integer> order = new ArrayList<>();
+        for (int i = 5; i > 0; i--) {
+            int value = i;
+            wheel.schedule(i * 1000L, () -> order.add(value));
+        }
+        now.addAndGet(10_000);
+        wheel.advance().forEach(Runnable::run);
+        assertEquals(List.of(1, 2, 3, 4, 5), order);
+    }
+
+    @Test
+    @DisplayName("A clock going backwards should not run timeouts early")
+    void testClockGoingBackwards() {
+        AtomicInteger ran = new AtomicInteger();
+        long start = now.get();
+        wheel.schedule(1000, ran::incrementAndGet);
+
+        now.set(start - 3_600_000);
+        assertTrue(wheel.advance().isEmpty());
+        wheel.schedule(500, ran::incrementAndGet);
+
+        now.set(start - 3_600_000 + 500 + TICK);
+        wheel.advance().forEach(Runnable::run);
+        assertEquals(1, ran.get());
+
+        now.set(start + 999);
+        wheel.advance().forEach(Runnable::run);
+        assertEquals(1, ran.get());
+        now.set(start + 1000 + TICK);
+        wheel.advance().forEach(Runnable::run);
+        assertEquals(2, ran.get());
+    }
+}
@@ -0,0 +1,96 @@
+package com.logger.ttl.jfr;
+
+import com.logger.samples.LocatedService;
+import com.logger.ttl.TTLLogger;
+import com.logger.ttl.TTLManager;
+import com.logger.ttl.TTLOverride;
+import com.logger.ttl.integration.TTLEventListener;
+import com.logger.ttl.integration.TTLEventPublisher;
+import com.logger.ttl.integration.TTLEventType;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the TTL flight recorder events and their offline summary
+ */
+@DisplayName("TTL flight recorder events")
+class TTLRecordingSummaryTest {
+
+    private final TTLManager manager = TTLManager.getInstance();
+
+    @AfterEach
+    void tearDown() {
+        manager.clearAllOverrides();
+    }
+
+    @Test
+    @DisplayName("Events should only be created while a recording is running")
+    void testRecordingState() {
+        assertFalse(TTLFlightRecorder.isRecording());
+        try (Recording recording = new Recording()) {
+            recording.start();
+            assertTrue(TTLFlightRecorder.isRecording());
+            recording.stop();
+        }
+        assertFalse(TTLFlightRecorder.isRecording());
+    }
+
+    @Test
+    @DisplayName("Summary should report decisions, rules changes and deliveries")
+    void testSummary(@TempDir Path dir) throws Exception {
+        TTLEventPublisher publisher = TTLEventPublisher.getInstance();
+        TTLEventListener listener = event -> { };
+        Path file = dir.resolve("ttl.jfr");
+        LocatedService service = new LocatedService(TTLLogger.getLogger(LocatedService.class));
+
+        try (Recording recording = new Recording()) {
+            recording.enable(TTLDecisionEvent.NAME);
+            recording.enable(TTLRulesChangeEvent.NAME);
+            recording.enable(TTLEventDeliveryEvent.NAME);
+            recording.start();
+
+            publisher.addListener(EnumSet.of(TTLEventType.CUSTOM_EVENT), listener);
+            for (int i = 0; i < 3; i++) {
+                service.expiredDebug();
+            }
+            manager.overrideClassTTL(LocatedService.class, TTLOverride.bypass());
+            service.expiredDebug();
+            publisher.publishEvent(TTLEventType.CUSTOM_EVENT, "recorded", "test", null);
+            assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+
+            recording.stop();
+            recording.dump(file);
+        } finally {
+            publisher.removeListener(listener);
+        }
+
+        TTLRecordingSummary summary = TTLRecordingSummary.read(file);
+        TTLRecordingSummary.CallSite debug = summary.getCallSites().get(0);
+        assertEquals(LocatedService.class.getName(), debug.getClassName());
+        assertEquals("expiredDebug", debug.getMethodName());
+        assertEquals("DEBUG", debug.getLevel());
+        assertEquals(4, debug.getDecisions());
+        assertEquals(3, debug.getSuppressed());
+        assertTrue(debug.getTotalNanos() > 0);
+
+        assertTrue(summary.getRulesChanges().stream()
+            .anyMatch(change -> change.getChange().equals("overrideClassTTL") && change.getCount() == 1));
+        assertTrue(summary.getDeliveries().stream()
+            .anyMatch(delivery -> delivery.getListener().equals(listener.getClass().getName())
+                && delivery.getEvents() == 1));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        summary.print(new PrintStream(out, true), 10);
+        assertTrue(out.toString().contains(LocatedService.class.getName() + "#expiredDebug"));
+    }
+}
@@ -0,0 +1,150 @@
+package com.logger.ttl.jul;
+
+import com.logger.samples.JulService;
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.TTLManager;
+import com.logger.ttl.TTLOverride;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Tests for TTLJulFilter
+ */
+@DisplayName("TTLJulFilter")
+class TTLJulFilterTest {
+
+    private final TTLManager manager = TTLManager.getInstance();
+    private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+    private final Handler handler = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+            if (isLoggable(record)) {
+                records.add(record);
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    // Strong references, JUL only keeps loggers weakly
+    private Logger serviceLogger;
+    private Logger componentLogger;
+
+    @BeforeEach
+    void setUp() {
+        manager.clearAllOverrides();
+        handler.setLevel(Level.ALL);
+        serviceLogger = logger(JulService.class.getName());
+        componentLogger = logger("embedded.component");
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.clearAllOverrides();
+        serviceLogger.setFilter(null);
+        serviceLogger.removeHandler(handler);
+        componentLogger.removeHandler(handler);
+    }
+
+    private Logger logger(String name) {
+        Logger logger = Logger.getLogger(name);
+        logger.setUseParentHandlers(false);
+        logger.setLevel(Level.ALL);
+        logger.addHandler(handler);
+        return logger;
+    }
+
+    @Test
+    @DisplayName("Expired records should be filtered by class and method annotations")
+    void testLoggerFilter() {
+        TTLJulFilter.install(serviceLogger);
+        JulService service = new JulService(serviceLogger);
+
+        service.expiredDebug();
+        service.liveDebug();
+        service.info();
+
+        assertEquals(2, records.size());
+        assertEquals("liveDebug", records.get(0).getSourceMethodName());
+        assertEquals("info statement", records.get(1).getMessage());
+    }
+
+    @Test
+    @DisplayName("Records of loggers not named after a class should be filtered by their source")
+    void testHandlerFilter() {
+        handler.setFilter(new TTLJulFilter());
+
+        componentLogger.logp(Level.FINE, JulService.class.getName(), "expiredDebug", "expired statement");
+        componentLogger.logp(Level.FINE, JulService.class.getName(), "liveDebug", "live statement");
+        componentLogger.fine("unmanaged statement");
+
+        assertEquals(2, records.size());
+        assertEquals("live statement", records.get(0).getMessage());
+        assertEquals("unmanaged statement", records.get(1).getMessage());
+    }
+
+    @Test
+    @DisplayName("Records of a shared logger should be decided by their own source")
+    void testSharedLoggerSources() {
+        TTLJulFilter filter = new TTLJulFilter();
+
+        assertTrue(filter.isLoggable(record("global.component", TTLJulFilterTest.class.getName(), "test")));
+        assertFalse(filter.isLoggable(record("global.component", JulService.class.getName(), "expiredDebug")));
+        assertTrue(filter.isLoggable(record("global.component", JulService.class.getName(), "liveDebug")));
+        assertTrue(filter.isLoggable(record("global.component", TTLJulFilterTest.class.getName(), "test")));
+
+        // The logger name and both source classes
+        assertEquals(3, filter.getCachedNameCount());
+    }
+
+    @Test
+    @DisplayName("Runtime overrides should apply immediately")
+    void testOverrides() {
+        TTLJulFilter.install(serviceLogger);
+        JulService service = new JulService(serviceLogger);
+
+        manager.overrideMethodTTL(JulService.class, "expiredDebug", TTLOverride.bypass());
+        service.expiredDebug();
+        manager.clearAllOverrides();
+        service.expiredDebug();
+
+        assertEquals(1, records.size());
+    }
+
+    @Test
+    @DisplayName("JUL levels should map to the nearest TTL level")
+    void testLevels() {
+        assertEquals(LogLevel.TRACE, TTLJulFilter.toLogLevel(Level.FINEST));
+        assertEquals(LogLevel.TRACE, TTLJulFilter.toLogLevel(Level.FINER));
+        assertEquals(LogLevel.DEBUG, TTLJulFilter.toLogLevel(Level.FINE));
+        assertEquals(LogLevel.DEBUG, TTLJulFilter.toLogLevel(Level.CONFIG));
+        assertEquals(LogLevel.INFO, TTLJulFilter.toLogLevel(Level.INFO));
+        assertEquals(LogLevel.WARN, TTLJulFilter.toLogLevel(Level.WARNING));
+        assertEquals(LogLevel.ERROR, TTLJulFilter.toLogLevel(Level.SEVERE));
+        assertNull(TTLJulFilter.toLogLevel(Level.OFF));
+    }
+
+    private static LogRecord record(String loggerName, String sourceClass, String sourceMethod) {
+        LogRecord record = new LogRecord(Level.FINE, "statement");
+        record.setLoggerName(loggerName);
+        record.setSourceClassName(sourceClass);
+        record.setSourceMethodName(sourceMethod);
+        return record;
+    }
+}
@@ -0,0 +1,127 @@
+package com.logger.ttl.log4j2;
+
+import com.logger.samples.FilteredService;
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.TTLManager;
+import com.logger.ttl.TTLOverride;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tests for the TTLFilter Log4j2 plugin
+ */
+@DisplayName("TTLFilter")
+class TTLFilterTest {
+
+    private final TTLManager manager = TTLManager.getInstance();
+    private LoggerContext context;
+    private Capture capture;
+    private FilteredService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        manager.clearAllOverrides();
+        context = new LoggerContext("ttl-filter-test", null,
+            getClass().getResource("/log4j2-ttl-filter.xml").toURI());
+        context.start();
+        capture = new Capture();
+        capture.start();
+        Configuration config = context.getConfiguration();
+        config.addAppender(capture);
+        config.getRootLogger().addAppender(capture, null, null);
+        context.updateLoggers();
+        service = new FilteredService(context.getLogger(FilteredService.class.getName()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.clearAllOverrides();
+        context.stop();
+    }
+
+    @Test
+    @DisplayName("Plugin should be created from the configuration")
+    void testPlugin() {
+        Filter filter = context.getConfiguration().getFilter();
+        assertTrue(filter instanceof TTLFilter, "Configured filter: " + filter);
+        assertEquals(Filter.Result.NEUTRAL, filter.getOnMatch());
+        assertEquals(Filter.Result.DENY, filter.getOnMismatch());
+    }
+
+    @Test
+    @DisplayName("Expired statements should be denied by class and method annotations")
+    void testAnnotations() {
+        service.expiredDebug();
+        service.liveDebug();
+        service.info();
+        context.getLogger("not.a.Class").debug("unmanaged statement");
+
+        assertEquals(3, capture.events.size());
+        assertEquals("live statement", capture.events.get(0).getMessage().getFormattedMessage());
+        assertEquals("info statement", capture.events.get(1).getMessage().getFormattedMessage());
+        assertEquals("unmanaged statement", capture.events.get(2).getMessage().getFormattedMessage());
+    }
+
+    @Test
+    @DisplayName("Statements below the logger level should be left to Log4j2 without a TTL lookup")
+    void testDisabledLevel() {
+        TTLFilter filter = (TTLFilter) context.getConfiguration().getFilter();
+        org.apache.logging.log4j.core.Logger logger = context.getLogger(FilteredService.class.getName());
+        logger.setLevel(Level.INFO);
+
+        assertEquals(Filter.Result.NEUTRAL, filter.filter(logger, Level.DEBUG, null, "statement", (Object) null));
+        assertFalse(logger.isDebugEnabled());
+        assertEquals(0, filter.getCachedLoggerCount());
+        assertEquals(Filter.Result.NEUTRAL, filter.filter(logger, Level.INFO, null, "statement", (Object) null));
+        assertEquals(1, filter.getCachedLoggerCount());
+    }
+
+    @Test
+    @DisplayName("Runtime overrides should apply immediately")
+    void testOverrides() {
+        manager.overrideClassTTL(FilteredService.class, TTLOverride.bypass());
+        service.expiredDebug();
+        manager.removeClassTTLOverride(FilteredService.class);
+
+        manager.overrideMethodTTL(FilteredService.class, "expiredDebug", TTLOverride.bypass());
+        service.expiredDebug();
+        manager.clearAllOverrides();
+        service.expiredDebug();
+
+        assertEquals(2, capture.events.size());
+    }
+
+    @Test
+    @DisplayName("Log4j2 levels should map to the nearest TTL level")
+    void testLevels() {
+        assertEquals(LogLevel.ERROR, TTLFilter.toLogLevel(Level.FATAL));
+        assertEquals(LogLevel.DEBUG, TTLFilter.toLogLevel(Level.forName("VERBOSE", 550)));
+        assertNull(TTLFilter.toLogLevel(Level.OFF));
+    }
+
+    private static class Capture extends AbstractAppender {
+        final List<LogEvent> events = new CopyOnWriteArrayList<>();
+
+        Capture() {
+            super("Capture", null, null, true, Property.EMPTY_ARRAY);
+        }
+
+        @Override
+        public void append(LogEvent event) {
+            events.add(event.toImmutable());
+        }
+    }
+}
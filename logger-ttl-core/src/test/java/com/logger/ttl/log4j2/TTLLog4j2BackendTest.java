@@ -0,0 +1,92 @@
+package com.logger.ttl.log4j2;
+
+import com.logger.samples.LocatedService;
+import com.logger.ttl.TTLLogger;
+import com.logger.ttl.TTLLoggerFactory;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tests for the Log4j2 backend of TTLLogger
+ */
+@DisplayName("TTLLog4j2Backend")
+class TTLLog4j2BackendTest {
+
+    private LoggerContext context;
+    private Capture capture;
+    private LocatedService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        context = new LoggerContext("ttl-backend-test", null,
+            getClass().getResource("/log4j2-ttl-backend.xml").toURI());
+        context.start();
+        capture = new Capture();
+        capture.start();
+        Configuration config = context.getConfiguration();
+        config.addAppender(capture);
+        config.getRootLogger().addAppender(capture, null, null);
+        context.updateLoggers();
+
+        TTLLog4j2Backend backend = new TTLLog4j2Backend(context.getLogger(LocatedService.class.getName()));
+        service = new LocatedService(TTLLoggerFactory.getLogger(LocatedService.class, backend));
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.stop();
+    }
+
+    @Test
+    @DisplayName("Should be selected when Log4j2 implements SLF4J")
+    void testSelected() {
+        assertTrue(TTLLogger.getLogger(LocatedService.class).getBackend() instanceof TTLLog4j2Backend);
+    }
+
+    @Test
+    @DisplayName("Should pass the location resolved by TTL to Log4j2")
+    void testLocation() {
+        service.liveDebug();
+        service.expiredDebug();
+
+        assertEquals(1, capture.events.size());
+        LogEvent event = capture.events.get(0);
+        assertEquals("live statement", event.getMessage().getFormattedMessage());
+        assertEquals(LocatedService.class.getName(), event.getSource().getClassName());
+        assertEquals("liveDebug", event.getSource().getMethodName());
+        assertTrue(event.getSource().getLineNumber() > 0);
+    }
+
+    @Test
+    @DisplayName("Log4j2 should locate statements that TTL did not resolve")
+    void testUnresolvedLocation() {
+        service.explicitInfo();
+
+        assertEquals(1, capture.events.size());
+        assertEquals("explicitInfo", capture.events.get(0).getSource().getMethodName());
+    }
+
+    private static class Capture extends AbstractAppender {
+        final List<LogEvent> events = new CopyOnWriteArrayList<>();
+
+        Capture() {
+            super("Capture", null, null, true, Property.EMPTY_ARRAY);
+        }
+
+        @Override
+        public void append(LogEvent event) {
+            events.add(event.toImmutable());
+        }
+    }
+}
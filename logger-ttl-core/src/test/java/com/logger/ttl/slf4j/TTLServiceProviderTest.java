@@ -0,0 +1,113 @@
+package com.logger.ttl.slf4j;
+
+import com.logger.samples.Slf4jService;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.slf4j.SLF4JServiceProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.slf4j.Logger;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tests for TTLServiceProvider and its loggers
+ */
+@DisplayName("TTLServiceProvider")
+class TTLServiceProviderTest {
+
+    private static final String NAME = Slf4jService.class.getName();
+
+    private TTLServiceProvider provider;
+    private Capture capture;
+
+    @BeforeEach
+    void setUp() {
+        provider = new TTLServiceProvider(new SLF4JServiceProvider());
+        provider.initialize();
+
+        LoggerContext context = (LoggerContext) LogManager.getContext(false);
+        Configuration config = context.getConfiguration();
+        capture = new Capture();
+        capture.start();
+        LoggerConfig loggerConfig = LoggerConfig.newBuilder()
+            .withLoggerName(NAME)
+            .withLevel(Level.TRACE)
+            .withAdditivity(false)
+            .withIncludeLocation("true")
+            .withConfig(config)
+            .build();
+        loggerConfig.addAppender(capture, null, null);
+        config.addLogger(NAME, loggerConfig);
+        context.updateLoggers();
+    }
+
+    @AfterEach
+    void tearDown() {
+        LoggerContext context = (LoggerContext) LogManager.getContext(false);
+        context.getConfiguration().removeLogger(NAME);
+        context.updateLoggers();
+    }
+
+    @Test
+    @DisplayName("Should wrap only loggers named after annotated classes")
+    void testWrapping() {
+        Logger annotated = provider.getLoggerFactory().getLogger(NAME);
+        Logger plain = provider.getLoggerFactory().getLogger(TTLServiceProviderTest.class.getName());
+
+        assertTrue(annotated instanceof TTLSlf4jLogger);
+        assertFalse(plain instanceof TTLSlf4jLogger);
+        assertSame(annotated, provider.getLoggerFactory().getLogger(NAME));
+        assertSame(((TTLSlf4jLogger) annotated).getDelegate(), TTLSlf4jLogger.unwrap(annotated));
+        assertSame(plain, TTLSlf4jLogger.unwrap(plain));
+    }
+
+    @Test
+    @DisplayName("Should suppress expired statements of every kind")
+    void testExpired() {
+        Slf4jService service = new Slf4jService(provider.getLoggerFactory().getLogger(NAME));
+
+        service.expiredDebug();
+
+        assertTrue(capture.events.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should log live statements with the caller location")
+    void testLive() {
+        Slf4jService service = new Slf4jService(provider.getLoggerFactory().getLogger(NAME));
+
+        service.liveDebug();
+        service.info();
+
+        assertEquals(3, capture.events.size());
+        assertEquals("live statement", capture.events.get(0).getMessage().getFormattedMessage());
+        assertEquals("liveDebug", capture.events.get(0).getSource().getMethodName());
+        assertEquals("live fluent statement", capture.events.get(1).getMessage().getFormattedMessage());
+        assertEquals("liveDebug", capture.events.get(1).getSource().getMethodName());
+        assertEquals("info", capture.events.get(2).getSource().getMethodName());
+    }
+
+    private static class Capture extends AbstractAppender {
+        final List<LogEvent> events = new CopyOnWriteArrayList<>();
+
+        Capture() {
+            super("Capture", null, null, true, Property.EMPTY_ARRAY);
+        }
+
+        @Override
+        public void append(LogEvent event) {
+            events.add(event.toImmutable());
+        }
+    }
+}
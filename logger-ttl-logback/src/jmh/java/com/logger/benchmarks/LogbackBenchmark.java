@@ -0,0 +1,172 @@
+package com.logger.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.helpers.NOPAppender;
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.LogTTL;
+import com.logger.ttl.TTLLogger;
+import com.logger.ttl.TTLLoggerBackend;
+import com.logger.ttl.TTLLoggerFactory;
+import com.logger.ttl.logback.TTLTurboFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a class-level TTL statement on a plain Logback logger with {@link TTLTurboFilter}
+ * against the same statement on a {@link TTLLogger} writing to Logback, for an expired and a
+ * live TTL. Events go to a NOP appender.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogbackBenchmark {
+
+    @Param({"turboFilter", "ttlLogger"})
+    public String route;
+
+    private LoggerContext context;
+    private Target expired;
+    private Target live;
+
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+        if ("turboFilter".equals(route)) {
+            TTLTurboFilter filter = new TTLTurboFilter();
+            filter.setContext(context);
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+        NOPAppender<ILoggingEvent> appender = new NOPAppender<>();
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.TRACE);
+        root.addAppender(appender);
+
+        expired = target(new Expired());
+        live = target(new Live());
+    }
+
+    private Target target(Target target) {
+        Logger logger = context.getLogger(target.getClass());
+        target.logger = logger;
+        target.ttlLogger = "ttlLogger".equals(route)
+            ? TTLLoggerFactory.getLogger(target.getClass(), new LogbackBackend(logger)) : null;
+        return target;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void expiredDebug() {
+        expired.log();
+    }
+
+    @Benchmark
+    public void liveDebug() {
+        live.log();
+    }
+
+    abstract static class Target {
+        org.slf4j.Logger logger;
+        TTLLogger ttlLogger;
+
+        abstract void log();
+    }
+
+    @LogTTL(start = "2020-01-01T00:00:00Z", ttlDays = 1, levels = {LogLevel.DEBUG})
+    static final class Expired extends Target {
+        @Override
+        void log() {
+            if (ttlLogger != null) {
+                ttlLogger.debug("statement {}", "argument");
+            } else {
+                logger.debug("statement {}", "argument");
+            }
+        }
+    }
+
+    @LogTTL(start = "2020-01-01T00:00:00Z", ttlDays = 36500, levels = {LogLevel.DEBUG})
+    static final class Live extends Target {
+        @Override
+        void log() {
+            if (ttlLogger != null) {
+                ttlLogger.debug("statement {}", "argument");
+            } else {
+                logger.debug("statement {}", "argument");
+            }
+        }
+    }
+
+    /**
+     * TTLLogger backend writing to a Logback logger
+     */
+    static final class LogbackBackend implements TTLLoggerBackend {
+        private final Logger logger;
+
+        LogbackBackend(Logger logger) {
+            this.logger = logger;
+        }
+
+        private static int locationAwareLevel(LogLevel level) {
+            return Level.toLocationAwareLoggerInteger(Level.toLevel(level.name()));
+        }
+
+        @Override
+        public boolean isEnabled(LogLevel level) {
+            return logger.isEnabledFor(Level.toLevel(level.name()));
+        }
+
+        @Override
+        public boolean usesLocation() {
+            return false;
+        }
+
+        @Override
+        public void log(LogLevel level, StackTraceElement location, String msg) {
+            logger.log(null, TTLLogger.class.getName(), locationAwareLevel(level), msg, null, null);
+        }
+
+        @Override
+        public void log(LogLevel level, StackTraceElement location, String format, Object arg) {
+            log(level, location, format, new Object[] {arg});
+        }
+
+        @Override
+        public void log(LogLevel level, StackTraceElement location, String format, Object arg1, Object arg2) {
+            log(level, location, format, new Object[] {arg1, arg2});
+        }
+
+        @Override
+        public void log(LogLevel level, StackTraceElement location, String format, Object... arguments) {
+            logger.log(null, TTLLogger.class.getName(), locationAwareLevel(level), format, arguments, null);
+        }
+
+        @Override
+        public void log(LogLevel level, StackTraceElement location, String msg, Throwable t) {
+            logger.log(null, TTLLogger.class.getName(), locationAwareLevel(level), msg, null, t);
+        }
+    }
+}
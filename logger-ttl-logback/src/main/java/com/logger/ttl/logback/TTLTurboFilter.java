@@ -0,0 +1,178 @@
+package com.logger.ttl.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.LogTTL;
+import com.logger.ttl.TTLCallSite;
+import com.logger.ttl.TTLLoggerName;
+import com.logger.ttl.TTLManager;
+import com.logger.ttl.TTLRules;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Logback turbo filter applying {@link LogTTL} annotations and {@link TTLManager} rules to
+ * plain SLF4J loggers, before Logback builds a {@code LoggingEvent}:
+ * <pre>
+ * &lt;configuration&gt;
+ *     &lt;turboFilter class="com.logger.ttl.logback.TTLTurboFilter"/&gt;
+ *     ...
+ * &lt;/configuration&gt;
+ * </pre>
+ *
+ * <p>The calling class is the class the logger is named after, resolved once per logger name
+ * by {@link TTLLoggerName}. For loggers whose class has no method-level annotations or
+ * overrides, the {@link TTLCallSite call site} of every level is cached per logger, so a
+ * decision is a map lookup and a volatile read. The cache is cleared whenever
+ * {@link TTLManager} changes its rules, as method overrides decide whether the calling method
+ * is needed. Otherwise the stack is walked for the calling method on every statement.</p>
+ *
+ * <p>Statements below the logger's effective level are left to Logback. Statements within
+ * their TTL, or not subject to TTL, get {@code onMatch}, default {@code NEUTRAL}. Expired
+ * statements get {@code onMismatch}, default {@code DENY}.</p>
+ */
+public class TTLTurboFilter extends TurboFilter {
+
+    private static final LogLevel[] LEVELS = LogLevel.values();
+
+    private final ConcurrentMap<String, TTLLoggerName> names = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LoggerDecisions> decisions = new ConcurrentHashMap<>();
+    // Incremented before the cache is cleared, so decisions resolved under older rules are not kept
+    private final AtomicInteger generation = new AtomicInteger();
+    private final Consumer<TTLRules> rulesListener = rules -> {
+        generation.incrementAndGet();
+        decisions.clear();
+    };
+
+    private FilterReply onMatch = FilterReply.NEUTRAL;
+    private FilterReply onMismatch = FilterReply.DENY;
+
+    @Override
+    public void start() {
+        TTLManager.getInstance().addRulesListener(rulesListener);
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        TTLManager.getInstance().removeRulesListener(rulesListener);
+        decisions.clear();
+        super.stop();
+    }
+
+    public void setOnMatch(String reply) {
+        this.onMatch = FilterReply.valueOf(reply.trim().toUpperCase());
+    }
+
+    public void setOnMismatch(String reply) {
+        this.onMismatch = FilterReply.valueOf(reply.trim().toUpperCase());
+    }
+
+    public FilterReply getOnMatch() {
+        return onMatch;
+    }
+
+    public FilterReply getOnMismatch() {
+        return onMismatch;
+    }
+
+    /**
+     * Get the number of loggers with cached decisions
+     */
+    public int getCachedLoggerCount() {
+        return decisions.size();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        LogLevel logLevel = toLogLevel(level);
+        // Not logger.isEnabledFor, which would call the turbo filters again
+        if (logLevel == null || level.levelInt < logger.getEffectiveLevel().levelInt) {
+            return FilterReply.NEUTRAL;
+        }
+        String loggerName = logger.getName();
+        LoggerDecisions loggerDecisions = decisions.get(loggerName);
+        int current = generation.get();
+        if (loggerDecisions == null || loggerDecisions.generation != current) {
+            loggerDecisions = new LoggerDecisions(resolve(loggerName), current);
+            decisions.put(loggerName, loggerDecisions);
+        }
+        return loggerDecisions.shouldLog(logLevel) ? onMatch : onMismatch;
+    }
+
+    private TTLLoggerName resolve(String loggerName) {
+        TTLLoggerName name = names.get(loggerName);
+        if (name == null) {
+            name = names.computeIfAbsent(loggerName, TTLLoggerName::resolve);
+        }
+        return name;
+    }
+
+    /**
+     * Maps a Logback level to the TTL level of the same name
+     */
+    static LogLevel toLogLevel(Level level) {
+        if (level == null) {
+            return null;
+        }
+        switch (level.levelInt) {
+            case Level.TRACE_INT:
+                return LogLevel.TRACE;
+            case Level.DEBUG_INT:
+                return LogLevel.DEBUG;
+            case Level.INFO_INT:
+                return LogLevel.INFO;
+            case Level.WARN_INT:
+                return LogLevel.WARN;
+            case Level.ERROR_INT:
+                return LogLevel.ERROR;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TTLTurboFilter{onMatch=" + onMatch + ", onMismatch=" + onMismatch +
+               ", loggers=" + decisions.size() + '}';
+    }
+
+    /**
+     * Decisions of one logger, valid until the TTL rules change
+     */
+    private static final class LoggerDecisions {
+        private final TTLLoggerName name;
+        private final int generation;
+        private final boolean byMethod;
+        // Indexed by LogLevel ordinal, a null site always logs
+        private final TTLCallSite[] sites;
+
+        LoggerDecisions(TTLLoggerName name, int generation) {
+            this.name = name;
+            this.generation = generation;
+            this.byMethod = name.needsMethod();
+            this.sites = new TTLCallSite[LEVELS.length];
+            if (name.isManaged() && !byMethod) {
+                for (LogLevel level : LEVELS) {
+                    sites[level.ordinal()] = name.callSite("", level);
+                }
+            }
+        }
+
+        boolean shouldLog(LogLevel level) {
+            if (byMethod) {
+                return name.shouldLog(level);
+            }
+            TTLCallSite site = sites[level.ordinal()];
+            return site == null || site.check();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.logger.samples;
+
+import org.slf4j.Logger;
+
+/**
+ * Plain SLF4J call sites on Logback, filtered by TTLTurboFilter through the logger name
+ */
+public class LogbackService extends AnnotatedService {
+
+    private final Logger logger;
+
+    public LogbackService(Logger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public void expiredDebug() {
+        logger.debug("expired {}", "statement");
+    }
+
+    @Override
+    public void liveDebug() {
+        logger.debug("live {}", "statement");
+    }
+
+    @Override
+    public void info() {
+        logger.info("info statement");
+    }
+}
@@ -0,0 +1,96 @@
+package com.logger.ttl.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.logger.samples.LogbackService;
+import com.logger.ttl.LogLevel;
+import com.logger.ttl.TTLManager;
+import com.logger.ttl.TTLOverride;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for TTLTurboFilter
+ */
+@DisplayName("TTLTurboFilter")
+class TTLTurboFilterTest {
+
+    private final TTLManager manager = TTLManager.getInstance();
+    private LoggerContext context;
+    private TTLTurboFilter filter;
+    private ListAppender<ILoggingEvent> appender;
+    private LogbackService service;
+
+    @BeforeEach
+    void setUp() {
+        manager.clearAllOverrides();
+        context = new LoggerContext();
+        filter = new TTLTurboFilter();
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        appender = new ListAppender<>();
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.TRACE);
+        root.addAppender(appender);
+
+        service = new LogbackService(context.getLogger(LogbackService.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.clearAllOverrides();
+        context.stop();
+    }
+
+    @Test
+    @DisplayName("Expired statements should be denied by class and method annotations before an event is created")
+    void testAnnotations() {
+        service.expiredDebug();
+        service.liveDebug();
+        service.info();
+        context.getLogger("not.a.Class").debug("unmanaged statement");
+
+        assertEquals(3, appender.list.size());
+        assertEquals("live statement", appender.list.get(0).getFormattedMessage());
+        assertEquals("info statement", appender.list.get(1).getFormattedMessage());
+        assertEquals("unmanaged statement", appender.list.get(2).getFormattedMessage());
+        assertFalse(context.getLogger(LogbackService.class).isDebugEnabled());
+    }
+
+    @Test
+    @DisplayName("Cached decisions should follow TTLManager changes")
+    void testOverrides() {
+        service.expiredDebug();
+        assertEquals(1, filter.getCachedLoggerCount());
+
+        manager.overrideClassTTL(LogbackService.class, TTLOverride.bypass());
+        service.expiredDebug();
+        manager.removeClassTTLOverride(LogbackService.class);
+
+        // Switches the logger from cached class decisions to the calling method
+        manager.overrideMethodTTL(LogbackService.class, "expiredDebug", TTLOverride.bypass());
+        service.expiredDebug();
+        manager.clearAllOverrides();
+        service.expiredDebug();
+
+        assertEquals(2, appender.list.size());
+    }
+
+    @Test
+    @DisplayName("Logback levels should map to the TTL level of the same name")
+    void testLevels() {
+        assertEquals(LogLevel.TRACE, TTLTurboFilter.toLogLevel(Level.TRACE));
+        assertEquals(LogLevel.ERROR, TTLTurboFilter.toLogLevel(Level.ERROR));
+        assertNull(TTLTurboFilter.toLogLevel(Level.OFF));
+    }
+}
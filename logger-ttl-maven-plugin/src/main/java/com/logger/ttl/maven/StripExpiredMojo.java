@@ -0,0 +1,168 @@
+package com.logger.ttl.maven;
+
+import com.logger.ttl.TTLRules;
+import com.logger.ttl.agent.ExpiredCallRewriter;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Strips TTLLogger statements whose TTL ended before the build time from compiled classes.
+ *
+ * <p>Runs after {@code compile} and rewrites the classes in place with the same rules as
+ * logger-ttl-agent, without runtime overrides: a statement is removed when its {@code @LogTTL}
+ * has a start date and expired before the build time. Stripped statements cannot be re-enabled
+ * with {@code TTLManager} overrides. Every removal is listed in a report.</p>
+ *
+ * <pre>
+ * &lt;plugin&gt;
+ *     &lt;groupId&gt;io.github.krishnachaitanyap&lt;/groupId&gt;
+ *     &lt;artifactId&gt;logger-ttl-maven-plugin&lt;/artifactId&gt;
+ *     &lt;version&gt;1.0.0&lt;/version&gt;
+ *     &lt;executions&gt;
+ *         &lt;execution&gt;
+ *             &lt;goals&gt;&lt;goal&gt;strip&lt;/goal&gt;&lt;/goals&gt;
+ *         &lt;/execution&gt;
+ *     &lt;/executions&gt;
+ * &lt;/plugin&gt;
+ * </pre>
+ */
+@Mojo(name = "strip", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true)
+public class StripExpiredMojo extends AbstractMojo {
+
+    /**
+     * Directory with the compiled classes to rewrite
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+    File classesDirectory;
+
+    /**
+     * File listing the stripped statements per class
+     */
+    @Parameter(property = "ttl.reportFile", defaultValue = "${project.build.directory}/logger-ttl-stripped.txt")
+    File reportFile;
+
+    /**
+     * Time to check TTLs against, as an ISO-8601 instant. Defaults to
+     * {@code project.build.outputTimestamp} for reproducible builds, otherwise the current time.
+     */
+    @Parameter(property = "ttl.buildTime")
+    String buildTime;
+
+    @Parameter(defaultValue = "${project.build.outputTimestamp}", readonly = true)
+    String outputTimestamp;
+
+    /**
+     * Skip stripping
+     */
+    @Parameter(property = "ttl.strip.skip", defaultValue = "false")
+    boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (skip) {
+            getLog().info("Skipping expired log statement stripping");
+            return;
+        }
+        if (classesDirectory == null || !classesDirectory.isDirectory()) {
+            getLog().info("No classes to strip");
+            return;
+        }
+
+        Instant time = resolveBuildTime();
+        ExpiredCallRewriter rewriter = new ExpiredCallRewriter(TTLRules.EMPTY, time.toEpochMilli());
+        List<ExpiredCallRewriter.Result> stripped = new ArrayList<>();
+        int removed = 0;
+        for (Path file : classFiles()) {
+            try {
+                ExpiredCallRewriter.Result result = rewriter.rewrite(Files.readAllBytes(file), null);
+                if (result.isChanged()) {
+                    Files.write(file, result.getBytes());
+                    stripped.add(result);
+                    removed += result.getRemovals().size();
+                }
+            } catch (IOException | RuntimeException e) {
+                throw new MojoExecutionException("Unable to strip expired log statements from " + file, e);
+            }
+        }
+
+        writeReport(time, stripped, removed);
+        getLog().info("Stripped " + removed + " expired log statement(s) from " + stripped.size()
+            + " class(es), report: " + reportFile);
+    }
+
+    /**
+     * Gets the time TTLs are checked against
+     */
+    Instant resolveBuildTime() throws MojoExecutionException {
+        if (buildTime != null && !buildTime.trim().isEmpty()) {
+            try {
+                return Instant.parse(buildTime.trim());
+            } catch (DateTimeParseException e) {
+                throw new MojoExecutionException("Invalid ttl.buildTime \"" + buildTime
+                    + "\", expected an ISO-8601 instant such as 2025-01-01T00:00:00Z", e);
+            }
+        }
+        if (outputTimestamp != null && outputTimestamp.length() > 1) {
+            // Same formats as the reproducible builds support of Maven
+            try {
+                if (outputTimestamp.chars().allMatch(Character::isDigit)) {
+                    return Instant.ofEpochSecond(Long.parseLong(outputTimestamp));
+                }
+                return OffsetDateTime.parse(outputTimestamp).toInstant();
+            } catch (DateTimeParseException | NumberFormatException e) {
+                getLog().warn("Ignoring unparseable project.build.outputTimestamp " + outputTimestamp);
+            }
+        }
+        return Instant.now();
+    }
+
+    private List<Path> classFiles() throws MojoExecutionException {
+        try (Stream<Path> files = Files.walk(classesDirectory.toPath())) {
+            return files.filter(file -> file.toString().endsWith(".class"))
+                        .sorted()
+                        .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Unable to list classes in " + classesDirectory, e);
+        }
+    }
+
+    private void writeReport(Instant time, List<ExpiredCallRewriter.Result> stripped, int removed)
+            throws MojoExecutionException {
+        try {
+            Files.createDirectories(reportFile.toPath().toAbsolutePath().getParent());
+            try (Writer writer = Files.newBufferedWriter(reportFile.toPath(), StandardCharsets.UTF_8)) {
+                writer.write("# Expired log statements stripped at build time " + time + "\n");
+                writer.write("# " + removed + " statement(s) in " + stripped.size() + " class(es)\n");
+                for (ExpiredCallRewriter.Result result : stripped) {
+                    writer.write("\n" + result.getInternalName().replace('/', '.')
+                        + " (" + result.getRemovals().size() + ")\n");
+                    for (ExpiredCallRewriter.Removal removal : result.getRemovals()) {
+                        writer.write("  " + removal.getMethodName()
+                            + (removal.getLine() >= 0 ? ":" + removal.getLine() : "")
+                            + " " + removal.getLevel()
+                            + " expired " + Instant.ofEpochMilli(removal.getConfig().getExpiryMillis()) + "\n");
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException("Unable to write report " + reportFile, e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.logger.ttl.maven;
+
+import com.logger.samples.ExpiredService;
+import com.logger.samples.NamedLoggerService;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * Tests for StripExpiredMojo
+ */
+@DisplayName("StripExpiredMojo")
+class StripExpiredMojoTest {
+
+    @Test
+    @DisplayName("Expired statements should be stripped and reported")
+    void testStripsAndReports(@TempDir Path dir) throws Exception {
+        Path classFile = copyClass(dir, ExpiredService.class);
+        long originalSize = Files.size(classFile);
+
+        StripExpiredMojo mojo = mojo(dir);
+        mojo.buildTime = "2025-01-01T00:00:00Z";
+        mojo.execute();
+
+        assertTrue(Files.size(classFile) < originalSize);
+        String report = new String(Files.readAllBytes(mojo.reportFile.toPath()), StandardCharsets.UTF_8);
+        assertTrue(report.contains("2 statement(s) in 1 class(es)"), report);
+        assertTrue(report.contains(ExpiredService.class.getName() + " (2)"), report);
+        assertTrue(report.contains("process:") && report.contains("DEBUG expired 2020-01-02"), report);
+    }
+
+    @Test
+    @DisplayName("Statements should be kept when the build time is within their TTL")
+    void testKeepsLiveStatements(@TempDir Path dir) throws Exception {
+        Path classFile = copyClass(dir, ExpiredService.class);
+        byte[] original = Files.readAllBytes(classFile);
+
+        StripExpiredMojo mojo = mojo(dir);
+        mojo.buildTime = "2020-01-01T12:00:00Z";
+        mojo.execute();
+
+        assertArrayEquals(original, Files.readAllBytes(classFile));
+    }
+
+    @Test
+    @DisplayName("Statements of loggers created by name should be kept")
+    void testKeepsNamedLoggerStatements(@TempDir Path dir) throws Exception {
+        copyClass(dir, NamedLoggerService.class);
+
+        StripExpiredMojo mojo = mojo(dir);
+        mojo.buildTime = "2025-01-01T00:00:00Z";
+        mojo.execute();
+
+        String report = new String(Files.readAllBytes(mojo.reportFile.toPath()), StandardCharsets.UTF_8);
+        assertTrue(report.contains(NamedLoggerService.class.getName() + " (2)"), report);
+    }
+
+    @Test
+    @DisplayName("Build time should default to the reproducible build timestamp")
+    void testBuildTime() throws MojoExecutionException {
+        StripExpiredMojo mojo = new StripExpiredMojo();
+        mojo.outputTimestamp = "2024-06-01T10:00:00+02:00";
+        assertEquals(Instant.parse("2024-06-01T08:00:00Z"), mojo.resolveBuildTime());
+
+        mojo.outputTimestamp = "1700000000";
+        assertEquals(Instant.ofEpochSecond(1700000000L), mojo.resolveBuildTime());
+
+        mojo.buildTime = "yesterday";
+        assertThrows(MojoExecutionException.class, mojo::resolveBuildTime);
+    }
+
+    private static StripExpiredMojo mojo(Path dir) {
+        StripExpiredMojo mojo = new StripExpiredMojo();
+        mojo.classesDirectory = dir.resolve("classes").toFile();
+        mojo.reportFile = dir.resolve("report.txt").toFile();
+        return mojo;
+    }
+
+    private static Path copyClass(Path dir, Class<?> type) throws Exception {
+        String fileName = type.getSimpleName() + ".class";
+        Path target = dir.resolve("classes/com/logger/samples/" + fileName);
+        Files.createDirectories(target.getParent());
+        try (InputStream in = type.getResourceAsStream(fileName)) {
+            Files.copy(in, target);
+        }
+        return target;
+    }
+}
@@ -8,15 +8,15 @@ set -e
 echo "🚀 Logger TTL Framework - Release Manager"
 echo "========================================"
 
-# Function to get current version from pom.xml
+# Function to get current version of the published core library
 get_current_version() {
-    mvn help:evaluate -Dexpression=project.version -q -DforceStdout
+    mvn -f logger-ttl-core/pom.xml help:evaluate -Dexpression=project.version -q -DforceStdout
 }
 
-# Function to update version in pom.xml
+# Function to update version of the published core library
 update_version() {
     local new_version=$1
-    mvn versions:set -DnewVersion="$new_version" -DgenerateBackupPoms=false
+    mvn -f logger-ttl-core/pom.xml versions:set -DnewVersion="$new_version" -DgenerateBackupPoms=false
 }
 
 # Function to validate version format
@@ -52,7 +52,7 @@ case $ACTION in
         
         # Deploy snapshot
         echo "📦 Deploying snapshot..."
-        mvn clean deploy
+        mvn clean deploy -pl logger-ttl-core
         
         echo "✅ Snapshot deployed successfully!"
         ;;
@@ -89,13 +89,13 @@ case $ACTION in
         
         # Git operations
         echo "📝 Committing version update..."
-        git add pom.xml
+        git add logger-ttl-core/pom.xml
         git commit -m "Release version $NEW_VERSION"
         git tag "v$NEW_VERSION"
         
         # Deploy release
         echo "🚀 Deploying release..."
-        mvn clean deploy -P release
+        mvn clean deploy -P release -pl logger-ttl-core
         
         # Prepare next development version
         IFS='.' read -ra VERSION_PARTS <<< "$NEW_VERSION"
@@ -104,7 +104,7 @@ case $ACTION in
         
         echo "🔄 Preparing next development version: $NEXT_DEV_VERSION"
         update_version "$NEXT_DEV_VERSION"
-        git add pom.xml
+        git add logger-ttl-core/pom.xml
         git commit -m "Prepare next development version $NEXT_DEV_VERSION"
         
         echo "✅ Release $NEW_VERSION completed successfully!"